@@ -380,6 +380,12 @@ public class DynamoConstants {
 	 */
 	public static final String SP_DEFAULT_NESTING_DEPTH = "ocs.default.entity.nesting.depth";
 
+	/**
+	 * Name of the system property that is used to determine how many entities to
+	 * prefetch on either side when navigating through search results
+	 */
+	public static final String SP_DEFAULT_NAVIGATION_PREFETCH_WINDOW = "ocs.default.navigation.prefetch.window";
+
 	/**
 	 * Name of the system property that is used to specify the default number field
 	 * mode
@@ -397,6 +403,13 @@ public class DynamoConstants {
 	 */
 	public static final String SP_DEFAULT_SEARCH_CASE_SENSITIVE = "ocs.default.search.case.sensitive";
 
+	/**
+	 * Name of the system property that is used to determine the delay (in
+	 * milliseconds) after which a search is carried out when the user changes a
+	 * search filter
+	 */
+	public static final String SP_DEFAULT_SEARCH_DELAY = "ocs.default.search.delay";
+
 	/**
 	 * Name of the system property that is used to determine the default grid
 	 * height in a search dialog
@@ -452,6 +465,43 @@ public class DynamoConstants {
 	 */
 	public static final String SP_EXPORT_CSV_SEPARATOR = "ocs.export.csv.separator";
 
+	/**
+	 * Name of the system property that determines the number of threads that are
+	 * used to format the rows of a CSV export
+	 */
+	public static final String SP_EXPORT_CSV_THREADS = "ocs.export.csv.threads";
+
+	/**
+	 * Name of the system property that indicates whether exports are carried out
+	 * as background jobs rather than on the UI request thread
+	 */
+	public static final String SP_EXPORT_IN_BACKGROUND = "ocs.export.background";
+
+	/**
+	 * Name of the system property that determines the number of minutes that the
+	 * result of a background export is kept on disk
+	 */
+	public static final String SP_EXPORT_FILE_EXPIRY_MINUTES = "ocs.export.file.expiry.minutes";
+
+	/**
+	 * Name of the system property that determines the maximum number of background
+	 * exports that can run at the same time
+	 */
+	public static final String SP_EXPORT_THREAD_POOL_SIZE = "ocs.export.thread.pool.size";
+
+	/**
+	 * Name of the system property that determines the number of threads that are
+	 * used to convert the rows of an import file
+	 */
+	public static final String SP_IMPORT_THREADS = "ocs.import.threads";
+
+	/**
+	 * Name of the system property that determines the maximum width and height (in
+	 * pixels) of the thumbnails that are used for image previews. 0 means that
+	 * the full images are displayed
+	 */
+	public static final String SP_IMAGE_THUMBNAIL_SIZE = "ocs.image.thumbnail.size";
+
 	/**
 	 * System property that indicates whether to indent grids in input forms
 	 */
@@ -481,6 +531,12 @@ public class DynamoConstants {
 	 */
 	public static final String SP_MAX_ROWS_BEFORE_STREAMING = "ocs.max.rows.before.streaming";
 
+	/**
+	 * Name of the system property that determines the maximum size (in bytes) of
+	 * an uploaded file
+	 */
+	public static final String SP_MAX_UPLOAD_SIZE = "ocs.max.upload.size";
+
 	/**
 	 * Class name for the service locator (override to create a different service
 	 * locator, e.g. to use a separate service locator for integration tests)
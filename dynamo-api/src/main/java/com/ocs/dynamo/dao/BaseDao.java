@@ -58,6 +58,14 @@ public interface BaseDao<ID, T extends AbstractEntity<ID>> {
      */
     void delete(T entity);
 
+    /**
+     * Detaches the provided entity from the persistence context, so that any
+     * changes that were made to it are not written to the database
+     *
+     * @param entity the entity to detach
+     */
+    void detach(T entity);
+
     /**
      * Fetches entities that match the provided filter
      *
@@ -180,6 +188,17 @@ public interface BaseDao<ID, T extends AbstractEntity<ID>> {
      */
     T findByUniqueProperty(String propertyName, Object value, boolean caseSensitive);
 
+    /**
+     * Retrieves the value of a LOB property of a single entity, using a query that
+     * only selects that property
+     *
+     * @param id           the ID of the entity
+     * @param propertyName the name of the LOB property
+     * @return the value of the property, or <code>null</code> if the entity cannot
+     *         be found or the property is empty
+     */
+    byte[] findLobValue(ID id, String propertyName);
+
     /**
      * Returns all distinct values of a field that match the search filter
      *
@@ -207,6 +207,17 @@ public interface BaseService<ID, T extends AbstractEntity<ID>> {
 	 */
 	T findByUniqueProperty(String propertyName, Object value, boolean caseSensitive);
 
+	/**
+	 * Retrieves the value of a LOB property of a single entity without loading the
+	 * rest of the entity. Use this to load LOB properties on demand
+	 * 
+	 * @param id           the ID of the entity
+	 * @param propertyName the name of the LOB property
+	 * @return the value of the property, or null if the entity cannot be found or
+	 *         the property is empty
+	 */
+	byte[] findLobValue(ID id, String propertyName);
+
 	/**
 	 * Returns all distinct values that appear in a certain field for all entities
 	 * that match the provided filter
@@ -0,0 +1,390 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.util;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+import com.ocs.dynamo.constants.DynamoConstants;
+import com.ocs.dynamo.domain.model.GroupTogetherMode;
+import com.ocs.dynamo.domain.model.NumberFieldMode;
+import com.ocs.dynamo.domain.model.PagingMode;
+import com.ocs.dynamo.domain.model.ThousandsGroupingMode;
+import com.ocs.dynamo.domain.model.VisibilityType;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * An immutable, fully parsed snapshot of the Dynamo system properties. Every
+ * value is resolved by looking at the system properties first and falling back
+ * to application.properties and finally to the default value.
+ *
+ * @author Bas Rutten
+ *
+ */
+@Slf4j
+@Getter
+public final class SystemPropertySnapshot {
+
+	private static final int DEFAULT_DECIMAL_PRECISION = 2;
+
+	private static final String DEFAULT_FALSE_REPRESENTATION = "false";
+
+	private static final int DEFAULT_LOOKUP_FIELD_MAX_ITEMS = 3;
+
+	private static final int DEFAULT_MESSAGE_DISPLAY_TIME = 2000;
+
+	private static final String DEFAULT_TRUE_REPRESENTATION = "true";
+
+	private final boolean allowListExport;
+
+	private final boolean capitalizeWords;
+
+	private final String csvEscapeChar;
+
+	private final String csvQuoteChar;
+
+	private final String csvSeparator;
+
+	private final int csvExportThreads;
+
+	private final boolean exportInBackground;
+
+	private final Integer exportFileExpiryMinutes;
+
+	private final Integer exportThreadPoolSize;
+
+	private final int importThreads;
+
+	private final String defaultAiService;
+
+	private final boolean defaultClearButtonVisible;
+
+	private final String defaultCurrencySymbol;
+
+	private final String defaultDateFormat;
+
+	private final Locale defaultDateLocale;
+
+	private final String defaultDateTimeFormat;
+
+	private final String defaultDateTimeWithTimezoneFormat;
+
+	private final int defaultDecimalPrecision;
+
+	private final boolean defaultDetailsGridSortable;
+
+	private final List<String> defaultEditColumnThresholds;
+
+	private final String defaultEditGridHeight;
+
+	private final String defaultFalseRepresentation;
+
+	private final String defaultGridHeight;
+
+	private final GroupTogetherMode defaultGroupTogetherMode;
+
+	private final Integer defaultGroupTogetherWidth;
+
+	private final String defaultListSelectHeight;
+
+	private final Locale defaultLocale;
+
+	private final VisibilityType defaultLookupFieldCaptions;
+
+	private final int defaultLookupFieldMaxItems;
+
+	private final String defaultMaxEditFormWidth;
+
+	private final String defaultMaxSearchFormWidth;
+
+	private final Integer defaultMessageDisplayTime;
+
+	private final int defaultNavigationPrefetchWindow;
+
+	private final int defaultNestingDepth;
+
+	private final NumberFieldMode defaultNumberFieldMode;
+
+	private final PagingMode defaultPagingMode;
+
+	private final boolean defaultSearchCaseSensitive;
+
+	private final List<String> defaultSearchColumnThresholds;
+
+	private final int defaultSearchDelay;
+
+	private final String defaultSearchDialogGridHeight;
+
+	private final boolean defaultSearchPrefixOnly;
+
+	private final String defaultTextAreaHeight;
+
+	private final ThousandsGroupingMode defaultThousandsGroupingMode;
+
+	private final String defaultTimeFormat;
+
+	private final String defaultTrueRepresentation;
+
+	private final boolean defaultTrimSpaces;
+
+	private final boolean formAutofillEnabled;
+
+	private final boolean indentGrids;
+
+	private final Integer maxExportRowsBeforeStreaming;
+
+	private final int maxUploadSize;
+
+	private final int imageThumbnailSize;
+
+	private final String serviceLocatorClassName;
+
+	private final String unAccentFunctionName;
+
+	private final boolean useBrowserTimezone;
+
+	private final boolean useDefaultPromptValue;
+
+	private final boolean useGridSelectionCheckBoxes;
+
+	private final boolean useXlsThousandsGrouping;
+
+	/**
+	 * Locale specific representations of the value "false", by language code
+	 */
+	@Getter(lombok.AccessLevel.NONE)
+	private final Map<String, String> falseRepresentations;
+
+	/**
+	 * Locale specific representations of the value "true", by language code
+	 */
+	@Getter(lombok.AccessLevel.NONE)
+	private final Map<String, String> trueRepresentations;
+
+	/**
+	 * Constructor
+	 *
+	 * @param systemProperties      the system properties. These take precedence
+	 * @param applicationProperties the properties read from application.properties
+	 */
+	public SystemPropertySnapshot(Properties systemProperties, Properties applicationProperties) {
+		PropertySource source = new PropertySource(systemProperties, applicationProperties);
+
+		allowListExport = source.getBooleanProperty(DynamoConstants.SP_ALLOW_LIST_EXPORT, false);
+		capitalizeWords = source.getBooleanProperty(DynamoConstants.SP_CAPITALIZE_WORDS, true);
+		csvEscapeChar = source.getStringProperty(DynamoConstants.SP_EXPORT_CSV_ESCAPE, "\"\"");
+		csvQuoteChar = source.getStringProperty(DynamoConstants.SP_EXPORT_CSV_QUOTE, "\"");
+		csvSeparator = source.getStringProperty(DynamoConstants.SP_EXPORT_CSV_SEPARATOR, ";");
+		csvExportThreads = source.getIntProperty(DynamoConstants.SP_EXPORT_CSV_THREADS, 1);
+		exportInBackground = source.getBooleanProperty(DynamoConstants.SP_EXPORT_IN_BACKGROUND, false);
+		exportFileExpiryMinutes = source.getIntProperty(DynamoConstants.SP_EXPORT_FILE_EXPIRY_MINUTES, 30);
+		exportThreadPoolSize = source.getIntProperty(DynamoConstants.SP_EXPORT_THREAD_POOL_SIZE, 2);
+		importThreads = source.getIntProperty(DynamoConstants.SP_IMPORT_THREADS, 1);
+		defaultAiService = source.getStringProperty(DynamoConstants.SP_DEFAULT_AI_SERVICE, "CHAT_GPT");
+		defaultClearButtonVisible = source.getBooleanProperty(DynamoConstants.SP_DEFAULT_CLEAR_BUTTON_VISIBLE, false);
+		defaultCurrencySymbol = source.getStringProperty(DynamoConstants.SP_DEFAULT_CURRENCY_SYMBOL, "€");
+		defaultDateFormat = source.getStringProperty(DynamoConstants.SP_DEFAULT_DATE_FORMAT, "dd-MM-yyyy");
+		defaultDateLocale = constructLocale(
+				source.getStringProperty(DynamoConstants.SP_DEFAULT_DATE_LOCALE, DynamoConstants.DEFAULT_LOCALE.toString()));
+		defaultDateTimeFormat = source.getStringProperty(DynamoConstants.SP_DEFAULT_DATETIME_FORMAT, "dd-MM-yyyy HH:mm:ss");
+		defaultDateTimeWithTimezoneFormat = source.getStringProperty(DynamoConstants.SP_DEFAULT_DATETIME_ZONE_FORMAT,
+				"dd-MM-yyyy HH:mm:ssZ");
+		defaultDecimalPrecision = source.getIntProperty(DynamoConstants.SP_DEFAULT_DECIMAL_PRECISION,
+				DEFAULT_DECIMAL_PRECISION);
+		defaultDetailsGridSortable = source.getBooleanProperty(DynamoConstants.SP_DEFAULT_DETAILS_GRID_SORTABLE, false);
+		defaultEditColumnThresholds = List
+				.of(source.getStringProperty(DynamoConstants.SP_DEFAULT_EDIT_FORM_COLUMN_THRESHOLDS, "0px").split(","));
+		defaultEditGridHeight = source.getStringProperty(DynamoConstants.SP_DEFAULT_EDIT_GRID_HEIGHT, "200px");
+		defaultFalseRepresentation = source.getStringProperty(DynamoConstants.SP_DEFAULT_FALSE_REPRESENTATION,
+				DEFAULT_FALSE_REPRESENTATION);
+		defaultGridHeight = source.getStringProperty(DynamoConstants.SP_DEFAULT_GRID_HEIGHT, "400px");
+		defaultGroupTogetherMode = source.getEnumProperty(GroupTogetherMode.class,
+				DynamoConstants.SP_DEFAULT_GROUP_TOGETHER_MODE, GroupTogetherMode.PIXEL, true);
+		defaultGroupTogetherWidth = source.getIntProperty(DynamoConstants.SP_DEFAULT_GROUP_TOGETHER_WIDTH, 300);
+		defaultListSelectHeight = source.getStringProperty(DynamoConstants.SP_LIST_SELECT_HEIGHT, "100px");
+		defaultLocale = constructLocale(
+				source.getStringProperty(DynamoConstants.SP_DEFAULT_LOCALE, DynamoConstants.DEFAULT_LOCALE.toString()));
+		defaultLookupFieldCaptions = source.getEnumProperty(VisibilityType.class, DynamoConstants.SP_LOOKUP_FIELD_CAPTIONS,
+				VisibilityType.HIDE, false);
+		defaultLookupFieldMaxItems = source.getIntProperty(DynamoConstants.SP_LOOKUP_FIELD_MAX_ITEMS,
+				DEFAULT_LOOKUP_FIELD_MAX_ITEMS);
+		defaultMaxEditFormWidth = source.getStringProperty(DynamoConstants.SP_DEFAULT_MAX_EDIT_FORM_WIDTH, "100%");
+		defaultMaxSearchFormWidth = source.getStringProperty(DynamoConstants.SP_DEFAULT_MAX_SEARCH_FORM_WIDTH, "100%");
+		defaultMessageDisplayTime = source.getIntProperty(DynamoConstants.SP_DEFAULT_MESSAGE_DISPLAY_TIME,
+				DEFAULT_MESSAGE_DISPLAY_TIME);
+		defaultNavigationPrefetchWindow = source.getIntProperty(DynamoConstants.SP_DEFAULT_NAVIGATION_PREFETCH_WINDOW, 0);
+		defaultNestingDepth = source.getIntProperty(DynamoConstants.SP_DEFAULT_NESTING_DEPTH, 2);
+		defaultNumberFieldMode = source.getEnumProperty(NumberFieldMode.class, DynamoConstants.SP_DEFAULT_NUMBER_FIELD_MODE,
+				NumberFieldMode.TEXTFIELD, true);
+		defaultPagingMode = source.getEnumProperty(PagingMode.class, DynamoConstants.SP_DEFAULT_PAGING_MODE,
+				PagingMode.NON_PAGED, true);
+		defaultSearchCaseSensitive = source.getBooleanProperty(DynamoConstants.SP_DEFAULT_SEARCH_CASE_SENSITIVE, false);
+		defaultSearchColumnThresholds = List.of(source.getStringProperty(
+				DynamoConstants.SP_DEFAULT_SEARCH_FORM_COLUMN_THRESHOLDS, "0px,650px,1300px").split(","));
+		defaultSearchDelay = source.getIntProperty(DynamoConstants.SP_DEFAULT_SEARCH_DELAY, 0);
+		defaultSearchDialogGridHeight = source.getStringProperty(DynamoConstants.SP_DEFAULT_SEARCH_DIALOG_GRID_HEIGHT,
+				"300px");
+		defaultSearchPrefixOnly = source.getBooleanProperty(DynamoConstants.SP_DEFAULT_SEARCH_PREFIX_ONLY, false);
+		defaultTextAreaHeight = source.getStringProperty(DynamoConstants.SP_DEFAULT_TEXT_AREA_HEIGHT, "200px");
+		defaultThousandsGroupingMode = source.getEnumProperty(ThousandsGroupingMode.class,
+				DynamoConstants.SP_THOUSAND_GROUPING, ThousandsGroupingMode.ALWAYS, true);
+		defaultTimeFormat = source.getStringProperty(DynamoConstants.SP_DEFAULT_TIME_FORMAT, "HH:mm:ss");
+		defaultTrueRepresentation = source.getStringProperty(DynamoConstants.SP_DEFAULT_TRUE_REPRESENTATION,
+				DEFAULT_TRUE_REPRESENTATION);
+		defaultTrimSpaces = source.getBooleanProperty(DynamoConstants.SP_TRIM_SPACES, false);
+		formAutofillEnabled = source.getBooleanProperty(DynamoConstants.SP_FORM_AUTO_FILL_ENABLED, false);
+		indentGrids = source.getBooleanProperty(DynamoConstants.SP_INDENT_GRIDS_IN_FORM, true);
+		maxExportRowsBeforeStreaming = source.getIntProperty(DynamoConstants.SP_MAX_ROWS_BEFORE_STREAMING, 1000);
+		maxUploadSize = source.getIntProperty(DynamoConstants.SP_MAX_UPLOAD_SIZE, 0);
+		imageThumbnailSize = source.getIntProperty(DynamoConstants.SP_IMAGE_THUMBNAIL_SIZE, 0);
+		serviceLocatorClassName = source.getStringProperty(DynamoConstants.SP_SERVICE_LOCATOR_CLASS_NAME,
+				"com.ocs.dynamo.ui.SpringWebServiceLocator");
+		unAccentFunctionName = source.getStringProperty(DynamoConstants.SP_UNACCENT_FUNCTION_NAME, "");
+		useBrowserTimezone = source.getBooleanProperty(DynamoConstants.SP_USE_BROWSER_TIME_ZONE, false);
+		useDefaultPromptValue = source.getBooleanProperty(DynamoConstants.SP_USE_DEFAULT_PROMPT_VALUE, true);
+		useGridSelectionCheckBoxes = source.getBooleanProperty(DynamoConstants.SP_USE_GRID_SELECTION_CHECK_BOXES, true);
+		useXlsThousandsGrouping = source.getBooleanProperty(DynamoConstants.SP_XLS_THOUSANDS_GROUPING, false);
+
+		falseRepresentations = collectByLanguage(DynamoConstants.SP_DEFAULT_FALSE_REPRESENTATION, systemProperties,
+				applicationProperties);
+		trueRepresentations = collectByLanguage(DynamoConstants.SP_DEFAULT_TRUE_REPRESENTATION, systemProperties,
+				applicationProperties);
+	}
+
+	/**
+	 * Collects the values of all properties that consist of the provided prefix
+	 * followed by a language code
+	 *
+	 * @param prefix                the prefix
+	 * @param systemProperties      the system properties
+	 * @param applicationProperties the application properties
+	 * @return the values, by language code
+	 */
+	private static Map<String, String> collectByLanguage(String prefix, Properties systemProperties,
+			Properties applicationProperties) {
+		Map<String, String> result = new HashMap<>();
+		String fullPrefix = prefix + ".";
+		for (Properties props : List.of(applicationProperties, systemProperties)) {
+			for (String name : props.stringPropertyNames()) {
+				if (name.startsWith(fullPrefix)) {
+					// system properties are processed last and take precedence
+					result.put(name.substring(fullPrefix.length()), props.getProperty(name));
+				}
+			}
+		}
+		return Map.copyOf(result);
+	}
+
+	private static Locale constructLocale(String localeString) {
+		int split = localeString.indexOf("_");
+		if (split > -1) {
+			return new Locale.Builder().setLanguage(localeString.substring(0, split))
+					.setRegion(localeString.substring(split + 1)).build();
+		}
+		return new Locale.Builder().setLanguage(localeString).build();
+	}
+
+	/**
+	 * Looks up the representation of the value "false" for the provided locale
+	 *
+	 * @param locale the locale
+	 * @return the representation, or <code>null</code> if none has been configured
+	 */
+	public String getDefaultFalseRepresentation(Locale locale) {
+		return falseRepresentations.get(locale.getLanguage());
+	}
+
+	/**
+	 * Looks up the representation of the value "true" for the provided locale
+	 *
+	 * @param locale the locale
+	 * @return the representation, or <code>null</code> if none has been configured
+	 */
+	public String getDefaultTrueRepresentation(Locale locale) {
+		return trueRepresentations.get(locale.getLanguage());
+	}
+
+	/**
+	 * Resolves raw property values by looking at the system properties first and
+	 * falling back to application.properties
+	 */
+	private static final class PropertySource {
+
+		private final Properties systemProperties;
+
+		private final Properties applicationProperties;
+
+		PropertySource(Properties systemProperties, Properties applicationProperties) {
+			this.systemProperties = systemProperties;
+			this.applicationProperties = applicationProperties;
+		}
+
+		boolean getBooleanProperty(String propertyName, boolean defaultValue) {
+			String value = getStringProperty(propertyName, null);
+			return value == null ? defaultValue : Boolean.parseBoolean(value);
+		}
+
+		<E extends Enum<E>> E getEnumProperty(Class<E> enumClass, String propertyName, E defaultValue,
+				boolean toUpperCase) {
+			String value = getStringProperty(propertyName, null);
+			if (value == null) {
+				return defaultValue;
+			}
+			try {
+				return Enum.valueOf(enumClass, toUpperCase ? value.toUpperCase() : value);
+			} catch (IllegalArgumentException ex) {
+				log.error("Invalid value {} for property {}, falling back to {}", value, propertyName, defaultValue);
+				return defaultValue;
+			}
+		}
+
+		/**
+		 * Looks up the value of an integer property. Just like
+		 * <code>Integer.getInteger</code>, a system property that cannot be parsed is
+		 * ignored, in which case application.properties is consulted
+		 *
+		 * @param propertyName the name of the property
+		 * @param defaultValue the default value
+		 * @return the value of the property
+		 */
+		Integer getIntProperty(String propertyName, Integer defaultValue) {
+			String sys = systemProperties.getProperty(propertyName);
+			if (sys != null) {
+				try {
+					return Integer.decode(sys);
+				} catch (NumberFormatException ex) {
+					// fall back to application.properties
+				}
+			}
+
+			String value = applicationProperties.getProperty(propertyName);
+			try {
+				return value == null ? defaultValue : Integer.valueOf(value);
+			} catch (NumberFormatException ex) {
+				log.error("Invalid value {} for property {}, falling back to {}", value, propertyName, defaultValue);
+				return defaultValue;
+			}
+		}
+
+		String getStringProperty(String propertyName, String defaultValue) {
+			String value = systemProperties.getProperty(propertyName);
+			return value != null ? value : applicationProperties.getProperty(propertyName, defaultValue);
+		}
+	}
+}
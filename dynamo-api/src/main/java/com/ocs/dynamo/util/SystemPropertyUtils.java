@@ -13,7 +13,6 @@
  */
 package com.ocs.dynamo.util;
 
-import com.ocs.dynamo.constants.DynamoConstants;
 import com.ocs.dynamo.domain.model.*;
 import lombok.extern.slf4j.Slf4j;
 
@@ -22,9 +21,13 @@ import java.io.InputStream;
 import java.util.List;
 import java.util.Locale;
 import java.util.Properties;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 /**
- * Utility methods for retrieving system property values
+ * Utility methods for retrieving system property values. The values are parsed
+ * once into an immutable {@link SystemPropertySnapshot}; call {@link #reload()}
+ * to pick up changes
  * 
  * @author bas.rutten
  *
@@ -32,54 +35,83 @@ import java.util.Properties;
 @Slf4j
 public final class SystemPropertyUtils {
 
-	private static final int DEFAULT_DECIMAL_PRECISION = 2;
-
-	private static final String DEFAULT_FALSE_REPRESENTATION = "false";
-
-	private static final int DEFAULT_LOOKUP_FIELD_MAX_ITEMS = 3;
+	/**
+	 * Listeners that are notified after the system properties have been reloaded
+	 */
+	private static final List<Consumer<SystemPropertySnapshot>> changeListeners = new CopyOnWriteArrayList<>();
 
-	private static final int DEFAULT_MESSAGE_DISPLAY_TIME = 2000;
+	/**
+	 * The current, fully parsed property values
+	 */
+	private static volatile SystemPropertySnapshot snapshot = createSnapshot();
 
-	private static final String DEFAULT_TRUE_REPRESENTATION = "true";
+	/**
+	 * Registers a listener that is notified with the new snapshot whenever the
+	 * system properties are reloaded
+	 * 
+	 * @param listener the listener to add
+	 */
+	public static void addChangeListener(Consumer<SystemPropertySnapshot> listener) {
+		changeListeners.add(listener);
+	}
 
-	private static final Properties properties = new Properties();
+	/**
+	 * Removes a previously registered change listener
+	 * 
+	 * @param listener the listener to remove
+	 */
+	public static void removeChangeListener(Consumer<SystemPropertySnapshot> listener) {
+		changeListeners.remove(listener);
+	}
 
-	static {
-		try {
-			InputStream resourceAsStream = SystemPropertyUtils.class.getClassLoader()
-					.getResourceAsStream("application.properties");
+	/**
+	 * Creates a new snapshot based on the current system properties and the
+	 * contents of application.properties
+	 * 
+	 * @return the snapshot
+	 */
+	private static SystemPropertySnapshot createSnapshot() {
+		Properties properties = new Properties();
+		try (InputStream resourceAsStream = SystemPropertyUtils.class.getClassLoader()
+				.getResourceAsStream("application.properties")) {
 			if (resourceAsStream != null) {
 				properties.load(resourceAsStream);
 			}
 		} catch (IOException ex) {
 			log.error(ex.getMessage(), ex);
 		}
+		return new SystemPropertySnapshot(System.getProperties(), properties);
+	}
+
+	/**
+	 * @return the snapshot that holds the current property values
+	 */
+	public static SystemPropertySnapshot getSnapshot() {
+		return snapshot;
 	}
 
 	/**
+	 * Re-reads the system properties and application.properties and notifies the
+	 * registered change listeners. Property values are read only once, so this
+	 * method must be called for changes to system properties to take effect
 	 * 
-	 * @return whether export of grid contents to Excel/CSV is allowed. This system
-	 *         property can be used to either enable or disable this on the
-	 *         application level.
+	 * @return the new snapshot
 	 */
-	public static boolean allowListExport() {
-		return getBooleanProperty(DynamoConstants.SP_ALLOW_LIST_EXPORT, null);
+	public static SystemPropertySnapshot reload() {
+		SystemPropertySnapshot newSnapshot = createSnapshot();
+		snapshot = newSnapshot;
+		changeListeners.forEach(listener -> listener.accept(newSnapshot));
+		return newSnapshot;
 	}
 
 	/**
-	 * Looks up the value of a boolean property by scanning the system properties
-	 * first and falling back to application.properties
 	 * 
-	 * @param propertyName the name of the property
-	 * @param defaultValue the default value
-	 * @return the value of the property
+	 * @return whether export of grid contents to Excel/CSV is allowed. This system
+	 *         property can be used to either enable or disable this on the
+	 *         application level.
 	 */
-	private static Boolean getBooleanProperty(String propertyName, Boolean defaultValue) {
-		String sys = System.getProperty(propertyName);
-		if (sys == null) {
-			sys = properties.getProperty(propertyName, defaultValue == null ? null : defaultValue.toString());
-		}
-		return Boolean.valueOf(sys);
+	public static boolean allowListExport() {
+		return snapshot.isAllowListExport();
 	}
 
 	/**
@@ -87,7 +119,7 @@ public final class SystemPropertyUtils {
 	 * @return the CSV escape character
 	 */
 	public static String getCsvEscapeChar() {
-		return getStringProperty(DynamoConstants.SP_EXPORT_CSV_ESCAPE, "\"\"");
+		return snapshot.getCsvEscapeChar();
 	}
 
 	/**
@@ -95,7 +127,7 @@ public final class SystemPropertyUtils {
 	 * @return the CSV quote character
 	 */
 	public static String getCsvQuoteChar() {
-		return getStringProperty(DynamoConstants.SP_EXPORT_CSV_QUOTE, "\"");
+		return snapshot.getCsvQuoteChar();
 	}
 
 	/**
@@ -103,7 +135,51 @@ public final class SystemPropertyUtils {
 	 * @return the CSV separator character
 	 */
 	public static String getCsvSeparator() {
-		return getStringProperty(DynamoConstants.SP_EXPORT_CSV_SEPARATOR, ";");
+		return snapshot.getCsvSeparator();
+	}
+
+	/**
+	 *
+	 * @return the number of threads used to format the rows of a CSV export (1
+	 *         means that the rows are formatted sequentially)
+	 */
+	public static int getCsvExportThreads() {
+		return snapshot.getCsvExportThreads();
+	}
+
+	/**
+	 * 
+	 * @return the number of minutes that the result of a background export is kept
+	 *         on disk
+	 */
+	public static Integer getExportFileExpiryMinutes() {
+		return snapshot.getExportFileExpiryMinutes();
+	}
+
+	/**
+	 * 
+	 * @return the maximum number of background exports that can run at the same
+	 *         time
+	 */
+	public static Integer getExportThreadPoolSize() {
+		return snapshot.getExportThreadPoolSize();
+	}
+
+	/**
+	 * 
+	 * @return the number of threads used to convert the rows of an import file (1
+	 *         means that the rows are converted sequentially)
+	 */
+	public static int getImportThreads() {
+		return snapshot.getImportThreads();
+	}
+
+	/**
+	 * 
+	 * @return whether exports are carried out as background jobs
+	 */
+	public static boolean isExportInBackground() {
+		return snapshot.isExportInBackground();
 	}
 
 	/**
@@ -111,7 +187,7 @@ public final class SystemPropertyUtils {
 	 *         currency
 	 */
 	public static String getDefaultCurrencySymbol() {
-		return getStringProperty(DynamoConstants.SP_DEFAULT_CURRENCY_SYMBOL, "€");
+		return snapshot.getDefaultCurrencySymbol();
 	}
 
 	/**
@@ -119,7 +195,7 @@ public final class SystemPropertyUtils {
 	 * @return the default format for formatting dates
 	 */
 	public static String getDefaultDateFormat() {
-		return getStringProperty(DynamoConstants.SP_DEFAULT_DATE_FORMAT, "dd-MM-yyyy");
+		return snapshot.getDefaultDateFormat();
 	}
 
 	/**
@@ -127,9 +203,7 @@ public final class SystemPropertyUtils {
 	 * @return the locale used for localization of date picker components
 	 */
 	public static Locale getDefaultDateLocale() {
-		String localeString =  getStringProperty(DynamoConstants.SP_DEFAULT_DATE_LOCALE,
-				DynamoConstants.DEFAULT_LOCALE.toString());
-		return constructLocale(localeString);
+		return snapshot.getDefaultDateLocale();
 	}
 
 	/**
@@ -137,7 +211,7 @@ public final class SystemPropertyUtils {
 	 * @return the default date/time format (dd-MM-yyyy HH:mm:ss)
 	 */
 	public static String getDefaultDateTimeFormat() {
-		return getStringProperty(DynamoConstants.SP_DEFAULT_DATETIME_FORMAT, "dd-MM-yyyy HH:mm:ss");
+		return snapshot.getDefaultDateTimeFormat();
 	}
 
 	/**
@@ -145,7 +219,7 @@ public final class SystemPropertyUtils {
 	 * @return the default date/time format with time zone (dd-MM-yyyy HH:mm:ssZ)
 	 */
 	public static String getDefaultDateTimeWithTimezoneFormat() {
-		return getStringProperty(DynamoConstants.SP_DEFAULT_DATETIME_ZONE_FORMAT, "dd-MM-yyyy HH:mm:ssZ");
+		return snapshot.getDefaultDateTimeWithTimezoneFormat();
 	}
 
 	/**
@@ -153,7 +227,7 @@ public final class SystemPropertyUtils {
 	 * @return the default decimal precision
 	 */
 	public static int getDefaultDecimalPrecision() {
-		return getIntProperty(DynamoConstants.SP_DEFAULT_DECIMAL_PRECISION, DEFAULT_DECIMAL_PRECISION);
+		return snapshot.getDefaultDecimalPrecision();
 	}
 
 	/**
@@ -161,7 +235,7 @@ public final class SystemPropertyUtils {
 	 * @return whether a details grid is sortable by default
 	 */
 	public static boolean getDefaultDetailsGridSortable() {
-		return getBooleanProperty(DynamoConstants.SP_DEFAULT_DETAILS_GRID_SORTABLE, false);
+		return snapshot.isDefaultDetailsGridSortable();
 	}
 
 	/**
@@ -170,8 +244,7 @@ public final class SystemPropertyUtils {
 	 *         columns in an edit form
 	 */
 	public static List<String> getDefaultEditColumnThresholds() {
-		String temp = getStringProperty(DynamoConstants.SP_DEFAULT_EDIT_FORM_COLUMN_THRESHOLDS, "0px");
-		return List.of(temp.split(","));
+		return snapshot.getDefaultEditColumnThresholds();
 	}
 
 	/**
@@ -179,14 +252,14 @@ public final class SystemPropertyUtils {
 	 * @return the default edit grid height in pixels
 	 */
 	public static String getDefaultEditGridHeight() {
-		return getStringProperty(DynamoConstants.SP_DEFAULT_EDIT_GRID_HEIGHT, "200px");
+		return snapshot.getDefaultEditGridHeight();
 	}
 
 	/**
 	 * @return the default textual representation of the boolean literal "false"
 	 */
 	public static String getDefaultFalseRepresentation() {
-		return getStringProperty(DynamoConstants.SP_DEFAULT_FALSE_REPRESENTATION, DEFAULT_FALSE_REPRESENTATION);
+		return snapshot.getDefaultFalseRepresentation();
 	}
 
 	/**
@@ -198,7 +271,7 @@ public final class SystemPropertyUtils {
 	 * @return the default false representation
 	 */
 	public static String getDefaultFalseRepresentation(Locale locale) {
-		return getStringProperty(DynamoConstants.SP_DEFAULT_FALSE_REPRESENTATION + "." + locale.getLanguage(), null);
+		return snapshot.getDefaultFalseRepresentation(locale);
 	}
 
 	/**
@@ -206,7 +279,7 @@ public final class SystemPropertyUtils {
 	 * @return the default height of a search results grid
 	 */
 	public static String getDefaultGridHeight() {
-		return getStringProperty(DynamoConstants.SP_DEFAULT_GRID_HEIGHT, "400px");
+		return snapshot.getDefaultGridHeight();
 	}
 
 	/**
@@ -215,8 +288,7 @@ public final class SystemPropertyUtils {
 	 *         that are group together behave with respect to responsiveness
 	 */
 	public static GroupTogetherMode getDefaultGroupTogetherMode() {
-		String s = getStringProperty(DynamoConstants.SP_DEFAULT_GROUP_TOGETHER_MODE, "pixel");
-		return GroupTogetherMode.valueOf(s.toUpperCase());
+		return snapshot.getDefaultGroupTogetherMode();
 	}
 
 	/**
@@ -225,7 +297,7 @@ public final class SystemPropertyUtils {
 	 *         pixel)
 	 */
 	public static Integer getDefaultGroupTogetherWidth() {
-		return getIntProperty(DynamoConstants.SP_DEFAULT_GROUP_TOGETHER_WIDTH, 300);
+		return snapshot.getDefaultGroupTogetherWidth();
 	}
 
 	/**
@@ -233,7 +305,7 @@ public final class SystemPropertyUtils {
 	 * @return the default height of a list select component
 	 */
 	public static String getDefaultListSelectHeight() {
-		return getStringProperty(DynamoConstants.SP_LIST_SELECT_HEIGHT, "100px");
+		return snapshot.getDefaultListSelectHeight();
 	}
 
 	/**
@@ -241,17 +313,7 @@ public final class SystemPropertyUtils {
 	 * @return the default locale used for e.g. the decimal and thousands separators
 	 */
 	public static Locale getDefaultLocale() {
-		String localeString = getStringProperty(DynamoConstants.SP_DEFAULT_LOCALE, DynamoConstants.DEFAULT_LOCALE.toString());
-		return constructLocale(localeString);
-	}
-
-	private static Locale constructLocale(String localeString) {
-		int split = localeString.indexOf("_");
-		if (split > -1) {
-			return new Locale.Builder().setLanguage(localeString.substring(0,split)
-			).setRegion(localeString.substring(split+1)).build();
-		}
-		return new Locale.Builder().setLanguage(localeString).build();
+		return snapshot.getDefaultLocale();
 	}
 
 	/**
@@ -259,7 +321,7 @@ public final class SystemPropertyUtils {
 	 *         description
 	 */
 	public static int getDefaultLookupFieldMaxItems() {
-		return getIntProperty(DynamoConstants.SP_LOOKUP_FIELD_MAX_ITEMS, DEFAULT_LOOKUP_FIELD_MAX_ITEMS);
+		return snapshot.getDefaultLookupFieldMaxItems();
 	}
 	
 	/**
@@ -267,8 +329,7 @@ public final class SystemPropertyUtils {
 	 * @return the default setting for displaying button captions in lookup fields 
 	 */
 	public static VisibilityType getDefaultLookupFieldCaptions() {
-		String s = getStringProperty(DynamoConstants.SP_LOOKUP_FIELD_CAPTIONS, "HIDE");
-		return VisibilityType.valueOf(s);
+		return snapshot.getDefaultLookupFieldCaptions();
 	}
 
 	/**
@@ -276,7 +337,7 @@ public final class SystemPropertyUtils {
 	 * @return the default maximum edit form width
 	 */
 	public static String getDefaultMaxEditFormWidth() {
-		return getStringProperty(DynamoConstants.SP_DEFAULT_MAX_EDIT_FORM_WIDTH, "100%");
+		return snapshot.getDefaultMaxEditFormWidth();
 	}
 
 	/**
@@ -284,7 +345,7 @@ public final class SystemPropertyUtils {
 	 * @return the default maximum search form width
 	 */
 	public static String getDefaultMaxSearchFormWidth() {
-		return getStringProperty(DynamoConstants.SP_DEFAULT_MAX_SEARCH_FORM_WIDTH, "100%");
+		return snapshot.getDefaultMaxSearchFormWidth();
 	}
 
 	/**
@@ -293,22 +354,30 @@ public final class SystemPropertyUtils {
 	 *         message will be displayed by default
 	 */
 	public static Integer getDefaultMessageDisplayTime() {
-		return getIntProperty(DynamoConstants.SP_DEFAULT_MESSAGE_DISPLAY_TIME, DEFAULT_MESSAGE_DISPLAY_TIME);
+		return snapshot.getDefaultMessageDisplayTime();
 	}
 
 	/**
 	 * @return the default nesting depth for entity models
 	 */
 	public static int getDefaultNestingDepth() {
-		return getIntProperty(DynamoConstants.SP_DEFAULT_NESTING_DEPTH, 2);
+		return snapshot.getDefaultNestingDepth();
+	}
+
+	/**
+	 * @return the default number of entities to prefetch on either side of the
+	 *         selected entity when navigating through search results. A value of 0
+	 *         disables prefetching
+	 */
+	public static int getDefaultNavigationPrefetchWindow() {
+		return snapshot.getDefaultNavigationPrefetchWindow();
 	}
 
 	/**
 	 * @return the default number field mode
 	 */
 	public static NumberFieldMode getDefaultNumberFieldMode() {
-		String s = getStringProperty(DynamoConstants.SP_DEFAULT_NUMBER_FIELD_MODE, "TEXTFIELD");
-		return NumberFieldMode.valueOf(s.toUpperCase());
+		return snapshot.getDefaultNumberFieldMode();
 	}
 
 	/**
@@ -317,15 +386,14 @@ public final class SystemPropertyUtils {
 	 *         UI components that maintain a list of items like combo boxes
 	 */
 	public static PagingMode getDefaultPagingMode() {
-		String s = getStringProperty(DynamoConstants.SP_DEFAULT_PAGING_MODE, "NON_PAGED");
-		return PagingMode.valueOf(s.toUpperCase());
+		return snapshot.getDefaultPagingMode();
 	}
 
 	/**
 	 * @return whether searches on text fields will be case-sensitive by default
 	 */
 	public static boolean getDefaultSearchCaseSensitive() {
-		return getBooleanProperty(DynamoConstants.SP_DEFAULT_SEARCH_CASE_SENSITIVE, false);
+		return snapshot.isDefaultSearchCaseSensitive();
 	}
 
 	/**
@@ -333,8 +401,16 @@ public final class SystemPropertyUtils {
 	 * @return the default thresholds for columns in a search form
 	 */
 	public static List<String> getDefaultSearchColumnThresholds() {
-		String temp = getStringProperty(DynamoConstants.SP_DEFAULT_SEARCH_FORM_COLUMN_THRESHOLDS, "0px,650px,1300px");
-		return List.of(temp.split(","));
+		return snapshot.getDefaultSearchColumnThresholds();
+	}
+
+	/**
+	 * @return the default delay (in milliseconds) after which a search is carried
+	 *         out when the user changes a search filter. A value of 0 disables
+	 *         searching as you type
+	 */
+	public static int getDefaultSearchDelay() {
+		return snapshot.getDefaultSearchDelay();
 	}
 
 	/**
@@ -342,29 +418,28 @@ public final class SystemPropertyUtils {
 	 * @return the default height of the results grid in a search dialog
 	 */
 	public static String getDefaultSearchDialogGridHeight() {
-		return getStringProperty(DynamoConstants.SP_DEFAULT_SEARCH_DIALOG_GRID_HEIGHT, "300px");
+		return snapshot.getDefaultSearchDialogGridHeight();
 	}
 
 	/**
 	 * @return default search prefix only. False if not specified
 	 */
 	public static boolean getDefaultSearchPrefixOnly() {
-		return getBooleanProperty(DynamoConstants.SP_DEFAULT_SEARCH_PREFIX_ONLY, false);
+		return snapshot.isDefaultSearchPrefixOnly();
 	}
 
 	/**
 	 * @return the default height of a text area (e.g. "1px")
 	 */
 	public static String getDefaultTextAreaHeight() {
-		return getStringProperty(DynamoConstants.SP_DEFAULT_TEXT_AREA_HEIGHT, "200px");
+		return snapshot.getDefaultTextAreaHeight();
 	}
 
 	/**
 	 * @return whether to include thousands grouping separators in edit mode
 	 */
 	public static ThousandsGroupingMode getDefaultThousandsGroupingMode() {
-		return ThousandsGroupingMode
-				.valueOf(getStringProperty(DynamoConstants.SP_THOUSAND_GROUPING, "ALWAYS").toUpperCase());
+		return snapshot.getDefaultThousandsGroupingMode();
 	}
 
 	/**
@@ -372,7 +447,7 @@ public final class SystemPropertyUtils {
 	 *         Java 8 dates that only consist of a time stamp
 	 */
 	public static String getDefaultTimeFormat() {
-		return getStringProperty(DynamoConstants.SP_DEFAULT_TIME_FORMAT, "HH:mm:ss");
+		return snapshot.getDefaultTimeFormat();
 	}
 
 	/**
@@ -380,7 +455,7 @@ public final class SystemPropertyUtils {
 	 * @return the default true representation (if no further locale is specified)
 	 */
 	public static String getDefaultTrueRepresentation() {
-		return getStringProperty(DynamoConstants.SP_DEFAULT_TRUE_REPRESENTATION, DEFAULT_TRUE_REPRESENTATION);
+		return snapshot.getDefaultTrueRepresentation();
 	}
 
 	/**
@@ -392,64 +467,47 @@ public final class SystemPropertyUtils {
 	 * @return the true representation
 	 */
 	public static String getDefaultTrueRepresentation(Locale locale) {
-		return getStringProperty(DynamoConstants.SP_DEFAULT_TRUE_REPRESENTATION + "." + locale.getLanguage(), null);
+		return snapshot.getDefaultTrueRepresentation(locale);
 	}
 
 	/**
-	 * Looks up the value for an integer property
-	 * 
-	 * @param propertyName the name of the property
-	 * @param defaultValue the default value
-	 * @return the property value
+	 * @return the maximum number of rows that a result set is allowed to have
+	 *         before resorting to a streaming approach when doing Excel exports
 	 */
-	private static Integer getIntProperty(String propertyName, Integer defaultValue) {
-		Integer sys = Integer.getInteger(propertyName);
-		if (sys == null) {
-			String s = properties.getProperty(propertyName, defaultValue == null ? null : defaultValue.toString());
-			sys = s == null ? null : Integer.parseInt(s);
-		}
-		return sys;
+	public static Integer getMaxExportRowsBeforeStreaming() {
+		return snapshot.getMaxExportRowsBeforeStreaming();
 	}
 
 	/**
-	 * @return the maximum number of rows that a result set is allowed to have
-	 *         before resorting to a streaming approach when doing Excel exports
+	 * @return the maximum size (in bytes) of an uploaded file. 0 means that there
+	 *         is no maximum
 	 */
-	public static Integer getMaxExportRowsBeforeStreaming() {
-		return getIntProperty(DynamoConstants.SP_MAX_ROWS_BEFORE_STREAMING, 1000);
+	public static int getMaxUploadSize() {
+		return snapshot.getMaxUploadSize();
 	}
 
 	/**
-	 *
-	 * @return the name of the service locator to use. Used internally by the
-	 *         framework, highly unlikely this needs to be modified directly
+	 * @return the maximum width and height (in pixels) of the thumbnails that are
+	 *         used for image previews. 0 means that the full images are displayed
 	 */
-	public static String getServiceLocatorClassName() {
-		return getStringProperty(DynamoConstants.SP_SERVICE_LOCATOR_CLASS_NAME,
-				"com.ocs.dynamo.ui.SpringWebServiceLocator");
+	public static int getImageThumbnailSize() {
+		return snapshot.getImageThumbnailSize();
 	}
 
 	/**
-	 * Looks up the value of a String property by scanning the system properties
-	 * first and falling back to application.properties
-	 * 
-	 * @param propertyName the name of the property
-	 * @param defaultValue the default value
-	 * @return the property
+	 *
+	 * @return the name of the service locator to use. Used internally by the
+	 *         framework, highly unlikely this needs to be modified directly
 	 */
-	private static String getStringProperty(String propertyName, String defaultValue) {
-		String sys = System.getProperty(propertyName);
-		if (sys == null) {
-			sys = properties.getProperty(propertyName, defaultValue);
-		}
-		return sys;
+	public static String getServiceLocatorClassName() {
+		return snapshot.getServiceLocatorClassName();
 	}
 
 	/**
 	 * @return whether to capitalize every word in a property name
 	 */
 	public static boolean isCapitalizeWords() {
-		return getBooleanProperty(DynamoConstants.SP_CAPITALIZE_WORDS, true);
+		return snapshot.isCapitalizeWords();
 	}
 
 	/**
@@ -457,28 +515,28 @@ public final class SystemPropertyUtils {
 	 * @return whether the clear button for a component is visible by default
 	 */
 	public static boolean isDefaultClearButtonVisible() {
-		return getBooleanProperty(DynamoConstants.SP_DEFAULT_CLEAR_BUTTON_VISIBLE, false);
+		return snapshot.isDefaultClearButtonVisible();
 	}
 
 	/**
 	 * @return whether to trim spaces in text and text area fields
 	 */
 	public static boolean isDefaultTrimSpaces() {
-		return getBooleanProperty(DynamoConstants.SP_TRIM_SPACES, false);
+		return snapshot.isDefaultTrimSpaces();
 	}
 
 	/**
 	 * @return whether to indent grid and detail form components
 	 */
 	public static Boolean mustIndentGrids() {
-		return getBooleanProperty(DynamoConstants.SP_INDENT_GRIDS_IN_FORM, true);
+		return snapshot.isIndentGrids();
 	}
 
 	/**
 	 * @return whether to use the browser time zone for formatting zoned date times
 	 */
 	public static boolean useBrowserTimezone() {
-		return getBooleanProperty(DynamoConstants.SP_USE_BROWSER_TIME_ZONE, false);
+		return snapshot.isUseBrowserTimezone();
 	}
 
 	/**
@@ -486,14 +544,14 @@ public final class SystemPropertyUtils {
 	 *         (hint/placeholder) inside the component
 	 */
 	public static boolean useDefaultPromptValue() {
-		return getBooleanProperty(DynamoConstants.SP_USE_DEFAULT_PROMPT_VALUE, true);
+		return snapshot.isUseDefaultPromptValue();
 	}
 
 	/**
 	 * @return whether to use check boxes for multiple selection in grids
 	 */
 	public static boolean useGridSelectionCheckBoxes() {
-		return getBooleanProperty(DynamoConstants.SP_USE_GRID_SELECTION_CHECK_BOXES, true);
+		return snapshot.isUseGridSelectionCheckBoxes();
 	}
 
 	/**
@@ -501,19 +559,19 @@ public final class SystemPropertyUtils {
 	 * @return whether to use thousands grouping in XLS export
 	 */
 	public static boolean useXlsThousandsGrouping() {
-		return getBooleanProperty(DynamoConstants.SP_XLS_THOUSANDS_GROUPING, false);
+		return snapshot.isUseXlsThousandsGrouping();
 	}
 	
 	public static String getUnAccentFunctionName() {
-		return getStringProperty(DynamoConstants.SP_UNACCENT_FUNCTION_NAME, "");
+		return snapshot.getUnAccentFunctionName();
 	}
 
 	public static boolean isFormAutofillEnabled() {
-		return getBooleanProperty(DynamoConstants.SP_FORM_AUTO_FILL_ENABLED, false);
+		return snapshot.isFormAutofillEnabled();
 	}
 
 	public static String getDefaultAiService() {
-		return getStringProperty(DynamoConstants.SP_DEFAULT_AI_SERVICE, "CHAT_GPT");
+		return snapshot.getDefaultAiService();
 	}
 
 	private SystemPropertyUtils() {
@@ -0,0 +1,85 @@
+package com.ocs.dynamo.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+
+import com.ocs.dynamo.constants.DynamoConstants;
+import com.ocs.dynamo.domain.model.GroupTogetherMode;
+import com.ocs.dynamo.domain.model.PagingMode;
+
+public class SystemPropertySnapshotTest {
+
+	@Test
+	public void testDefaults() {
+		SystemPropertySnapshot snapshot = new SystemPropertySnapshot(new Properties(), new Properties());
+		assertEquals(2, snapshot.getDefaultDecimalPrecision());
+		assertEquals(";", snapshot.getCsvSeparator());
+		assertEquals(GroupTogetherMode.PIXEL, snapshot.getDefaultGroupTogetherMode());
+		assertEquals(List.of("0px", "650px", "1300px"), snapshot.getDefaultSearchColumnThresholds());
+		assertTrue(snapshot.isCapitalizeWords());
+		assertFalse(snapshot.isAllowListExport());
+		assertNull(snapshot.getDefaultTrueRepresentation(Locale.ENGLISH));
+	}
+
+	@Test
+	public void testSystemPropertiesTakePrecedence() {
+		Properties sys = new Properties();
+		sys.setProperty(DynamoConstants.SP_DEFAULT_CURRENCY_SYMBOL, "$");
+		sys.setProperty(DynamoConstants.SP_DEFAULT_TRUE_REPRESENTATION + ".nl", "Ja");
+
+		Properties app = new Properties();
+		app.setProperty(DynamoConstants.SP_DEFAULT_CURRENCY_SYMBOL, "£");
+		app.setProperty(DynamoConstants.SP_DEFAULT_PAGING_MODE, "paged");
+		app.setProperty(DynamoConstants.SP_DEFAULT_LOCALE, "nl_NL");
+		app.setProperty(DynamoConstants.SP_DEFAULT_TRUE_REPRESENTATION + ".nl", "Waar");
+		app.setProperty(DynamoConstants.SP_DEFAULT_TRUE_REPRESENTATION + ".en", "Yes");
+
+		SystemPropertySnapshot snapshot = new SystemPropertySnapshot(sys, app);
+		assertEquals("$", snapshot.getDefaultCurrencySymbol());
+		assertEquals(PagingMode.PAGED, snapshot.getDefaultPagingMode());
+		assertEquals(new Locale("nl", "NL"), snapshot.getDefaultLocale());
+		assertEquals("Ja", snapshot.getDefaultTrueRepresentation(new Locale("nl")));
+		assertEquals("Yes", snapshot.getDefaultTrueRepresentation(Locale.ENGLISH));
+	}
+
+	@Test
+	public void testInvalidIntegerSystemPropertyIsIgnored() {
+		Properties sys = new Properties();
+		sys.setProperty(DynamoConstants.SP_DEFAULT_DECIMAL_PRECISION, "bogus");
+
+		Properties app = new Properties();
+		app.setProperty(DynamoConstants.SP_DEFAULT_DECIMAL_PRECISION, "4");
+
+		SystemPropertySnapshot snapshot = new SystemPropertySnapshot(sys, app);
+		assertEquals(4, snapshot.getDefaultDecimalPrecision());
+	}
+
+	@Test
+	public void testReload() {
+		AtomicReference<SystemPropertySnapshot> received = new AtomicReference<>();
+		Consumer<SystemPropertySnapshot> listener = received::set;
+		SystemPropertyUtils.addChangeListener(listener);
+		try {
+			System.setProperty(DynamoConstants.SP_DEFAULT_DECIMAL_PRECISION, "5");
+			SystemPropertySnapshot snapshot = SystemPropertyUtils.reload();
+			assertSame(snapshot, received.get());
+			assertSame(snapshot, SystemPropertyUtils.getSnapshot());
+			assertEquals(5, SystemPropertyUtils.getDefaultDecimalPrecision());
+		} finally {
+			System.clearProperty(DynamoConstants.SP_DEFAULT_DECIMAL_PRECISION);
+			SystemPropertyUtils.removeChangeListener(listener);
+			SystemPropertyUtils.reload();
+		}
+	}
+}
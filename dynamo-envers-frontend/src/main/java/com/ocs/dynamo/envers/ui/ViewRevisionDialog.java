@@ -14,13 +14,18 @@
 package com.ocs.dynamo.envers.ui;
 
 import java.io.Serializable;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import com.ocs.dynamo.constants.DynamoConstants;
 import com.ocs.dynamo.domain.AbstractEntity;
+import com.ocs.dynamo.domain.model.AttributeModel;
 import com.ocs.dynamo.domain.model.EntityModel;
 import com.ocs.dynamo.envers.domain.RevisionKey;
 import com.ocs.dynamo.envers.domain.VersionedEntity;
+import com.ocs.dynamo.envers.service.VersionedEntityService;
 import com.ocs.dynamo.filter.EqualsPredicate;
 import com.ocs.dynamo.service.BaseService;
 import com.ocs.dynamo.service.MessageService;
@@ -28,6 +33,7 @@ import com.ocs.dynamo.service.ServiceLocatorFactory;
 import com.ocs.dynamo.ui.component.CustomFieldContext;
 import com.ocs.dynamo.ui.composite.ComponentContext;
 import com.ocs.dynamo.ui.composite.dialog.BaseModalDialog;
+import com.ocs.dynamo.ui.composite.form.ModelBasedEditForm;
 import com.ocs.dynamo.ui.composite.layout.FormOptions;
 import com.ocs.dynamo.ui.composite.layout.ServiceBasedSplitLayout;
 import com.ocs.dynamo.ui.provider.QueryType;
@@ -38,7 +44,10 @@ import com.vaadin.flow.component.button.Button;
 import lombok.Getter;
 
 /**
- * A dialog for viewing the revisions of an entity
+ * A dialog for viewing the revisions of an entity. When the service is a
+ * {@link VersionedEntityService}, the changed attributes of all revisions are
+ * determined up front and the dialog only shows the attributes that were
+ * changed in the selected revision
  * 
  * @author Bas Rutten
  *
@@ -51,6 +60,16 @@ public class ViewRevisionDialog<ID extends Serializable, T extends AbstractEntit
 
 	private static final long serialVersionUID = -8950374678949377884L;
 
+	/**
+	 * The prefix of the paths of the attributes of the embedded (base) entity
+	 */
+	private static final String ENTITY_PREFIX = "entity.";
+
+	/**
+	 * The key of the column that lists the changed attributes
+	 */
+	private static final String CHANGED_COLUMN = "changedAttributes";
+
 	@Getter
 	private ComponentContext<ID, T> componentContext = ComponentContext.<ID, T>builder().build();
 
@@ -105,8 +124,63 @@ public class ViewRevisionDialog<ID extends Serializable, T extends AbstractEntit
 			ServiceBasedSplitLayout<RevisionKey<ID>, U> layout = new ServiceBasedSplitLayout<>(service, entityModel,
 					QueryType.PAGING, fo, null);
 			layout.setFilterCreator(() -> new EqualsPredicate<>(DynamoConstants.ID, id));
+
+			Map<Integer, Set<String>> changed = findChangedProperties(service, id);
+			if (changed != null) {
+				layout.setPostProcessGridWrapper(wrapper -> wrapper.getGrid()
+						.addColumn(revision -> describeChanges(changed.get(revision.getRevision())))
+						.setKey(CHANGED_COLUMN).setHeader(messageService.getMessage("ocs.changed.attributes",
+								VaadinUtils.getLocale())));
+				layout.setComponentContext(ComponentContext.<RevisionKey<ID>, U>builder()
+						.afterEntitySelected((form, revision) -> showChangedOnly(form,
+								changed.get(revision.getRevision())))
+						.build());
+			}
 			parent.add(layout);
 		});
 	}
 
+	/**
+	 * Determines the changed attributes of all revisions of the entity, in a
+	 * single call
+	 * 
+	 * @param service the service
+	 * @param id      the ID of the entity
+	 * @return the paths of the changed attributes per revision number, or
+	 *         <code>null</code> if the service cannot determine these
+	 */
+	@SuppressWarnings("unchecked")
+	private Map<Integer, Set<String>> findChangedProperties(BaseService<RevisionKey<ID>, U> service, ID id) {
+		if (service instanceof VersionedEntityService<?, ?, ?> versioned) {
+			return ((VersionedEntityService<ID, T, U>) versioned).findChangedProperties(id);
+		}
+		return null;
+	}
+
+	private String describeChanges(Set<String> changed) {
+		if (changed == null) {
+			return "";
+		}
+		return changed.stream().map(path -> {
+			AttributeModel am = entityModel.getAttributeModel(ENTITY_PREFIX + path);
+			return am == null ? path : am.getDisplayName(VaadinUtils.getLocale());
+		}).collect(Collectors.joining(", "));
+	}
+
+	/**
+	 * Hides the attributes of the embedded entity that were not changed in the
+	 * selected revision
+	 * 
+	 * @param form    the form that displays the revision
+	 * @param changed the paths of the attributes that were changed
+	 */
+	private void showChangedOnly(ModelBasedEditForm<RevisionKey<ID>, U> form, Set<String> changed) {
+		for (AttributeModel am : entityModel.getAttributeModels()) {
+			if (am.getPath().startsWith(ENTITY_PREFIX)) {
+				String path = am.getPath().substring(ENTITY_PREFIX.length());
+				form.setComponentVisible(am.getPath(), changed == null || changed.contains(path));
+			}
+		}
+	}
+
 }
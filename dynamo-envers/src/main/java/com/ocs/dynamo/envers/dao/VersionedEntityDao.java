@@ -15,6 +15,8 @@ package com.ocs.dynamo.envers.dao;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import com.ocs.dynamo.dao.BaseDao;
 import com.ocs.dynamo.domain.AbstractEntity;
@@ -46,6 +48,18 @@ public interface VersionedEntityDao<ID, T extends AbstractEntity<ID>, U extends
 	 */
 	List<U> findRevisions(ID id);
 
+	/**
+	 * Determines which attributes were changed in every revision of an entity.
+	 * Uses the Envers modified flags when these are enabled for the entity, and
+	 * otherwise compares each revision to the previous one
+	 * 
+	 * @param id
+	 *            the ID of the original entity
+	 * @return the paths of the changed attributes, per revision number (in
+	 *         ascending order of revision number)
+	 */
+	Map<Integer, Set<String>> findChangedProperties(ID id);
+
 	/**
 	 * Finds the revision number corresponding to a certain date
 	 * 
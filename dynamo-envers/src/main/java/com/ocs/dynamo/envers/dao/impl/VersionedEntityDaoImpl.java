@@ -25,11 +25,13 @@ import com.ocs.dynamo.envers.domain.DynamoRevisionEntity;
 import com.ocs.dynamo.envers.domain.RevisionKey;
 import com.ocs.dynamo.envers.domain.RevisionType;
 import com.ocs.dynamo.envers.domain.VersionedEntity;
+import com.ocs.dynamo.envers.utils.RevisionDiffUtils;
 import com.ocs.dynamo.filter.*;
 import com.ocs.dynamo.utils.DateUtils;
 import com.querydsl.core.types.dsl.EntityPathBase;
 import org.hibernate.envers.AuditReader;
 import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.Audited;
 import org.hibernate.envers.query.AuditEntity;
 import org.hibernate.envers.query.AuditQuery;
 import org.hibernate.envers.query.criteria.AuditConjunction;
@@ -46,8 +48,10 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -80,26 +84,23 @@ public abstract class VersionedEntityDaoImpl<ID, T extends AbstractEntity<ID>, U
 	}
 
 	/**
-	 * Adds a search criteria for matching any of the provided keys
+	 * Adds a search criteria for matching any of the provided keys. The revision
+	 * numbers are grouped per entity ID, so that the history of a single entity
+	 * results in a single "IN" clause
 	 * 
 	 * @param ids the IDs to match on
 	 * @param aq  the audit query to which to add the criterion
 	 */
 	private void addIdCriteria(List<RevisionKey<ID>> ids, AuditQuery aq) {
-		AuditCriterion criterion = null;
+		Map<ID, List<Number>> revisionsPerId = new LinkedHashMap<>();
 		for (RevisionKey<ID> id : ids) {
-			AuditCriterion and = AuditEntity.and(AuditEntity.id().eq(id.getId()),
-					AuditEntity.revisionNumber().eq(id.getRevision()));
-			if (criterion == null) {
-				criterion = and;
-			} else {
-				criterion = AuditEntity.or(criterion, and);
-			}
+			revisionsPerId.computeIfAbsent(id.getId(), k -> new ArrayList<>()).add(id.getRevision());
 		}
 
-		if (criterion != null) {
-			aq.add(criterion);
-		}
+		AuditDisjunction criterion = AuditEntity.disjunction();
+		revisionsPerId.forEach((id, revisions) -> criterion
+				.add(AuditEntity.and(AuditEntity.id().eq(id), AuditEntity.revisionNumber().in(revisions))));
+		aq.add(criterion);
 	}
 
 	/**
@@ -155,10 +156,11 @@ public abstract class VersionedEntityDaoImpl<ID, T extends AbstractEntity<ID>, U
 	@Transactional
 	public long count(Filter filter, boolean distinct) {
 		// filter on ID (this should always be there)
-		AuditQuery aq = getAuditReader().createQuery().forRevisionsOfEntity(getBaseEntityClass(), false, true);
+		AuditQuery aq = getAuditReader().createQuery().forRevisionsOfEntity(getBaseEntityClass(), false, true)
+				.addProjection(AuditEntity.revisionNumber().count());
 		addIdFilter(aq, filter);
 		addAdditionalFilters(aq, filter);
-		return aq.getResultList().size();
+		return ((Number) aq.getSingleResult()).longValue();
 	}
 
 	/**
@@ -313,8 +315,11 @@ public abstract class VersionedEntityDaoImpl<ID, T extends AbstractEntity<ID>, U
 	@Transactional
 	public List<U> fetchByIds(List<RevisionKey<ID>> ids, Filter additionalFilter, SortOrders sortOrders,
 			FetchJoinInformation... joins) {
-		AuditQuery aq = getAuditReader().createQuery().forRevisionsOfEntity(getBaseEntityClass(), false, true);
+		if (ids.isEmpty()) {
+			return new ArrayList<>();
+		}
 
+		AuditQuery aq = getAuditReader().createQuery().forRevisionsOfEntity(getBaseEntityClass(), false, true);
 		addIdCriteria(ids, aq);
 
 		if (sortOrders != null) {
@@ -363,6 +368,32 @@ public abstract class VersionedEntityDaoImpl<ID, T extends AbstractEntity<ID>, U
 		return revs.stream().map(this::mapRevisionKey).toList();
 	}
 
+	@Override
+	@Transactional
+	@SuppressWarnings("unchecked")
+	public Map<Integer, Set<String>> findChangedProperties(ID id) {
+		if (isModifiedFlagEnabled()) {
+			List<Object[]> revs = getAuditReader().createQuery()
+					.forRevisionsOfEntityWithChanges(getBaseEntityClass(), true).add(AuditEntity.id().eq(id))
+					.addOrder(AuditEntity.revisionNumber().asc()).getResultList();
+
+			// the set of changed properties comes after the revision type
+			Map<Integer, Set<String>> result = new LinkedHashMap<>();
+			for (Object[] rev : revs) {
+				DynamoRevisionEntity revisionData = (DynamoRevisionEntity) rev[1];
+				result.put(revisionData.getId(), Set.copyOf((Set<String>) rev[3]));
+			}
+			return result;
+		}
+
+		// load all revisions in a single query and compare them
+		List<Object[]> revs = getAuditReader().createQuery().forRevisionsOfEntity(getBaseEntityClass(), false, true)
+				.add(AuditEntity.id().eq(id)).addOrder(AuditEntity.revisionNumber().asc()).getResultList();
+		List<U> revisions = revs.stream().map(this::mapRevision).toList();
+		return RevisionDiffUtils.computeChangedProperties(revisions,
+				getEntityModelFactory().getModel(getBaseEntityClass()));
+	}
+
 	@Override
 	public Number findRevisionNumber(LocalDateTime ldt) {
 		return getAuditReader().getRevisionNumberForDate(DateUtils.toLegacyDate(ldt));
@@ -381,6 +412,17 @@ public abstract class VersionedEntityDaoImpl<ID, T extends AbstractEntity<ID>, U
 		return AuditReaderFactory.get(getEntityManager());
 	}
 
+	/**
+	 * Checks whether Envers keeps track of the modified properties of the base
+	 * entity. Overwrite this when the flags are enabled globally or per property
+	 * 
+	 * @return true if this is the case, false otherwise
+	 */
+	protected boolean isModifiedFlagEnabled() {
+		Audited audited = getBaseEntityClass().getAnnotation(Audited.class);
+		return audited != null && audited.withModifiedFlag();
+	}
+
 	/**
 	 * @return the class of the "base entity" (i.e. the non-versioned class)
 	 */
@@ -0,0 +1,53 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.envers.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.ocs.dynamo.domain.AbstractEntity;
+import com.ocs.dynamo.envers.domain.RevisionKey;
+import com.ocs.dynamo.envers.domain.VersionedEntity;
+import com.ocs.dynamo.service.BaseService;
+
+/**
+ * Service interface for the revisions of a versioned entity
+ * 
+ * @author bas.rutten
+ *
+ * @param <ID> the type of the ID of the base entity
+ * @param <T>  the type of the base entity
+ * @param <U>  the type of the versioned entity
+ */
+public interface VersionedEntityService<ID, T extends AbstractEntity<ID>, U extends VersionedEntity<ID, T>>
+		extends BaseService<RevisionKey<ID>, U> {
+
+	/**
+	 * Returns a list of revisions for an entity
+	 * 
+	 * @param id the ID of the original entity
+	 * @return a list of revisions of the entity
+	 */
+	List<U> findRevisions(ID id);
+
+	/**
+	 * Determines which attributes were changed in every revision of an entity
+	 * 
+	 * @param id the ID of the original entity
+	 * @return the paths of the changed attributes, per revision number (in
+	 *         ascending order of revision number)
+	 */
+	Map<Integer, Set<String>> findChangedProperties(ID id);
+}
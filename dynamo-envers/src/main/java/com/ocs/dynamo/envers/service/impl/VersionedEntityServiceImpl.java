@@ -0,0 +1,71 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.envers.service.impl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import com.ocs.dynamo.dao.BaseDao;
+import com.ocs.dynamo.domain.AbstractEntity;
+import com.ocs.dynamo.envers.dao.VersionedEntityDao;
+import com.ocs.dynamo.envers.domain.RevisionKey;
+import com.ocs.dynamo.envers.domain.VersionedEntity;
+import com.ocs.dynamo.envers.service.VersionedEntityService;
+import com.ocs.dynamo.service.impl.BaseServiceImpl;
+
+/**
+ * Default implementation of the service for the revisions of a versioned
+ * entity
+ * 
+ * @author bas.rutten
+ *
+ * @param <ID> the type of the ID of the base entity
+ * @param <T>  the type of the base entity
+ * @param <U>  the type of the versioned entity
+ */
+public class VersionedEntityServiceImpl<ID, T extends AbstractEntity<ID>, U extends VersionedEntity<ID, T>>
+		extends BaseServiceImpl<RevisionKey<ID>, U> implements VersionedEntityService<ID, T, U> {
+
+	private final VersionedEntityDao<ID, T, U> dao;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param dao the DAO used to retrieve the revisions
+	 */
+	public VersionedEntityServiceImpl(VersionedEntityDao<ID, T, U> dao) {
+		this.dao = dao;
+	}
+
+	@Override
+	protected BaseDao<RevisionKey<ID>, U> getDao() {
+		return dao;
+	}
+
+	@Override
+	@Transactional
+	public List<U> findRevisions(ID id) {
+		return dao.findRevisions(id);
+	}
+
+	@Override
+	@Transactional
+	public Map<Integer, Set<String>> findChangedProperties(ID id) {
+		return dao.findChangedProperties(id);
+	}
+
+}
@@ -0,0 +1,110 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.envers.utils;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.ocs.dynamo.constants.DynamoConstants;
+import com.ocs.dynamo.domain.AbstractEntity;
+import com.ocs.dynamo.domain.model.AttributeModel;
+import com.ocs.dynamo.domain.model.AttributeType;
+import com.ocs.dynamo.domain.model.EntityModel;
+import com.ocs.dynamo.envers.domain.RevisionType;
+import com.ocs.dynamo.envers.domain.VersionedEntity;
+import com.ocs.dynamo.utils.ClassUtils;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Utility methods for determining what changed between revisions of an entity
+ * 
+ * @author bas.rutten
+ */
+@UtilityClass
+public final class RevisionDiffUtils {
+
+	/**
+	 * The attribute types that are compared. Collections are not compared since
+	 * that would require loading them for every revision
+	 */
+	private static final Set<AttributeType> COMPARED_TYPES = EnumSet.of(AttributeType.BASIC, AttributeType.LOB,
+			AttributeType.MASTER);
+
+	/**
+	 * Determines, in a single pass, which attributes were changed in each
+	 * revision, by comparing every snapshot to the snapshot of the previous
+	 * revision. For the first revision all attributes that have a value are
+	 * considered to be changed, for a deletion no attributes are
+	 * 
+	 * @param revisions   the revisions of a single entity, ordered by ascending
+	 *                    revision number
+	 * @param entityModel the entity model of the (non-versioned) entity
+	 * @return the paths of the changed attributes, per revision number
+	 */
+	public static <ID, T extends AbstractEntity<ID>> Map<Integer, Set<String>> computeChangedProperties(
+			List<? extends VersionedEntity<ID, T>> revisions, EntityModel<T> entityModel) {
+		List<AttributeModel> compared = entityModel.getAttributeModels().stream()
+				.filter(am -> COMPARED_TYPES.contains(am.getAttributeType()))
+				.filter(am -> !DynamoConstants.ID.equals(am.getPath())).toList();
+
+		Map<Integer, Set<String>> result = new LinkedHashMap<>();
+		T previous = null;
+		for (VersionedEntity<ID, T> revision : revisions) {
+			T current = revision.getEntity();
+			Set<String> changed = new LinkedHashSet<>();
+			if (RevisionType.DEL.equals(revision.getRevisionType()) || current == null) {
+				previous = null;
+			} else {
+				for (AttributeModel am : compared) {
+					Object oldValue = previous == null ? null : ClassUtils.getFieldValue(previous, am.getPath());
+					Object newValue = ClassUtils.getFieldValue(current, am.getPath());
+					if (!isEqual(oldValue, newValue)) {
+						changed.add(am.getPath());
+					}
+				}
+				previous = current;
+			}
+			result.put(revision.getRevision(), Collections.unmodifiableSet(changed));
+		}
+		return result;
+	}
+
+	/**
+	 * Compares two attribute values. Entities are compared by ID and decimals
+	 * regardless of their scale
+	 * 
+	 * @param first  the first value
+	 * @param second the second value
+	 * @return true if the values are equal, false otherwise
+	 */
+	private static boolean isEqual(Object first, Object second) {
+		if (first instanceof AbstractEntity<?> e1 && second instanceof AbstractEntity<?> e2) {
+			return Objects.equals(e1.getId(), e2.getId());
+		} else if (first instanceof BigDecimal b1 && second instanceof BigDecimal b2) {
+			return b1.compareTo(b2) == 0;
+		} else if (first instanceof byte[] a1 && second instanceof byte[] a2) {
+			return Arrays.equals(a1, a2);
+		}
+		return Objects.equals(first, second);
+	}
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -169,6 +170,10 @@ public class PersonRevisionDaoImplTest extends BackendIntegrationTest {
 
 		list = personRevisionDao.fetchByIds(findIds, null);
 		assertEquals(2, findIds.size());
+		assertEquals(2L, personRevisionDao.count(new Like("name", "%Bo%"), true));
+
+		// no keys means no results
+		assertTrue(personRevisionDao.fetchByIds(List.of(), null).isEmpty());
 	}
 
 	@Test
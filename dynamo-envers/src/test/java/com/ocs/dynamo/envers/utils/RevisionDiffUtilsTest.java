@@ -0,0 +1,49 @@
+package com.ocs.dynamo.envers.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.ocs.dynamo.domain.model.EntityModel;
+import com.ocs.dynamo.domain.model.EntityModelFactory;
+import com.ocs.dynamo.domain.model.impl.EntityModelFactoryImpl;
+import com.ocs.dynamo.envers.domain.Person;
+import com.ocs.dynamo.envers.domain.PersonRevision;
+import com.ocs.dynamo.envers.domain.RevisionType;
+
+public class RevisionDiffUtilsTest {
+
+	private EntityModelFactory entityModelFactory = new EntityModelFactoryImpl();
+
+	@Test
+	public void testComputeChangedProperties() {
+		EntityModel<Person> model = entityModelFactory.getModel(Person.class);
+
+		PersonRevision add = createRevision("Bob", 1, RevisionType.ADD);
+		PersonRevision unchanged = createRevision("Bob", 2, RevisionType.MOD);
+		PersonRevision modified = createRevision("Bas", 3, RevisionType.MOD);
+		PersonRevision deleted = createRevision(null, 4, RevisionType.DEL);
+
+		Map<Integer, Set<String>> changes = RevisionDiffUtils
+				.computeChangedProperties(List.of(add, unchanged, modified, deleted), model);
+		assertEquals(4, changes.size());
+		assertEquals(Set.of("name"), changes.get(1));
+		assertTrue(changes.get(2).isEmpty());
+		assertEquals(Set.of("name"), changes.get(3));
+		assertTrue(changes.get(4).isEmpty());
+	}
+
+	private PersonRevision createRevision(String name, int revision, RevisionType type) {
+		Person person = new Person();
+		person.setId(1);
+		person.setName(name);
+		PersonRevision result = new PersonRevision(person, revision);
+		result.setRevisionType(type);
+		return result;
+	}
+}
@@ -18,11 +18,15 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import com.ocs.dynamo.ui.composite.export.ExportDelegate;
+import com.ocs.dynamo.ui.composite.export.ExportFileStore;
+import com.ocs.dynamo.ui.composite.export.ExportJobService;
 import com.ocs.dynamo.ui.composite.export.impl.ExportDelegateImpl;
+import com.ocs.dynamo.ui.composite.export.impl.ExportJobServiceImpl;
+import com.ocs.dynamo.ui.composite.export.impl.LocalExportFileStore;
 
 /**
  * Auto-configuration for the frontend-export module. Responsible for registering an export delegate that is used
- * by the front-end to locate the appropriate services
+ * by the front-end to locate the appropriate services, and the services used for carrying out exports in the background
  * @author Bas Rutten
  */
 @Configuration
@@ -33,4 +37,16 @@ public class DynamoFrontendExportAutoConfigure {
     public ExportDelegate exportDelegate() {
         return new ExportDelegateImpl();
     }
+
+    @Bean(destroyMethod = "clear")
+    @ConditionalOnMissingBean(value = ExportFileStore.class)
+    public LocalExportFileStore exportFileStore() {
+        return new LocalExportFileStore();
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean(value = ExportJobService.class)
+    public ExportJobServiceImpl exportJobService(ExportFileStore exportFileStore) {
+        return new ExportJobServiceImpl(exportFileStore);
+    }
 }
@@ -16,6 +16,7 @@ package com.ocs.dynamo.ui.composite.export;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.Serializable;
+import java.time.LocalDateTime;
 import java.util.function.Supplier;
 
 import com.ocs.dynamo.domain.AbstractEntity;
@@ -29,8 +30,10 @@ import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.icon.VaadinIcon;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
 import com.vaadin.flow.component.progressbar.ProgressBar;
+import com.vaadin.flow.shared.Registration;
 
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -65,6 +68,20 @@ public abstract class BaseExportDialog<ID extends Serializable, T extends Abstra
 	@Getter
 	private final ExportService exportService;
 
+	/**
+	 * The service used for carrying out exports in the background. When set, the
+	 * dialog starts an export job and offers the result for download once the job
+	 * has completed, rather than generating the export while the download request
+	 * is being handled
+	 */
+	@Getter
+	@Setter
+	private ExportJobService exportJobService;
+
+	private VerticalLayout mainLayout;
+
+	private Registration pollRegistration;
+
 	@Getter
 	private ProgressBar progressBar;
 
@@ -100,6 +117,30 @@ public abstract class BaseExportDialog<ID extends Serializable, T extends Abstra
 
 	protected abstract DownloadButton createDownloadExcelButton();
 
+	/**
+	 * Starts a background export to CSV
+	 * 
+	 * @return the export job
+	 */
+	protected abstract ExportJob submitCsvJob();
+
+	/**
+	 * Starts a background export to Excel
+	 * 
+	 * @return the export job
+	 */
+	protected abstract ExportJob submitExcelJob();
+
+	/**
+	 * Constructs the name of the file to download
+	 * 
+	 * @param extension the file extension
+	 * @return the file name
+	 */
+	protected String createFileName(String extension) {
+		return getEntityModel().getDisplayNamePlural(VaadinUtils.getLocale()) + "_" + LocalDateTime.now() + extension;
+	}
+
 	/**
 	 * Creates the download stream
 	 * 
@@ -122,17 +163,67 @@ public abstract class BaseExportDialog<ID extends Serializable, T extends Abstra
 	}
 
 	private void buildMainLayout(VerticalLayout parent) {
+		mainLayout = parent;
 		progressBar = new ProgressBar();
-		progressBar.setIndeterminate(true);
+		progressBar.setIndeterminate(exportJobService == null);
 		progressBar.setVisible(false);
 
-		exportExcelButton = createDownloadExcelButton();
-		parent.add(exportExcelButton);
-
-		exportCsvButton = createDownloadCSVButton();
-		parent.add(exportCsvButton);
+		if (exportJobService != null) {
+			Button excelButton = new Button(message("ocs.export.excel"), VaadinIcon.DOWNLOAD.create());
+			Button csvButton = new Button(message("ocs.export.csv"), VaadinIcon.DOWNLOAD.create());
+			excelButton.addClickListener(event -> startJob(this::submitExcelJob, excelButton, csvButton));
+			csvButton.addClickListener(event -> startJob(this::submitCsvJob, excelButton, csvButton));
+			parent.add(excelButton, csvButton);
+		} else {
+			exportExcelButton = createDownloadExcelButton();
+			parent.add(exportExcelButton);
+
+			exportCsvButton = createDownloadCSVButton();
+			parent.add(exportCsvButton);
+		}
 
 		UI.getCurrent().setPollInterval(100);
 		parent.add(progressBar);
 	}
+
+	/**
+	 * Starts a background export and updates the progress bar on every poll until
+	 * the export has finished
+	 * 
+	 * @param submit  the code that starts the export
+	 * @param buttons the buttons to disable while the export is running
+	 */
+	private void startJob(Supplier<ExportJob> submit, Button... buttons) {
+		for (Button button : buttons) {
+			button.setEnabled(false);
+		}
+		progressBar.setValue(0);
+		progressBar.setVisible(true);
+
+		ExportJob job = submit.get();
+		pollRegistration = ui.addPollListener(event -> progressBar.setValue(job.getProgress()));
+		job.whenFinished(finished -> ui.access(() -> afterJobFinished(finished)));
+	}
+
+	/**
+	 * Replaces the progress bar by a download button once the export has completed
+	 * 
+	 * @param job the export job
+	 */
+	private void afterJobFinished(ExportJob job) {
+		if (pollRegistration != null) {
+			pollRegistration.remove();
+			pollRegistration = null;
+		}
+		progressBar.setVisible(false);
+
+		if (job.getStatus() == ExportJob.Status.FAILED) {
+			VaadinUtils.showErrorNotification(job.getError().getMessage());
+			close();
+		} else {
+			DownloadButton downloadButton = new DownloadButton(message("ocs.export.download"),
+					() -> exportJobService.openResult(job), job::getFileName);
+			mainLayout.add(downloadButton);
+		}
+	}
 }
@@ -0,0 +1,97 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.composite.export;
+
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Value object describing the styling of an Excel cell. A specification only
+ * holds the properties that differ from the default style of the cell, every
+ * property that is left <code>null</code> is taken from the default style.
+ * Specifications are compared by value, so that every distinct style is only
+ * created once per workbook
+ * 
+ * @author Bas Rutten
+ *
+ */
+@Getter
+@Builder(toBuilder = true)
+@EqualsAndHashCode
+public class CellStyleSpec {
+
+	/**
+	 * Whether to use a bold font
+	 */
+	private final Boolean bold;
+
+	/**
+	 * Whether to use an italic font
+	 */
+	private final Boolean italic;
+
+	/**
+	 * The index of the font color (see IndexedColors)
+	 */
+	private final Short fontColor;
+
+	/**
+	 * The font height in points
+	 */
+	private final Short fontHeight;
+
+	/**
+	 * The index of the fill (background) color (see IndexedColors)
+	 */
+	private final Short fillColor;
+
+	/**
+	 * The fill pattern. Defaults to a solid fill when a fill color is set
+	 */
+	private final FillPatternType fillPattern;
+
+	/**
+	 * The border that is applied to all sides of the cell
+	 */
+	private final BorderStyle border;
+
+	/**
+	 * The horizontal alignment
+	 */
+	private final HorizontalAlignment alignment;
+
+	/**
+	 * The data format (e.g. "#,##0.00")
+	 */
+	private final String dataFormat;
+
+	/**
+	 * Whether to wrap the text
+	 */
+	private final Boolean wrapText;
+
+	/**
+	 * Indicates whether the specification changes any font properties
+	 * 
+	 * @return true if this is the case, false otherwise
+	 */
+	public boolean hasFont() {
+		return bold != null || italic != null || fontColor != null || fontHeight != null;
+	}
+}
@@ -0,0 +1,56 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.composite.export;
+
+import java.io.Serializable;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Workbook;
+
+import com.ocs.dynamo.domain.AbstractEntity;
+import com.ocs.dynamo.domain.model.AttributeModel;
+
+/**
+ * Custom Excel style generator that returns a style specification rather than
+ * a cell style. The export creates every distinct style only once per workbook,
+ * so that conditional styling does not result in a new cell style for every
+ * cell
+ * 
+ * @author Bas Rutten
+ *
+ * @param <ID> the type of the primary key
+ * @param <T>  the type of the entity
+ */
+@FunctionalInterface
+public interface CustomXlsStyleSpecGenerator<ID extends Serializable, T extends AbstractEntity<ID>>
+		extends CustomXlsStyleGenerator<ID, T> {
+
+	/**
+	 * Returns the style specification for a certain cell
+	 * 
+	 * @param entity         the entity that is displayed in the row
+	 * @param value          the cell value
+	 * @param am             the attribute model. Can be empty
+	 * @param pivotColumnKey the column key (for pivot export)
+	 * @return the desired style specification, or <code>null</code> to use the
+	 *         default style
+	 */
+	CellStyleSpec getCellStyleSpec(T entity, Object value, AttributeModel am, Object pivotColumnKey);
+
+	@Override
+	default CellStyle getCustomCellStyle(Workbook workbook, T entity, Object value, AttributeModel am,
+			Object pivotColumnKey) {
+		return null;
+	}
+}
@@ -15,7 +15,6 @@ package com.ocs.dynamo.ui.composite.export;
 
 import java.io.ByteArrayInputStream;
 import java.io.Serializable;
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.function.Supplier;
 
@@ -24,7 +23,6 @@ import com.ocs.dynamo.domain.AbstractEntity;
 import com.ocs.dynamo.domain.model.EntityModel;
 import com.ocs.dynamo.ui.component.DownloadButton;
 import com.ocs.dynamo.ui.composite.type.ExportMode;
-import com.ocs.dynamo.ui.utils.VaadinUtils;
 import com.vaadin.flow.data.provider.SortOrder;
 import com.vaadin.flow.function.SerializablePredicate;
 
@@ -74,8 +72,7 @@ public class ExportDialog<ID extends Serializable, T extends AbstractEntity<ID>>
         return new DownloadButton(message("ocs.export.csv"), getProgressBar(),
                 () -> download(() -> new ByteArrayInputStream(
                         getExportService().exportCsv(getEntityModel(), getExportMode(), predicate, sortOrders, joins))),
-                () -> getEntityModel().getDisplayNamePlural(VaadinUtils.getLocale()) + "_" + LocalDateTime.now()
-                        + EXTENSION_CSV);
+                () -> createFileName(EXTENSION_CSV));
     }
 
     @Override
@@ -83,8 +80,19 @@ public class ExportDialog<ID extends Serializable, T extends AbstractEntity<ID>>
         return new DownloadButton(message("ocs.export.excel"), getProgressBar(),
                 () -> download(() -> new ByteArrayInputStream(getExportService().exportExcel(getEntityModel(),
                         getExportMode(), predicate, sortOrders, customGenerator, joins))),
-                () -> getEntityModel().getDisplayNamePlural(VaadinUtils.getLocale()) + "_" + LocalDateTime.now()
-                        + EXTENSION_XLS);
+                () -> createFileName(EXTENSION_XLS));
+    }
+
+    @Override
+    protected ExportJob submitCsvJob() {
+        return getExportJobService().exportCsv(createFileName(EXTENSION_CSV), getEntityModel(), getExportMode(),
+                predicate, sortOrders, joins);
+    }
+
+    @Override
+    protected ExportJob submitExcelJob() {
+        return getExportJobService().exportExcel(createFileName(EXTENSION_XLS), getEntityModel(),
+                getExportMode(), predicate, sortOrders, customGenerator, joins);
     }
 
 }
@@ -0,0 +1,64 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.composite.export;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A store for the results of background exports. Results are kept for a limited
+ * amount of time after which they are removed
+ * 
+ * @author Bas Rutten
+ *
+ */
+public interface ExportFileStore {
+
+	/**
+	 * Stores the result of an export
+	 * 
+	 * @param key     the key under which to store the result
+	 * @param content the content to store
+	 */
+	void store(String key, byte[] content);
+
+	/**
+	 * Opens a stream for writing the result of an export directly to the store.
+	 * The caller must close the stream
+	 * 
+	 * @param key the key under which to store the result
+	 * @return the output stream
+	 */
+	OutputStream openOutput(String key);
+
+	/**
+	 * Opens a stream for reading a previously stored result
+	 * 
+	 * @param key the key of the result
+	 * @return the input stream
+	 */
+	InputStream open(String key);
+
+	/**
+	 * Removes a stored result
+	 * 
+	 * @param key the key of the result
+	 */
+	void remove(String key);
+
+	/**
+	 * Removes all results that have expired
+	 */
+	void evictExpired();
+}
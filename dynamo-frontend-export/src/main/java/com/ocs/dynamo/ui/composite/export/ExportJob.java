@@ -0,0 +1,129 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.composite.export;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import lombok.Getter;
+
+/**
+ * An export that is carried out in the background. Keeps track of the number of
+ * rows that have been exported and of the outcome of the export
+ * 
+ * @author Bas Rutten
+ *
+ */
+public class ExportJob implements ExportProgressListener {
+
+	/**
+	 * The possible states of an export job
+	 */
+	public enum Status {
+		RUNNING, COMPLETED, FAILED
+	}
+
+	@Getter
+	private final String id;
+
+	@Getter
+	private final String fileName;
+
+	private final AtomicInteger rowsDone = new AtomicInteger();
+
+	@Getter
+	private volatile int totalRows;
+
+	@Getter
+	private volatile Status status = Status.RUNNING;
+
+	@Getter
+	private volatile Throwable error;
+
+	private final CompletableFuture<ExportJob> completion = new CompletableFuture<>();
+
+	/**
+	 * Constructor
+	 * 
+	 * @param id       the unique ID of the job
+	 * @param fileName the name of the file that is offered for download
+	 */
+	public ExportJob(String id, String fileName) {
+		this.id = id;
+		this.fileName = fileName;
+	}
+
+	/**
+	 * @return the number of rows that have been exported so far
+	 */
+	public int getRowsDone() {
+		return rowsDone.get();
+	}
+
+	/**
+	 * @return the progress of the export as a fraction between 0 and 1
+	 */
+	public double getProgress() {
+		int total = totalRows;
+		if (status == Status.COMPLETED) {
+			return 1.0;
+		}
+		return total == 0 ? 0.0 : Math.min(1.0, (double) rowsDone.get() / total);
+	}
+
+	/**
+	 * @return whether the job has finished (either successfully or not)
+	 */
+	public boolean isFinished() {
+		return completion.isDone();
+	}
+
+	@Override
+	public void onProgress(int rowsDone, int totalRows) {
+		this.totalRows = totalRows;
+		this.rowsDone.set(rowsDone);
+	}
+
+	/**
+	 * Marks the job as successfully completed
+	 */
+	public void complete() {
+		status = Status.COMPLETED;
+		completion.complete(this);
+	}
+
+	/**
+	 * Marks the job as failed
+	 * 
+	 * @param error the error that caused the failure
+	 */
+	public void fail(Throwable error) {
+		this.error = error;
+		status = Status.FAILED;
+		completion.complete(this);
+	}
+
+	/**
+	 * Registers a callback that is carried out once the job has finished. If the
+	 * job has already finished, the callback is carried out immediately. Note that
+	 * the callback is typically invoked on the thread that runs the export, so UI
+	 * changes must be wrapped in a call to <code>UI.access</code>
+	 * 
+	 * @param callback the callback
+	 */
+	public void whenFinished(Consumer<ExportJob> callback) {
+		completion.thenAccept(callback);
+	}
+}
@@ -0,0 +1,135 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.composite.export;
+
+import java.io.InputStream;
+import java.io.Serializable;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.ocs.dynamo.dao.FetchJoinInformation;
+import com.ocs.dynamo.domain.AbstractEntity;
+import com.ocs.dynamo.domain.model.EntityModel;
+import com.ocs.dynamo.ui.composite.type.ExportMode;
+import com.vaadin.flow.data.provider.SortOrder;
+import com.vaadin.flow.function.SerializablePredicate;
+
+/**
+ * Service for carrying out exports to XLSX or CSV in the background. Every
+ * method returns immediately with a job that can be used to keep track of the
+ * progress of the export. Once the job has completed, the result can be
+ * retrieved by calling {@link #openResult(ExportJob)}
+ *
+ * @author Bas Rutten
+ */
+public interface ExportJobService {
+
+    /**
+     * Starts an export to CSV
+     *
+     * @param fileName    the name of the file that is offered for download
+     * @param entityModel the entity model of the entity to export
+     * @param mode        the desired export mode
+     * @param predicate   the predicate
+     * @param sortOrders  the list of sort orders
+     * @param joins       the joins to use when fetching data
+     * @return the job
+     */
+    <ID extends Serializable, T extends AbstractEntity<ID>> ExportJob exportCsv(String fileName,
+                                                                                EntityModel<T> entityModel, ExportMode mode, SerializablePredicate<T> predicate,
+                                                                                List<SortOrder<?>> sortOrders, FetchJoinInformation... joins);
+
+    /**
+     * Starts an export of a fixed set of data to CSV
+     *
+     * @param fileName    the name of the file that is offered for download
+     * @param entityModel the entity model
+     * @param mode        the desired export mode
+     * @param items       the set of items to export
+     * @return the job
+     */
+    <ID extends Serializable, T extends AbstractEntity<ID>> ExportJob exportCsvFixed(String fileName,
+                                                                                     EntityModel<T> entityModel, ExportMode mode, List<T> items);
+
+    /**
+     * Starts a pivoted export to CSV
+     *
+     * @param fileName        the name of the file that is offered for download
+     * @param entityModel     the entity model of the entity to export
+     * @param predicate       the predicate used for filtering the data
+     * @param sortOrders      the sort orders
+     * @param pivotParameters the pivot parameters
+     * @param joins           the fetch joins to use when retrieving the data
+     * @return the job
+     */
+    <ID extends Serializable, T extends AbstractEntity<ID>> ExportJob exportCsvPivot(String fileName,
+                                                                                     EntityModel<T> entityModel, SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders,
+                                                                                     PivotParameters pivotParameters, FetchJoinInformation... joins);
+
+    /**
+     * Starts an export to Excel
+     *
+     * @param fileName        the name of the file that is offered for download
+     * @param entityModel     the entity model of the entity to export
+     * @param mode            the desired export mode
+     * @param predicate       the predicate
+     * @param sortOrders      the list of sort orders
+     * @param customGenerator the custom style generator
+     * @param joins           the joins to use when fetching data
+     * @return the job
+     */
+    <ID extends Serializable, T extends AbstractEntity<ID>> ExportJob exportExcel(String fileName,
+                                                                                  EntityModel<T> entityModel, ExportMode mode, SerializablePredicate<T> predicate,
+                                                                                  List<SortOrder<?>> sortOrders, Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator,
+                                                                                  FetchJoinInformation... joins);
+
+    /**
+     * Starts an export of a fixed set of data to Excel
+     *
+     * @param fileName        the name of the file that is offered for download
+     * @param entityModel     the entity model
+     * @param mode            the export mode
+     * @param customGenerator the custom style generator
+     * @param items           the set of items to export
+     * @return the job
+     */
+    <ID extends Serializable, T extends AbstractEntity<ID>> ExportJob exportExcelFixed(String fileName,
+                                                                                       EntityModel<T> entityModel, ExportMode mode, Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator,
+                                                                                       List<T> items);
+
+    /**
+     * Starts a pivoted export to Excel
+     *
+     * @param fileName        the name of the file that is offered for download
+     * @param entityModel     the entity model of the entity to export
+     * @param predicate       the predicate used for filtering the data
+     * @param sortOrders      the sort orders
+     * @param customGenerator the custom style generator
+     * @param pivotParameters the pivot parameters
+     * @param joins           the fetch joins to use when retrieving the data
+     * @return the job
+     */
+    <ID extends Serializable, T extends AbstractEntity<ID>> ExportJob exportExcelPivot(String fileName,
+                                                                                       EntityModel<T> entityModel, SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders,
+                                                                                       Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator, PivotParameters pivotParameters,
+                                                                                       FetchJoinInformation... joins);
+
+    /**
+     * Opens the result of a completed export job
+     *
+     * @param job the job
+     * @return an input stream for reading the exported file
+     */
+    InputStream openResult(ExportJob job);
+}
@@ -0,0 +1,32 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.composite.export;
+
+/**
+ * Listener that is notified about the progress of an export
+ * 
+ * @author Bas Rutten
+ *
+ */
+@FunctionalInterface
+public interface ExportProgressListener {
+
+	/**
+	 * Invoked whenever a row has been exported
+	 * 
+	 * @param rowsDone  the number of rows that have been exported so far
+	 * @param totalRows the total number of rows to export
+	 */
+	void onProgress(int rowsDone, int totalRows);
+}
@@ -15,7 +15,6 @@ package com.ocs.dynamo.ui.composite.export;
 
 import java.io.ByteArrayInputStream;
 import java.io.Serializable;
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.function.Supplier;
 
@@ -23,7 +22,6 @@ import com.ocs.dynamo.domain.AbstractEntity;
 import com.ocs.dynamo.domain.model.EntityModel;
 import com.ocs.dynamo.ui.component.DownloadButton;
 import com.ocs.dynamo.ui.composite.type.ExportMode;
-import com.ocs.dynamo.ui.utils.VaadinUtils;
 
 /**
  * A dialog window that offers several buttons for exporting data to
@@ -62,8 +60,7 @@ public class FixedExportDialog<ID extends Serializable, T extends AbstractEntity
         return new DownloadButton(message("ocs.export.csv"), getProgressBar(),
                 () -> download(() -> new ByteArrayInputStream(
                         getExportService().exportCsvFixed(getEntityModel(), getExportMode(), itemsSupplier.get()))),
-                () -> getEntityModel().getDisplayNamePlural(VaadinUtils.getLocale()) + "_" + LocalDateTime.now()
-                        + EXTENSION_CSV);
+                () -> createFileName(EXTENSION_CSV));
     }
 
     @Override
@@ -71,8 +68,19 @@ public class FixedExportDialog<ID extends Serializable, T extends AbstractEntity
         return new DownloadButton(message("ocs.export.excel"), getProgressBar(),
                 () -> download(() -> new ByteArrayInputStream(getExportService().exportExcelFixed(getEntityModel(),
                         getExportMode(), customGenerator, itemsSupplier.get()))),
-                () -> getEntityModel().getDisplayNamePlural(VaadinUtils.getLocale()) + "_" + LocalDateTime.now()
-                        + EXTENSION_XLS);
+                () -> createFileName(EXTENSION_XLS));
+    }
+
+    @Override
+    protected ExportJob submitCsvJob() {
+        return getExportJobService().exportCsvFixed(createFileName(EXTENSION_CSV), getEntityModel(),
+                getExportMode(), itemsSupplier.get());
+    }
+
+    @Override
+    protected ExportJob submitExcelJob() {
+        return getExportJobService().exportExcelFixed(createFileName(EXTENSION_XLS), getEntityModel(),
+                getExportMode(), customGenerator, itemsSupplier.get());
     }
 
 }
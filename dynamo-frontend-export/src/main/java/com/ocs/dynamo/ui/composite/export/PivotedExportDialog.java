@@ -15,7 +15,6 @@ package com.ocs.dynamo.ui.composite.export;
 
 import java.io.ByteArrayInputStream;
 import java.io.Serializable;
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.function.Supplier;
 
@@ -24,7 +23,6 @@ import com.ocs.dynamo.domain.AbstractEntity;
 import com.ocs.dynamo.domain.model.EntityModel;
 import com.ocs.dynamo.ui.component.DownloadButton;
 import com.ocs.dynamo.ui.composite.type.ExportMode;
-import com.ocs.dynamo.ui.utils.VaadinUtils;
 import com.vaadin.flow.data.provider.SortOrder;
 import com.vaadin.flow.function.SerializablePredicate;
 
@@ -78,8 +76,7 @@ public class PivotedExportDialog<ID extends Serializable, T extends AbstractEnti
         return new DownloadButton(message("ocs.export.csv"), getProgressBar(),
                 () -> download(() -> new ByteArrayInputStream(getExportService().exportCsvPivot(getEntityModel(),
                         predicate, sortOrders, pivotParameters, joins))),
-                () -> getEntityModel().getDisplayNamePlural(VaadinUtils.getLocale()) + "_" + LocalDateTime.now()
-                        + EXTENSION_CSV);
+                () -> createFileName(EXTENSION_CSV));
     }
 
     @Override
@@ -87,8 +84,19 @@ public class PivotedExportDialog<ID extends Serializable, T extends AbstractEnti
         return new DownloadButton(message("ocs.export.excel"), getProgressBar(),
                 () -> download(() -> new ByteArrayInputStream(getExportService().exportExcelPivot(getEntityModel(),
                         predicate, sortOrders, customGenerator, pivotParameters, joins))),
-                () -> getEntityModel().getDisplayNamePlural(VaadinUtils.getLocale()) + "_" + LocalDateTime.now()
-                        + EXTENSION_XLS);
+                () -> createFileName(EXTENSION_XLS));
+    }
+
+    @Override
+    protected ExportJob submitCsvJob() {
+        return getExportJobService().exportCsvPivot(createFileName(EXTENSION_CSV), getEntityModel(), predicate,
+                sortOrders, pivotParameters, joins);
+    }
+
+    @Override
+    protected ExportJob submitExcelJob() {
+        return getExportJobService().exportExcelPivot(createFileName(EXTENSION_XLS), getEntityModel(), predicate,
+                sortOrders, customGenerator, pivotParameters, joins);
     }
 
 }
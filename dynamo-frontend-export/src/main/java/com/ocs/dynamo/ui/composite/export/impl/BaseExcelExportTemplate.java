@@ -13,6 +13,8 @@
  */
 package com.ocs.dynamo.ui.composite.export.impl;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -37,11 +39,12 @@ import com.ocs.dynamo.domain.model.AttributeModel;
 import com.ocs.dynamo.domain.model.EntityModel;
 import com.ocs.dynamo.filter.Filter;
 import com.ocs.dynamo.service.BaseService;
+import com.ocs.dynamo.ui.composite.export.CellStyleSpec;
 import com.ocs.dynamo.ui.composite.export.CustomXlsStyleGenerator;
+import com.ocs.dynamo.ui.composite.export.CustomXlsStyleSpecGenerator;
 import com.ocs.dynamo.ui.composite.export.XlsStyleGenerator;
 import com.ocs.dynamo.ui.composite.type.ExportMode;
 import com.ocs.dynamo.ui.utils.GridFormatUtils;
-import com.ocs.dynamo.ui.utils.VaadinUtils;
 import com.ocs.dynamo.util.SystemPropertyUtils;
 import com.ocs.dynamo.utils.DateUtils;
 import com.ocs.dynamo.utils.MathUtils;
@@ -77,6 +80,17 @@ public abstract class BaseExcelExportTemplate<ID extends Serializable, T extends
 	@Setter
 	private Workbook workbook;
 
+	/**
+	 * Cache of the custom cell styles that were created for the current workbook
+	 */
+	private CellStyleCache cellStyleCache;
+
+	/**
+	 * Keeps track of the widest value per column while the rows are written
+	 */
+	@Getter
+	private final ColumnWidthEstimator columnWidthEstimator = new ColumnWidthEstimator(getLocale());
+
 	/**
 	 * Constructor
 	 * @param service the database service
@@ -96,12 +110,15 @@ public abstract class BaseExcelExportTemplate<ID extends Serializable, T extends
 	}
 
 	/**
-	 * Indicates whether it is possible to resize the columns
+	 * Indicates whether to size the columns based on their contents. Since the
+	 * widths are estimated while the rows are written, this also works for
+	 * streaming workbooks. Override to return <code>false</code> to use a fixed
+	 * column width instead
 	 *
 	 * @return whether resizing is possible
 	 */
 	protected boolean canResize() {
-		return !(getWorkbook() instanceof SXSSFWorkbook);
+		return true;
 	}
 
 	/**
@@ -129,8 +146,15 @@ public abstract class BaseExcelExportTemplate<ID extends Serializable, T extends
 	protected Cell createCell(Row row, int colIndex, T entity, Object value, AttributeModel attributeModel,
 			Object pivotColumnKey) {
 		Cell cell = row.createCell(colIndex);
-		cell.setCellStyle(getGenerator().getCellStyle(colIndex, entity, value, attributeModel));
-		if (customGenerator != null) {
+		CellStyle style = getGenerator().getCellStyle(colIndex, entity, value, attributeModel);
+		cell.setCellStyle(style);
+		if (customGenerator instanceof CustomXlsStyleSpecGenerator<ID, T> specGenerator) {
+			// intern the custom style so that every distinct style is created only once
+			CellStyleSpec spec = specGenerator.getCellStyleSpec(entity, value, attributeModel, pivotColumnKey);
+			if (spec != null) {
+				cell.setCellStyle(getCellStyleCache().getStyle(style, spec));
+			}
+		} else if (customGenerator != null) {
 			// override default style with custom style
 			CellStyle custom = customGenerator.getCustomCellStyle(workbook, entity, value, attributeModel,
 					pivotColumnKey);
@@ -141,6 +165,19 @@ public abstract class BaseExcelExportTemplate<ID extends Serializable, T extends
 		return cell;
 	}
 
+	/**
+	 * Returns the cache used for creating custom cell styles for the current
+	 * workbook
+	 * 
+	 * @return the cache
+	 */
+	protected CellStyleCache getCellStyleCache() {
+		if (cellStyleCache == null || cellStyleCache.getWorkbook() != workbook) {
+			cellStyleCache = new CellStyleCache(workbook);
+		}
+		return cellStyleCache;
+	}
+
 	/**
 	 * Creates a workbook. This will use a different type of work book depending on
 	 * the size of the export set
@@ -156,18 +193,45 @@ public abstract class BaseExcelExportTemplate<ID extends Serializable, T extends
 	}
 
 	/**
-	 * Resizes all columns on a sheet if possible
+	 * Writes the workbook to a stream and releases the resources that are held
+	 * by the workbook (e.g. the temporary files of a streaming workbook)
+	 * 
+	 * @param out the stream to write to
+	 * @throws IOException when the workbook cannot be written
+	 */
+	protected void writeWorkbook(OutputStream out) throws IOException {
+		try {
+			workbook.write(out);
+		} finally {
+			if (workbook instanceof SXSSFWorkbook streaming) {
+				streaming.dispose();
+			}
+		}
+	}
+
+	/**
+	 * Resizes all columns on a sheet (if possible) based on the widths that were
+	 * registered while the rows were written
 	 *
 	 * @param sheet the sheet
 	 */
 	protected void resizeColumns(Sheet sheet) {
 		if (canResize()) {
-			for (int i = 0; i < sheet.getRow(0).getLastCellNum(); i++) {
-				sheet.autoSizeColumn(i);
-			}
+			columnWidthEstimator.apply(sheet);
 		}
 	}
 
+	/**
+	 * Registers the value of a cell for determining the column width. Must be
+	 * called for every cell that is not written using
+	 * {@link #writeCellValue(Cell, Object, EntityModel, AttributeModel, boolean)}
+	 *
+	 * @param cell the cell
+	 */
+	protected void trackWidth(Cell cell) {
+		columnWidthEstimator.track(cell);
+	}
+
 	protected void writeCellValue(Cell cell, Object value, EntityModel<T> em, AttributeModel am,
 			boolean forcePercentage) {
 		if (NumberUtils.isInteger(value) || NumberUtils.isLong(value)) {
@@ -183,12 +247,13 @@ public abstract class BaseExcelExportTemplate<ID extends Serializable, T extends
 			writeDecimalCellValue(cell, value, am, forcePercentage);
 		} else if (am != null) {
 			// use the attribute model
-			String str = GridFormatUtils.formatPropertyValue(am, value, ", ", VaadinUtils.getLocale(),
-					VaadinUtils.getTimeZoneId(), VaadinUtils.getCurrencySymbol());
+			String str = GridFormatUtils.formatPropertyValue(am, value, ", ", getLocale(),
+					getZoneId(), getCurrencySymbol());
 			cell.setCellValue(str);
 		} else if (value != null) {
 			cell.setCellValue(value.toString());
 		}
+		trackWidth(cell);
 	}
 
 	/**
@@ -13,9 +13,13 @@
  */
 package com.ocs.dynamo.ui.composite.export.impl;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Locale;
 
 import com.ocs.dynamo.constants.DynamoConstants;
 import com.ocs.dynamo.dao.FetchJoinInformation;
@@ -34,10 +38,13 @@ import com.ocs.dynamo.exception.OCSRuntimeException;
 import com.ocs.dynamo.filter.Filter;
 import com.ocs.dynamo.service.BaseService;
 import com.ocs.dynamo.service.ServiceLocatorFactory;
+import com.ocs.dynamo.ui.composite.export.ExportProgressListener;
 import com.ocs.dynamo.ui.composite.type.ExportMode;
+import com.ocs.dynamo.ui.utils.VaadinUtils;
 
 import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.Setter;
 
 /**
  * Base class for entity model based exports to Excel or CSV
@@ -75,6 +82,27 @@ public abstract class BaseExportTemplate<ID extends Serializable, T extends Abst
     @Getter(AccessLevel.PROTECTED)
     private final ExportMode exportMode;
 
+    /**
+     * The locale, time zone and currency symbol are resolved when the template is
+     * created so that the export can also be carried out outside the UI thread
+     */
+    @Getter(AccessLevel.PROTECTED)
+    private final Locale locale = VaadinUtils.getLocale();
+
+    @Getter(AccessLevel.PROTECTED)
+    private final ZoneId zoneId = VaadinUtils.getTimeZoneId();
+
+    @Getter(AccessLevel.PROTECTED)
+    private final String currencySymbol = VaadinUtils.getCurrencySymbol();
+
+    /**
+     * Optional listener that is notified about the number of rows that have been
+     * exported
+     */
+    @Getter
+    @Setter
+    private ExportProgressListener progressListener;
+
     /**
      * Constructor
      *
@@ -103,10 +131,11 @@ public abstract class BaseExportTemplate<ID extends Serializable, T extends Abst
      * Generates the content to export
      *
      * @param iterator data set iterator that contains the rows to include
-     * @return the byte representation of the exported data
+     * @param out      the stream to write the exported data to. The stream is not
+     *                 closed
      * @throws IOException when the data cannot be written
      */
-    protected abstract byte[] generate(DataSetIterator<ID, T> iterator) throws IOException;
+    protected abstract void generate(DataSetIterator<ID, T> iterator, OutputStream out) throws IOException;
 
     /**
      * Check whether a certain attribute model must be included in the export
@@ -126,12 +155,23 @@ public abstract class BaseExportTemplate<ID extends Serializable, T extends Abst
      * @return the byte representation of the export
      */
     public final byte[] process() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        process(out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Carries out the export and writes the result directly to a stream
+     *
+     * @param out the stream to write to. The stream is not closed
+     */
+    public final void process(OutputStream out) {
         try {
             // retrieve all store series based on the IDs
             List<ID> ids = service.findIds(getFilter(), sortOrders);
             PagingDataSetIterator<ID, T> iterator = new PagingDataSetIterator<>(ids,
                     page -> service.fetchByIds(page, new SortOrders(sortOrders), joins), PAGE_SIZE);
-            return generate(iterator);
+            generate(track(iterator), out);
         } catch (IOException ex) {
             throw new OCSRuntimeException(ex.getMessage(), ex);
         }
@@ -144,13 +184,56 @@ public abstract class BaseExportTemplate<ID extends Serializable, T extends Abst
      * @return the byte representation
      */
     public final byte[] processFixed(List<T> items) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        processFixed(items, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Processes a fixed set of data and writes the result directly to a stream
+     *
+     * @param items the set of data to process
+     * @param out   the stream to write to. The stream is not closed
+     */
+    public final void processFixed(List<T> items, OutputStream out) {
         try {
-            // retrieve all store series based on the IDs
             FixedDataSetIterator<ID, T> iterator = new FixedDataSetIterator<>(items);
-            return generate(iterator);
+            generate(track(iterator), out);
         } catch (IOException ex) {
             throw new OCSRuntimeException(ex.getMessage(), ex);
         }
     }
 
+    /**
+     * Wraps the provided iterator so that the progress listener (if any) is
+     * informed about every row that is handed out
+     *
+     * @param iterator the iterator to wrap
+     * @return the wrapped iterator
+     */
+    private DataSetIterator<ID, T> track(DataSetIterator<ID, T> iterator) {
+        if (progressListener == null) {
+            return iterator;
+        }
+        progressListener.onProgress(0, iterator.size());
+        return new DataSetIterator<>() {
+
+            private int rowsDone;
+
+            @Override
+            public T next() {
+                T next = iterator.next();
+                if (next != null) {
+                    progressListener.onProgress(++rowsDone, iterator.size());
+                }
+                return next;
+            }
+
+            @Override
+            public int size() {
+                return iterator.size();
+            }
+        };
+    }
+
 }
@@ -0,0 +1,172 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.composite.export.impl;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Workbook;
+
+import com.ocs.dynamo.ui.composite.export.CellStyleSpec;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache that creates a cell style for every distinct combination of a default
+ * style and a style specification only once per workbook. The number of
+ * styles is bounded, once the limit is reached the default style is used for
+ * any new combination
+ * 
+ * @author Bas Rutten
+ *
+ */
+@Slf4j
+public class CellStyleCache {
+
+	/**
+	 * The default maximum number of cell styles created by the cache. Excel
+	 * supports at most 64000 cell styles per workbook
+	 */
+	public static final int DEFAULT_MAX_STYLES = 4000;
+
+	@Getter
+	private final Workbook workbook;
+
+	private final int maxStyles;
+
+	private final Map<StyleKey, CellStyle> styles = new HashMap<>();
+
+	private final Map<FontKey, Font> fonts = new HashMap<>();
+
+	private boolean limitReached;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param workbook the workbook in which to create the styles
+	 */
+	public CellStyleCache(Workbook workbook) {
+		this(workbook, DEFAULT_MAX_STYLES);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param workbook  the workbook in which to create the styles
+	 * @param maxStyles the maximum number of styles to create
+	 */
+	public CellStyleCache(Workbook workbook, int maxStyles) {
+		this.workbook = workbook;
+		this.maxStyles = maxStyles;
+	}
+
+	/**
+	 * Returns the cell style for a specification, creating it if needed
+	 * 
+	 * @param base the default style of the cell. Can be null
+	 * @param spec the style specification
+	 * @return the cell style
+	 */
+	public CellStyle getStyle(CellStyle base, CellStyleSpec spec) {
+		if (spec == null) {
+			return base;
+		}
+
+		StyleKey key = new StyleKey(base == null ? -1 : base.getIndex(), spec);
+		CellStyle style = styles.get(key);
+		if (style == null) {
+			if (styles.size() >= maxStyles) {
+				if (!limitReached) {
+					log.warn("Maximum number of {} custom cell styles reached, using default styles", maxStyles);
+					limitReached = true;
+				}
+				return base;
+			}
+			style = createStyle(base, spec);
+			styles.put(key, style);
+		}
+		return style;
+	}
+
+	/**
+	 * Returns the number of styles that were created
+	 * 
+	 * @return the number of styles
+	 */
+	public int size() {
+		return styles.size();
+	}
+
+	private CellStyle createStyle(CellStyle base, CellStyleSpec spec) {
+		CellStyle style = workbook.createCellStyle();
+		if (base != null) {
+			style.cloneStyleFrom(base);
+		}
+
+		if (spec.hasFont()) {
+			Font baseFont = workbook.getFontAt(style.getFontIndex());
+			style.setFont(getFont(baseFont, spec));
+		}
+		if (spec.getFillColor() != null) {
+			style.setFillForegroundColor(spec.getFillColor());
+			style.setFillPattern(
+					spec.getFillPattern() == null ? FillPatternType.SOLID_FOREGROUND : spec.getFillPattern());
+		} else if (spec.getFillPattern() != null) {
+			style.setFillPattern(spec.getFillPattern());
+		}
+		if (spec.getBorder() != null) {
+			style.setBorderBottom(spec.getBorder());
+			style.setBorderTop(spec.getBorder());
+			style.setBorderLeft(spec.getBorder());
+			style.setBorderRight(spec.getBorder());
+		}
+		if (spec.getAlignment() != null) {
+			style.setAlignment(spec.getAlignment());
+		}
+		if (spec.getDataFormat() != null) {
+			style.setDataFormat(workbook.createDataFormat().getFormat(spec.getDataFormat()));
+		}
+		if (spec.getWrapText() != null) {
+			style.setWrapText(spec.getWrapText());
+		}
+		return style;
+	}
+
+	private Font getFont(Font baseFont, CellStyleSpec spec) {
+		boolean bold = spec.getBold() != null ? spec.getBold() : baseFont.getBold();
+		boolean italic = spec.getItalic() != null ? spec.getItalic() : baseFont.getItalic();
+		short color = spec.getFontColor() != null ? spec.getFontColor() : baseFont.getColor();
+		short height = spec.getFontHeight() != null ? spec.getFontHeight() : baseFont.getFontHeightInPoints();
+
+		return fonts.computeIfAbsent(new FontKey(baseFont.getFontName(), bold, italic, color, height), k -> {
+			Font font = workbook.createFont();
+			font.setFontName(baseFont.getFontName());
+			font.setBold(bold);
+			font.setItalic(italic);
+			font.setColor(color);
+			font.setFontHeightInPoints(height);
+			return font;
+		});
+	}
+
+	private record StyleKey(int baseIndex, CellStyleSpec spec) {
+	}
+
+	private record FontKey(String name, boolean bold, boolean italic, short color, short height) {
+	}
+}
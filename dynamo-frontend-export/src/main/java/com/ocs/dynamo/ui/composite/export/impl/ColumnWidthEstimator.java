@@ -0,0 +1,175 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.composite.export.impl;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+
+/**
+ * Estimates the widths of the columns of an Excel sheet by keeping track of the
+ * length of the longest value in every column while the rows are being written.
+ * This avoids having to measure every cell using font metrics afterwards, and
+ * also works for streaming workbooks in which most of the rows have already
+ * been flushed to disk by the time the sheet is complete
+ * 
+ * @author Bas Rutten
+ *
+ */
+public class ColumnWidthEstimator {
+
+	/**
+	 * The font size (in points) that corresponds to a character width of 1
+	 */
+	private static final double DEFAULT_FONT_SIZE = 11.0;
+
+	/**
+	 * Correction factor for bold fonts
+	 */
+	private static final double BOLD_FACTOR = 1.1;
+
+	/**
+	 * Estimated number of characters used to display the result of a formula
+	 */
+	private static final int FORMULA_LENGTH = 10;
+
+	/**
+	 * Number of characters to add as padding
+	 */
+	private static final int PADDING = 2;
+
+	/**
+	 * The maximum column width allowed by Excel (in units of 1/256th of a
+	 * character)
+	 */
+	private static final int MAX_WIDTH = 255 * 256;
+
+	private final DataFormatter formatter;
+
+	/**
+	 * The widest value per column, in (scaled) characters
+	 */
+	private double[] maxWidths = new double[16];
+
+	/**
+	 * Width scale factor per cell style index
+	 */
+	private final Map<Integer, Double> scaleFactors = new HashMap<>();
+
+	/**
+	 * Constructor
+	 * 
+	 * @param locale the locale used to format numeric values
+	 */
+	public ColumnWidthEstimator(Locale locale) {
+		this.formatter = new DataFormatter(locale);
+	}
+
+	/**
+	 * Registers the value of a cell
+	 * 
+	 * @param cell the cell
+	 */
+	public void track(Cell cell) {
+		if (cell == null) {
+			return;
+		}
+		int length = switch (cell.getCellType()) {
+			case STRING -> longestLine(cell.getStringCellValue());
+			case NUMERIC -> formatter.formatCellValue(cell).length();
+			case BOOLEAN -> Boolean.toString(cell.getBooleanCellValue()).length();
+			case FORMULA -> FORMULA_LENGTH;
+			default -> 0;
+		};
+		if (length > 0) {
+			track(cell.getColumnIndex(), length * getScaleFactor(cell));
+		}
+	}
+
+	/**
+	 * Registers the width of a value in a certain column
+	 * 
+	 * @param column the index of the column
+	 * @param width  the width in characters
+	 */
+	public void track(int column, double width) {
+		if (column >= maxWidths.length) {
+			maxWidths = Arrays.copyOf(maxWidths, Math.max(column + 1, maxWidths.length * 2));
+		}
+		maxWidths[column] = Math.max(maxWidths[column], width);
+	}
+
+	/**
+	 * Returns the estimated width of a column
+	 * 
+	 * @param column the index of the column
+	 * @return the width in units of 1/256th of a character, or -1 if no values
+	 *         were registered for the column
+	 */
+	public int getWidth(int column) {
+		if (column >= maxWidths.length || maxWidths[column] == 0) {
+			return -1;
+		}
+		return (int) Math.min(MAX_WIDTH, Math.ceil((maxWidths[column] + PADDING) * 256));
+	}
+
+	/**
+	 * Applies the estimated widths to the columns of a sheet
+	 * 
+	 * @param sheet the sheet
+	 */
+	public void apply(Sheet sheet) {
+		for (int i = 0; i < maxWidths.length; i++) {
+			int width = getWidth(i);
+			if (width > 0) {
+				sheet.setColumnWidth(i, width);
+			}
+		}
+	}
+
+	private double getScaleFactor(Cell cell) {
+		CellStyle style = cell.getCellStyle();
+		if (style == null) {
+			return 1.0;
+		}
+		return scaleFactors.computeIfAbsent(style.getIndex() & 0xffff, index -> {
+			Workbook workbook = cell.getSheet().getWorkbook();
+			Font font = workbook.getFontAt(style.getFontIndex());
+			double factor = font.getFontHeightInPoints() / DEFAULT_FONT_SIZE;
+			return font.getBold() ? factor * BOLD_FACTOR : factor;
+		});
+	}
+
+	private static int longestLine(String value) {
+		int longest = 0;
+		int current = 0;
+		for (int i = 0; i < value.length(); i++) {
+			if (value.charAt(i) == '\n') {
+				longest = Math.max(longest, current);
+				current = 0;
+			} else {
+				current++;
+			}
+		}
+		return Math.max(longest, current);
+	}
+}
@@ -28,12 +28,15 @@ import com.ocs.dynamo.domain.AbstractEntity;
 import com.ocs.dynamo.domain.model.EntityModel;
 import com.ocs.dynamo.ui.composite.export.CustomXlsStyleGenerator;
 import com.ocs.dynamo.ui.composite.export.ExportDelegate;
+import com.ocs.dynamo.ui.composite.export.BaseExportDialog;
 import com.ocs.dynamo.ui.composite.export.ExportDialog;
+import com.ocs.dynamo.ui.composite.export.ExportJobService;
 import com.ocs.dynamo.ui.composite.export.ExportService;
 import com.ocs.dynamo.ui.composite.export.FixedExportDialog;
 import com.ocs.dynamo.ui.composite.export.PivotParameters;
 import com.ocs.dynamo.ui.composite.export.PivotedExportDialog;
 import com.ocs.dynamo.ui.composite.type.ExportMode;
+import com.ocs.dynamo.util.SystemPropertyUtils;
 import com.vaadin.flow.data.provider.SortOrder;
 import com.vaadin.flow.function.SerializablePredicate;
 
@@ -53,6 +56,9 @@ public class ExportDelegateImpl implements ExportDelegate {
 	@Autowired
 	private ExportService exportService;
 
+	@Autowired(required = false)
+	private ExportJobService exportJobService;
+
 	/**
 	 * Adds a mapping between an entity model and a custom style generator
 	 *
@@ -70,7 +76,7 @@ public class ExportDelegateImpl implements ExportDelegate {
 			FetchJoinInformation... joins) {
 		ExportDialog<ID, T> dialog = new ExportDialog<>(exportService, entityModel, mode, predicate, sortOrders,
 				(Supplier) customStyleMap.get(entityModel), joins);
-		dialog.buildAndOpen();
+		open(dialog);
 	}
 
 	@Override
@@ -79,7 +85,7 @@ public class ExportDelegateImpl implements ExportDelegate {
 			ExportMode mode, Collection<T> items) {
 		FixedExportDialog<ID, T> dialog = new FixedExportDialog<>(exportService, entityModel, mode,
 				(Supplier) customStyleMap.get(entityModel), () -> new ArrayList<>(items));
-		dialog.buildAndOpen();
+		open(dialog);
 	}
 
 	@Override
@@ -89,6 +95,18 @@ public class ExportDelegateImpl implements ExportDelegate {
 			FetchJoinInformation... joins) {
 		PivotedExportDialog<ID, T> dialog = new PivotedExportDialog<>(exportService, entityModel, predicate, sortOrders,
 				(Supplier) customStyleMap.get(entityModel), pivotParameters, joins);
+		open(dialog);
+	}
+
+	/**
+	 * Opens an export dialog, switching it to background mode if configured
+	 *
+	 * @param dialog the dialog to open
+	 */
+	private void open(BaseExportDialog<?, ?> dialog) {
+		if (exportJobService != null && SystemPropertyUtils.isExportInBackground()) {
+			dialog.setExportJobService(exportJobService);
+		}
 		dialog.buildAndOpen();
 	}
 
@@ -0,0 +1,197 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.composite.export.impl;
+
+import java.io.BufferedOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import com.ocs.dynamo.dao.FetchJoinInformation;
+import com.ocs.dynamo.domain.AbstractEntity;
+import com.ocs.dynamo.domain.model.EntityModel;
+import com.ocs.dynamo.exception.OCSRuntimeException;
+import com.ocs.dynamo.ui.composite.export.CustomXlsStyleGenerator;
+import com.ocs.dynamo.ui.composite.export.ExportFileStore;
+import com.ocs.dynamo.ui.composite.export.ExportJob;
+import com.ocs.dynamo.ui.composite.export.ExportJobService;
+import com.ocs.dynamo.ui.composite.export.PivotParameters;
+import com.ocs.dynamo.ui.composite.type.ExportMode;
+import com.ocs.dynamo.util.SystemPropertyUtils;
+import com.vaadin.flow.data.provider.SortOrder;
+import com.vaadin.flow.function.SerializablePredicate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Implementation of the export job service. Exports are carried out on a
+ * bounded thread pool and the results are written to an export file store
+ * 
+ * @author Bas Rutten
+ *
+ */
+@Slf4j
+public class ExportJobServiceImpl implements ExportJobService {
+
+	/**
+	 * The maximum number of jobs that can wait for a free thread
+	 */
+	private static final int MAX_QUEUED_JOBS = 100;
+
+	private final ExportFileStore fileStore;
+
+	private final ExecutorService executor;
+
+	/**
+	 * Constructor that uses the thread pool size from the system properties
+	 * 
+	 * @param fileStore the store in which to write the export results
+	 */
+	public ExportJobServiceImpl(ExportFileStore fileStore) {
+		this(fileStore, SystemPropertyUtils.getExportThreadPoolSize());
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param fileStore the store in which to write the export results
+	 * @param threads   the maximum number of exports that can run at the same time
+	 */
+	public ExportJobServiceImpl(ExportFileStore fileStore, int threads) {
+		this.fileStore = fileStore;
+		AtomicInteger counter = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<>(MAX_QUEUED_JOBS), runnable -> {
+					Thread thread = new Thread(runnable, "dynamo-export-" + counter.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				});
+	}
+
+	@Override
+	public <ID extends Serializable, T extends AbstractEntity<ID>> ExportJob exportCsv(String fileName,
+			EntityModel<T> entityModel, ExportMode mode, SerializablePredicate<T> predicate,
+			List<SortOrder<?>> sortOrders, FetchJoinInformation... joins) {
+		ModelBasedCsvExportTemplate<ID, T> template = ExportTemplateFactory.createCsvTemplate(entityModel, mode,
+				predicate, sortOrders, joins);
+		return submit(fileName, template, template::process);
+	}
+
+	@Override
+	public <ID extends Serializable, T extends AbstractEntity<ID>> ExportJob exportCsvFixed(String fileName,
+			EntityModel<T> entityModel, ExportMode mode, List<T> items) {
+		ModelBasedCsvExportTemplate<ID, T> template = ExportTemplateFactory.createCsvFixedTemplate(entityModel,
+				mode);
+		return submit(fileName, template, out -> template.processFixed(items, out));
+	}
+
+	@Override
+	public <ID extends Serializable, T extends AbstractEntity<ID>> ExportJob exportCsvPivot(String fileName,
+			EntityModel<T> entityModel, SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders,
+			PivotParameters pivotParameters, FetchJoinInformation... joins) {
+		ModelBasedCsvPivotExportTemplate<ID, T> template = ExportTemplateFactory.createCsvPivotTemplate(entityModel,
+				predicate, sortOrders, pivotParameters, joins);
+		return submit(fileName, template, template::process);
+	}
+
+	@Override
+	public <ID extends Serializable, T extends AbstractEntity<ID>> ExportJob exportExcel(String fileName,
+			EntityModel<T> entityModel, ExportMode mode, SerializablePredicate<T> predicate,
+			List<SortOrder<?>> sortOrders, Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator,
+			FetchJoinInformation... joins) {
+		ModelBasedExcelExportTemplate<ID, T> template = ExportTemplateFactory.createExcelTemplate(entityModel, mode,
+				predicate, sortOrders, customGenerator, joins);
+		return submit(fileName, template, template::process);
+	}
+
+	@Override
+	public <ID extends Serializable, T extends AbstractEntity<ID>> ExportJob exportExcelFixed(String fileName,
+			EntityModel<T> entityModel, ExportMode mode, Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator,
+			List<T> items) {
+		ModelBasedExcelExportTemplate<ID, T> template = ExportTemplateFactory.createExcelFixedTemplate(entityModel,
+				mode, customGenerator);
+		return submit(fileName, template, out -> template.processFixed(items, out));
+	}
+
+	@Override
+	public <ID extends Serializable, T extends AbstractEntity<ID>> ExportJob exportExcelPivot(String fileName,
+			EntityModel<T> entityModel, SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders,
+			Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator, PivotParameters pivotParameters,
+			FetchJoinInformation... joins) {
+		ModelBasedExcelPivotExportTemplate<ID, T> template = ExportTemplateFactory.createExcelPivotTemplate(
+				entityModel, predicate, sortOrders, customGenerator, pivotParameters, joins);
+		return submit(fileName, template, template::process);
+	}
+
+	@Override
+	public InputStream openResult(ExportJob job) {
+		if (job.getStatus() != ExportJob.Status.COMPLETED) {
+			throw new OCSRuntimeException(String.format("Export job [%s] has not completed", job.getId()));
+		}
+		return fileStore.open(job.getId());
+	}
+
+	/**
+	 * Stops the thread pool, interrupting any exports that are still running
+	 */
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Submits an export to the thread pool. The export is written directly to the
+	 * file store, so that the result does not have to be kept in memory
+	 * 
+	 * @param fileName the name of the file that is offered for download
+	 * @param template the template that carries out the export
+	 * @param export   the code that carries out the export and writes the result to
+	 *                 the provided stream
+	 * @return the job
+	 */
+	private ExportJob submit(String fileName, BaseExportTemplate<?, ?> template, Consumer<OutputStream> export) {
+		fileStore.evictExpired();
+
+		ExportJob job = new ExportJob(UUID.randomUUID().toString(), fileName);
+		template.setProgressListener(job);
+		try {
+			executor.execute(() -> {
+				try (OutputStream out = new BufferedOutputStream(fileStore.openOutput(job.getId()))) {
+					export.accept(out);
+				} catch (Throwable ex) {
+					// also catch errors (e.g. running out of memory), so that the job does not
+					// remain running forever and the partial file is removed
+					log.error(ex.getMessage(), ex);
+					fileStore.remove(job.getId());
+					job.fail(ex);
+					return;
+				}
+				job.complete();
+			});
+		} catch (RejectedExecutionException ex) {
+			log.warn("Export [{}] rejected, too many exports in progress", fileName);
+			job.fail(ex);
+		}
+		return job;
+	}
+}
@@ -22,16 +22,10 @@ import org.springframework.stereotype.Service;
 import com.ocs.dynamo.dao.FetchJoinInformation;
 import com.ocs.dynamo.domain.AbstractEntity;
 import com.ocs.dynamo.domain.model.EntityModel;
-import com.ocs.dynamo.filter.Filter;
-import com.ocs.dynamo.filter.FilterConverter;
-import com.ocs.dynamo.service.BaseService;
-import com.ocs.dynamo.service.ServiceLocatorFactory;
 import com.ocs.dynamo.ui.composite.export.CustomXlsStyleGenerator;
 import com.ocs.dynamo.ui.composite.export.ExportService;
 import com.ocs.dynamo.ui.composite.export.PivotParameters;
 import com.ocs.dynamo.ui.composite.type.ExportMode;
-import com.ocs.dynamo.ui.utils.SortUtils;
-import com.ocs.dynamo.ui.utils.VaadinUtils;
 import com.vaadin.flow.data.provider.SortOrder;
 import com.vaadin.flow.function.SerializablePredicate;
 
@@ -45,78 +39,55 @@ import com.vaadin.flow.function.SerializablePredicate;
 public class ExportServiceImpl implements ExportService {
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public <ID extends Serializable, T extends AbstractEntity<ID>> byte[] exportCsv(EntityModel<T> entityModel,
 			ExportMode mode, SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders,
 			FetchJoinInformation... joins) {
-		BaseService<ID, T> service = (BaseService<ID, T>) ServiceLocatorFactory.getServiceLocator()
-				.getServiceForEntity(entityModel.getEntityClass());
-		FilterConverter<T> converter = new FilterConverter<>(entityModel);
-		Filter filter = converter.convert(predicate);
-
-		ModelBasedCsvExportTemplate<ID, T> template = new ModelBasedCsvExportTemplate<>(service, entityModel, mode,
-				SortUtils.translateSortOrders(sortOrders), filter, joins);
+		ModelBasedCsvExportTemplate<ID, T> template = ExportTemplateFactory.createCsvTemplate(entityModel, mode,
+				predicate, sortOrders, joins);
 		return template.process();
 	}
 
 	@Override
 	public <ID extends Serializable, T extends AbstractEntity<ID>> byte[] exportCsvFixed(EntityModel<T> entityModel,
 			ExportMode mode, List<T> items) {
-		ModelBasedCsvExportTemplate<ID, T> template = new ModelBasedCsvExportTemplate<>(null, entityModel, mode, null,
-				null);
+		ModelBasedCsvExportTemplate<ID, T> template = ExportTemplateFactory.createCsvFixedTemplate(entityModel,
+				mode);
 		return template.processFixed(items);
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public <ID extends Serializable, T extends AbstractEntity<ID>> byte[] exportExcel(EntityModel<T> entityModel,
 			ExportMode mode, SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders,
 			Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator, FetchJoinInformation... joins) {
-		BaseService<ID, T> service = (BaseService<ID, T>) ServiceLocatorFactory.getServiceLocator()
-				.getServiceForEntity(entityModel.getEntityClass());
-		FilterConverter<T> converter = new FilterConverter<>(entityModel);
-		Filter filter = converter.convert(predicate);
-		ModelBasedExcelExportTemplate<ID, T> template = new ModelBasedExcelExportTemplate<>(service, entityModel, mode,
-				SortUtils.translateSortOrders(sortOrders), filter,
-				entityModel.getDisplayNamePlural(VaadinUtils.getLocale()), customGenerator, joins);
+		ModelBasedExcelExportTemplate<ID, T> template = ExportTemplateFactory.createExcelTemplate(entityModel, mode,
+				predicate, sortOrders, customGenerator, joins);
 		return template.process();
 	}
 
 	@Override
 	public <ID extends Serializable, T extends AbstractEntity<ID>> byte[] exportExcelFixed(EntityModel<T> entityModel,
 			ExportMode mode, Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator, List<T> items) {
-		ModelBasedExcelExportTemplate<ID, T> template = new ModelBasedExcelExportTemplate<>(null, entityModel, mode,
-				null, null, entityModel.getDisplayNamePlural(VaadinUtils.getLocale()), customGenerator);
+		ModelBasedExcelExportTemplate<ID, T> template = ExportTemplateFactory.createExcelFixedTemplate(entityModel,
+				mode, customGenerator);
 		return template.processFixed(items);
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public <ID extends Serializable, T extends AbstractEntity<ID>> byte[] exportExcelPivot(EntityModel<T> entityModel,
 			SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders,
 			Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator, PivotParameters pivotParameters,
 			FetchJoinInformation... joins) {
-		BaseService<ID, T> service = (BaseService<ID, T>) ServiceLocatorFactory.getServiceLocator()
-				.getServiceForEntity(entityModel.getEntityClass());
-		FilterConverter<T> converter = new FilterConverter<>(entityModel);
-		Filter filter = converter.convert(predicate);
-		ModelBasedExcelPivotExportTemplate<ID, T> template = new ModelBasedExcelPivotExportTemplate<>(service,
-				entityModel, SortUtils.translateSortOrders(sortOrders), filter,
-				entityModel.getDisplayNamePlural(VaadinUtils.getLocale()), customGenerator, pivotParameters, joins);
+		ModelBasedExcelPivotExportTemplate<ID, T> template = ExportTemplateFactory.createExcelPivotTemplate(
+				entityModel, predicate, sortOrders, customGenerator, pivotParameters, joins);
 		return template.process();
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public <ID extends Serializable, T extends AbstractEntity<ID>> byte[] exportCsvPivot(EntityModel<T> entityModel,
 			SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders, PivotParameters pivotParameters,
 			FetchJoinInformation... joins) {
-		BaseService<ID, T> service = (BaseService<ID, T>) ServiceLocatorFactory.getServiceLocator()
-				.getServiceForEntity(entityModel.getEntityClass());
-		FilterConverter<T> converter = new FilterConverter<>(entityModel);
-		Filter filter = converter.convert(predicate);
-		ModelBasedCsvPivotExportTemplate<ID, T> template = new ModelBasedCsvPivotExportTemplate<>(service, entityModel,
-				SortUtils.translateSortOrders(sortOrders), filter, pivotParameters, joins);
+		ModelBasedCsvPivotExportTemplate<ID, T> template = ExportTemplateFactory.createCsvPivotTemplate(entityModel,
+				predicate, sortOrders, pivotParameters, joins);
 		return template.process();
 	}
 
@@ -0,0 +1,103 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.composite.export.impl;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.ocs.dynamo.dao.FetchJoinInformation;
+import com.ocs.dynamo.domain.AbstractEntity;
+import com.ocs.dynamo.domain.model.EntityModel;
+import com.ocs.dynamo.filter.Filter;
+import com.ocs.dynamo.filter.FilterConverter;
+import com.ocs.dynamo.service.BaseService;
+import com.ocs.dynamo.service.ServiceLocatorFactory;
+import com.ocs.dynamo.ui.composite.export.CustomXlsStyleGenerator;
+import com.ocs.dynamo.ui.composite.export.PivotParameters;
+import com.ocs.dynamo.ui.composite.type.ExportMode;
+import com.ocs.dynamo.ui.utils.SortUtils;
+import com.ocs.dynamo.ui.utils.VaadinUtils;
+import com.vaadin.flow.data.provider.SortOrder;
+import com.vaadin.flow.function.SerializablePredicate;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Creates the export templates that are used by both the synchronous and the
+ * background export services
+ * 
+ * @author Bas Rutten
+ *
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class ExportTemplateFactory {
+
+	static <ID extends Serializable, T extends AbstractEntity<ID>> ModelBasedCsvExportTemplate<ID, T> createCsvTemplate(
+			EntityModel<T> entityModel, ExportMode mode, SerializablePredicate<T> predicate,
+			List<SortOrder<?>> sortOrders, FetchJoinInformation... joins) {
+		return new ModelBasedCsvExportTemplate<>(getService(entityModel), entityModel, mode,
+				SortUtils.translateSortOrders(sortOrders), convertFilter(entityModel, predicate), joins);
+	}
+
+	static <ID extends Serializable, T extends AbstractEntity<ID>> ModelBasedCsvExportTemplate<ID, T> createCsvFixedTemplate(
+			EntityModel<T> entityModel, ExportMode mode) {
+		return new ModelBasedCsvExportTemplate<>(null, entityModel, mode, null, null);
+	}
+
+	static <ID extends Serializable, T extends AbstractEntity<ID>> ModelBasedCsvPivotExportTemplate<ID, T> createCsvPivotTemplate(
+			EntityModel<T> entityModel, SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders,
+			PivotParameters pivotParameters, FetchJoinInformation... joins) {
+		return new ModelBasedCsvPivotExportTemplate<>(getService(entityModel), entityModel,
+				SortUtils.translateSortOrders(sortOrders), convertFilter(entityModel, predicate), pivotParameters,
+				joins);
+	}
+
+	static <ID extends Serializable, T extends AbstractEntity<ID>> ModelBasedExcelExportTemplate<ID, T> createExcelTemplate(
+			EntityModel<T> entityModel, ExportMode mode, SerializablePredicate<T> predicate,
+			List<SortOrder<?>> sortOrders, Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator,
+			FetchJoinInformation... joins) {
+		return new ModelBasedExcelExportTemplate<>(getService(entityModel), entityModel, mode,
+				SortUtils.translateSortOrders(sortOrders), convertFilter(entityModel, predicate),
+				entityModel.getDisplayNamePlural(VaadinUtils.getLocale()), customGenerator, joins);
+	}
+
+	static <ID extends Serializable, T extends AbstractEntity<ID>> ModelBasedExcelExportTemplate<ID, T> createExcelFixedTemplate(
+			EntityModel<T> entityModel, ExportMode mode, Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator) {
+		return new ModelBasedExcelExportTemplate<>(null, entityModel, mode, null, null,
+				entityModel.getDisplayNamePlural(VaadinUtils.getLocale()), customGenerator);
+	}
+
+	static <ID extends Serializable, T extends AbstractEntity<ID>> ModelBasedExcelPivotExportTemplate<ID, T> createExcelPivotTemplate(
+			EntityModel<T> entityModel, SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders,
+			Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator, PivotParameters pivotParameters,
+			FetchJoinInformation... joins) {
+		return new ModelBasedExcelPivotExportTemplate<>(getService(entityModel), entityModel,
+				SortUtils.translateSortOrders(sortOrders), convertFilter(entityModel, predicate),
+				entityModel.getDisplayNamePlural(VaadinUtils.getLocale()), customGenerator, pivotParameters, joins);
+	}
+
+	private static <T> Filter convertFilter(EntityModel<T> entityModel, SerializablePredicate<T> predicate) {
+		FilterConverter<T> converter = new FilterConverter<>(entityModel);
+		return converter.convert(predicate);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <ID extends Serializable, T extends AbstractEntity<ID>> BaseService<ID, T> getService(
+			EntityModel<T> entityModel) {
+		return (BaseService<ID, T>) ServiceLocatorFactory.getServiceLocator()
+				.getServiceForEntity(entityModel.getEntityClass());
+	}
+}
@@ -0,0 +1,151 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.composite.export.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import com.ocs.dynamo.exception.OCSRuntimeException;
+import com.ocs.dynamo.ui.composite.export.ExportFileStore;
+import com.ocs.dynamo.util.SystemPropertyUtils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Export file store that keeps the export results in a temporary directory on
+ * the local disk
+ * 
+ * @author Bas Rutten
+ *
+ */
+@Slf4j
+public class LocalExportFileStore implements ExportFileStore {
+
+	private static final String EXTENSION = ".export";
+
+	@Getter
+	private final Path directory;
+
+	@Getter
+	private final Duration expiry;
+
+	/**
+	 * Constructor that creates a new temporary directory and uses the expiry time
+	 * from the system properties
+	 */
+	public LocalExportFileStore() {
+		this(createTempDirectory(), Duration.ofMinutes(SystemPropertyUtils.getExportFileExpiryMinutes()));
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param directory the directory in which to store the files
+	 * @param expiry    the amount of time after which a file is removed
+	 */
+	public LocalExportFileStore(Path directory, Duration expiry) {
+		this.directory = directory;
+		this.expiry = expiry;
+	}
+
+	private static Path createTempDirectory() {
+		try {
+			return Files.createTempDirectory("dynamo-export");
+		} catch (IOException ex) {
+			throw new OCSRuntimeException(ex.getMessage(), ex);
+		}
+	}
+
+	@Override
+	public void store(String key, byte[] content) {
+		try {
+			Files.write(resolve(key), content);
+		} catch (IOException ex) {
+			throw new OCSRuntimeException(ex.getMessage(), ex);
+		}
+	}
+
+	@Override
+	public OutputStream openOutput(String key) {
+		try {
+			return Files.newOutputStream(resolve(key));
+		} catch (IOException ex) {
+			throw new OCSRuntimeException(ex.getMessage(), ex);
+		}
+	}
+
+	@Override
+	public InputStream open(String key) {
+		try {
+			return Files.newInputStream(resolve(key));
+		} catch (IOException ex) {
+			throw new OCSRuntimeException(ex.getMessage(), ex);
+		}
+	}
+
+	@Override
+	public void remove(String key) {
+		delete(resolve(key));
+	}
+
+	@Override
+	public void evictExpired() {
+		Instant threshold = Instant.now().minus(expiry);
+		try (Stream<Path> files = Files.list(directory)) {
+			files.filter(file -> isOlderThan(file, threshold)).forEach(this::delete);
+		} catch (IOException ex) {
+			log.warn("Could not clean up export directory {}: {}", directory, ex.getMessage());
+		}
+	}
+
+	/**
+	 * Removes all stored files and the directory itself
+	 */
+	public void clear() {
+		try (Stream<Path> files = Files.list(directory)) {
+			files.forEach(this::delete);
+		} catch (IOException ex) {
+			log.warn("Could not clean up export directory {}: {}", directory, ex.getMessage());
+		}
+		delete(directory);
+	}
+
+	private boolean isOlderThan(Path file, Instant threshold) {
+		try {
+			return Files.getLastModifiedTime(file).toInstant().isBefore(threshold);
+		} catch (IOException ex) {
+			// file was removed in the meantime
+			return false;
+		}
+	}
+
+	private void delete(Path file) {
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException ex) {
+			log.warn("Could not delete export file {}: {}", file, ex.getMessage());
+		}
+	}
+
+	private Path resolve(String key) {
+		return directory.resolve(key + EXTENSION);
+	}
+}
@@ -13,13 +13,19 @@
  */
 package com.ocs.dynamo.ui.composite.export.impl;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import com.ocs.dynamo.dao.FetchJoinInformation;
 import com.ocs.dynamo.dao.SortOrder;
@@ -27,17 +33,29 @@ import com.ocs.dynamo.domain.AbstractEntity;
 import com.ocs.dynamo.domain.model.AttributeModel;
 import com.ocs.dynamo.domain.model.EntityModel;
 import com.ocs.dynamo.domain.query.DataSetIterator;
+import com.ocs.dynamo.exception.OCSRuntimeException;
 import com.ocs.dynamo.filter.Filter;
 import com.ocs.dynamo.service.BaseService;
 import com.ocs.dynamo.ui.composite.type.ExportMode;
 import com.ocs.dynamo.ui.utils.GridFormatUtils;
-import com.ocs.dynamo.ui.utils.VaadinUtils;
 import com.ocs.dynamo.util.SystemPropertyUtils;
 import com.ocs.dynamo.utils.ClassUtils;
 import com.opencsv.CSVWriter;
 
+import lombok.Getter;
+import lombok.Setter;
+
 /**
- * A template for exporting data to CSV
+ * A template for exporting data to CSV. The rows are formatted in chunks of
+ * one page. When more than one thread is configured (see
+ * {@link SystemPropertyUtils#getCsvExportThreads()}), the calling thread
+ * retrieves the pages while a bounded pool formats them, and the formatted
+ * chunks are written in their original order. At most a few pages are kept in
+ * memory at the same time
+ * 
+ * Note that when formatting in parallel, any (nested) attribute that is
+ * exported must be fetched up front (e.g. using fetch joins), since the
+ * formatting threads cannot lazily load data
  * 
  * @author Bas Rutten
  *
@@ -47,6 +65,14 @@ import com.opencsv.CSVWriter;
 public class ModelBasedCsvExportTemplate<ID extends Serializable, T extends AbstractEntity<ID>>
 		extends BaseCsvExportTemplate<ID, T> {
 
+	/**
+	 * The number of threads used for formatting the rows. 1 (or less) means that
+	 * the rows are formatted on the calling thread
+	 */
+	@Getter
+	@Setter
+	private int threads = SystemPropertyUtils.getCsvExportThreads();
+
 	/**
 	 * Constructor
 	 * 
@@ -63,44 +89,98 @@ public class ModelBasedCsvExportTemplate<ID extends Serializable, T extends Abst
 	}
 
 	@Override
-	protected byte[] generate(DataSetIterator<ID, T> iterator) throws IOException {
-		try (ByteArrayOutputStream out = new ByteArrayOutputStream();
-				CSVWriter writer = new CSVWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8),
-						SystemPropertyUtils.getCsvSeparator().charAt(0),
-						SystemPropertyUtils.getCsvQuoteChar().charAt(0),
-						SystemPropertyUtils.getCsvEscapeChar().charAt(0), String.format("%n"))) {
+	protected void generate(DataSetIterator<ID, T> iterator, OutputStream out) throws IOException {
+		// the writer is not closed since that would close the target stream
+		CSVWriter writer = new CSVWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8),
+				SystemPropertyUtils.getCsvSeparator().charAt(0), SystemPropertyUtils.getCsvQuoteChar().charAt(0),
+				SystemPropertyUtils.getCsvEscapeChar().charAt(0), String.format("%n"));
 
-			addHeaderRow(writer);
+		List<AttributeModel> columns = getEntityModel().getAttributeModelsSortedForGrid().stream()
+				.filter(this::mustShow).toList();
+		writer.writeNext(columns.stream().map(am -> am.getDisplayName(getLocale())).toArray(String[]::new));
 
-			T entity = iterator.next();
-			while (entity != null) {
-				List<String> row = new ArrayList<>();
-				for (AttributeModel am : getEntityModel().getAttributeModelsSortedForGrid()) {
-					if (mustShow(am)) {
-						Object value = ClassUtils.getFieldValue(entity, am.getPath());
-						String str = GridFormatUtils.formatPropertyValue(am, value, ", ", VaadinUtils.getLocale(),
-								VaadinUtils.getTimeZoneId(), VaadinUtils.getCurrencySymbol());
-						row.add(str);
-					}
+		if (!columns.isEmpty()) {
+			if (threads <= 1) {
+				List<T> chunk = nextChunk(iterator);
+				while (!chunk.isEmpty()) {
+					writer.writeAll(formatChunk(chunk, columns));
+					chunk = nextChunk(iterator);
 				}
-				if (!row.isEmpty()) {
-					writer.writeNext(row.toArray(new String[0]));
+			} else {
+				writeParallel(iterator, columns, writer);
+			}
+		}
+		writer.flush();
+	}
+
+	/**
+	 * Formats the chunks on a bounded pool and writes them in order. The number
+	 * of chunks that are in flight is limited so that memory use stays bounded
+	 * 
+	 * @param iterator the iterator that supplies the entities
+	 * @param columns  the attribute models of the columns to export
+	 * @param writer   the writer to write the formatted rows to
+	 */
+	private void writeParallel(DataSetIterator<ID, T> iterator, List<AttributeModel> columns, CSVWriter writer) {
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		try {
+			Deque<Future<List<String[]>>> pending = new ArrayDeque<>();
+			List<T> chunk = nextChunk(iterator);
+			while (!chunk.isEmpty()) {
+				List<T> toFormat = chunk;
+				pending.add(executor.submit(() -> formatChunk(toFormat, columns)));
+				if (pending.size() > threads) {
+					writer.writeAll(pending.poll().get());
 				}
-				entity = iterator.next();
+				chunk = nextChunk(iterator);
+			}
+			while (!pending.isEmpty()) {
+				writer.writeAll(pending.poll().get());
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new OCSRuntimeException("Interrupted while formatting rows", ex);
+		} catch (ExecutionException ex) {
+			if (ex.getCause() instanceof RuntimeException re) {
+				throw re;
+			}
+			throw new OCSRuntimeException(ex.getCause().getMessage(), ex.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Retrieves the next chunk (of at most one page) of entities
+	 * 
+	 * @param iterator the iterator that supplies the entities
+	 * @return the chunk, or an empty list when there are no more entities
+	 */
+	private List<T> nextChunk(DataSetIterator<ID, T> iterator) {
+		List<T> chunk = new ArrayList<>(PAGE_SIZE);
+		while (chunk.size() < PAGE_SIZE) {
+			T entity = iterator.next();
+			if (entity == null) {
+				break;
 			}
-			writer.flush();
-			return out.toByteArray();
+			chunk.add(entity);
 		}
+		return chunk;
 	}
 
-	private void addHeaderRow(CSVWriter writer) {
-		List<String> headers = new ArrayList<>();
-		for (AttributeModel am : getEntityModel().getAttributeModelsSortedForGrid()) {
-			if (mustShow(am)) {
-				headers.add(am.getDisplayName(VaadinUtils.getLocale()));
+	private List<String[]> formatChunk(List<T> chunk, List<AttributeModel> columns) {
+		List<String[]> rows = new ArrayList<>(chunk.size());
+		for (T entity : chunk) {
+			String[] row = new String[columns.size()];
+			for (int i = 0; i < row.length; i++) {
+				AttributeModel am = columns.get(i);
+				Object value = ClassUtils.getFieldValue(entity, am.getPath());
+				row[i] = GridFormatUtils.formatPropertyValue(am, value, ", ", getLocale(), getZoneId(),
+						getCurrencySymbol());
 			}
+			rows.add(row);
 		}
-		writer.writeNext(headers.toArray(new String[0]));
+		return rows;
 	}
 
 }
@@ -13,33 +13,42 @@
  */
 package com.ocs.dynamo.ui.composite.export.impl;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Serializable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Function;
 
 import com.ocs.dynamo.dao.FetchJoinInformation;
 import com.ocs.dynamo.dao.SortOrder;
 import com.ocs.dynamo.domain.AbstractEntity;
 import com.ocs.dynamo.domain.model.EntityModel;
 import com.ocs.dynamo.domain.query.DataSetIterator;
+import com.ocs.dynamo.exception.OCSRuntimeException;
 import com.ocs.dynamo.filter.Filter;
 import com.ocs.dynamo.service.BaseService;
 import com.ocs.dynamo.ui.composite.export.PivotParameters;
 import com.ocs.dynamo.ui.composite.type.ExportMode;
-import com.ocs.dynamo.ui.utils.VaadinUtils;
 import com.ocs.dynamo.util.SystemPropertyUtils;
 import com.ocs.dynamo.utils.ClassUtils;
 import com.ocs.dynamo.utils.NumberUtils;
 import com.opencsv.CSVWriter;
 
 /**
- * Template for exporting a pivoted data set to CSV
+ * Template for exporting a pivoted data set to CSV. Every value is placed in
+ * the slot that belongs to its column key, so the data only has to be sorted
+ * on the row key; the cells within a row can arrive in any order. Values with
+ * a column key that is not one of the possible column keys are ignored
  *
  * @param <ID> the type of the primary key of the entity to export
  * @param <T>  the type of the entity to export
@@ -68,93 +77,113 @@ public class ModelBasedCsvPivotExportTemplate<ID extends Serializable, T extends
     }
 
     @Override
-    protected byte[] generate(DataSetIterator<ID, T> iterator) throws IOException {
-        try (ByteArrayOutputStream out = new ByteArrayOutputStream();
-             CSVWriter writer = new CSVWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8),
-                     SystemPropertyUtils.getCsvSeparator().charAt(0),
-                     SystemPropertyUtils.getCsvQuoteChar().charAt(0),
-                     SystemPropertyUtils.getCsvEscapeChar().charAt(0), String.format("%n"))) {
-
-            List<String> headers = new ArrayList<>();
-            addFixedColumns(headers);
-            addVariableColumns(headers);
-            writer.writeNext(headers.toArray(new String[0]));
-
-            String prevRowKey = null;
-            List<String> row = null;
-            int colIndex = 0;
-            int propIndex = 0;
-            boolean match;
-
-            // iterate over the rows
-            T entity = iterator.next();
-            while (entity != null) {
-                String rowKey = ClassUtils.getFieldValueAsString(entity, pivotParameters.getRowKeyProperty());
-                if (!Objects.equals(prevRowKey, rowKey)) {
-
-                    // finish up the previous row
-                    row = finishRowAndStartNewOne(writer, row, entity);
-                    colIndex = 0;
-                    propIndex = 0;
+    protected void generate(DataSetIterator<ID, T> iterator, OutputStream out) throws IOException {
+        // the writer is not closed since that would close the target stream
+        CSVWriter writer = new CSVWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8),
+                SystemPropertyUtils.getCsvSeparator().charAt(0), SystemPropertyUtils.getCsvQuoteChar().charAt(0),
+                SystemPropertyUtils.getCsvEscapeChar().charAt(0), String.format("%n"));
+
+        List<String> headers = new ArrayList<>();
+        addFixedColumns(headers);
+        addVariableColumns(headers);
+        writer.writeNext(headers.toArray(new String[0]));
+
+        List<String> fixedColumnKeys = pivotParameters.getFixedColumnKeys();
+        List<String> pivotedProperties = pivotParameters.getPivotedProperties();
+        Map<Object, Integer> slots = createSlots();
+
+        Function<T, Object> rowKeyAccessor = createAccessor(pivotParameters.getRowKeyProperty());
+        Function<T, Object> columnKeyAccessor = createAccessor(pivotParameters.getColumnKeyProperty());
+        List<Function<T, Object>> fixedAccessors = fixedColumnKeys.stream().map(this::createAccessor).toList();
+        List<Function<T, Object>> pivotedAccessors = pivotedProperties.stream().map(this::createAccessor)
+                .toList();
+
+        Object prevRowKey = null;
+        String[] row = null;
+
+        // iterate over the rows
+        T entity = iterator.next();
+        while (entity != null) {
+            Object rowKey = rowKeyAccessor.apply(entity);
+            if (row == null || !Objects.equals(prevRowKey, rowKey)) {
+                // finish up the previous row
+                if (row != null) {
+                    writer.writeNext(row);
                 }
-
-                Object object = pivotParameters.getPossibleColumnKeys().get(colIndex);
-                if (!columnValueMatches(entity, object)) {
-                    // appropriate value is missing, write empty cell
-                    row.add("");
-                    match = false;
-                } else {
-                    // get cell value
-                    String prop = pivotParameters.getPivotedProperties().get(propIndex);
-                    Object value = ClassUtils.getFieldValue(entity, prop);
-
-                    if (value instanceof BigDecimal bd) {
-                        String format = NumberUtils.bigDecimalToString(false, false, false, 2, bd,
-                                VaadinUtils.getLocale(), "");
-                        row.add(format);
-                    } else {
-                        row.add(value == null ? "" : value.toString());
-                    }
-                    match = true;
-                }
-
-                // move to the next property
-                if (propIndex == pivotParameters.getPivotedProperties().size() - 1) {
-                    propIndex = 0;
-                    colIndex = colIndex + 1;
-                } else {
-                    propIndex++;
-                }
-
-                if (match) {
-                    entity = iterator.next();
+                row = new String[headers.size()];
+                Arrays.fill(row, "");
+                for (int i = 0; i < fixedAccessors.size(); i++) {
+                    Object value = fixedAccessors.get(i).apply(entity);
+                    row[i] = value == null ? "" : value.toString();
                 }
                 prevRowKey = rowKey;
             }
 
-            // add last row
-            if (row != null) {
-                addEmptyColumns(row);
-                writer.writeNext(row.toArray(new String[0]));
+            Integer slot = slots.get(columnKeyAccessor.apply(entity));
+            if (slot != null) {
+                for (int i = 0; i < pivotedAccessors.size(); i++) {
+                    row[slot + i] = formatValue(pivotedAccessors.get(i).apply(entity));
+                }
             }
+            entity = iterator.next();
+        }
 
-            writer.flush();
-            return out.toByteArray();
+        // add last row
+        if (row != null) {
+            writer.writeNext(row);
         }
+
+        writer.flush();
     }
 
-    private List<String> finishRowAndStartNewOne(CSVWriter writer, List<String> row, T entity) {
-        if (row != null) {
-            addEmptyColumns(row);
-            writer.writeNext(row.toArray(new String[0]));
+    /**
+     * Maps every possible column key to the index of the first column in which
+     * its values are written
+     *
+     * @return the mapping
+     */
+    private Map<Object, Integer> createSlots() {
+        List<Object> columnKeys = pivotParameters.getPossibleColumnKeys();
+        int offset = pivotParameters.getFixedColumnKeys().size();
+        int width = pivotParameters.getPivotedProperties().size();
+
+        Map<Object, Integer> slots = new HashMap<>(columnKeys.size() * 2);
+        for (int i = 0; i < columnKeys.size(); i++) {
+            slots.putIfAbsent(columnKeys.get(i), offset + i * width);
         }
+        return slots;
+    }
 
-        row = new ArrayList<>();
-        for (String fc : pivotParameters.getFixedColumnKeys()) {
-            Object value = ClassUtils.getFieldValueAsString(entity, fc);
-            row.add(value == null ? "" : value.toString());
+    /**
+     * Creates a function for retrieving the value of a property. For a simple
+     * property, the getter is looked up once up front
+     *
+     * @param property the (possibly nested) name of the property
+     * @return the function
+     */
+    private Function<T, Object> createAccessor(String property) {
+        Method getter = property.indexOf('.') < 0
+                ? ClassUtils.getGetterMethod(getEntityModel().getEntityClass(), property)
+                : null;
+        if (getter == null) {
+            return entity -> ClassUtils.getFieldValue(entity, property);
+        }
+        getter.trySetAccessible();
+        return entity -> {
+            try {
+                return getter.invoke(entity);
+            } catch (IllegalAccessException | InvocationTargetException ex) {
+                throw new OCSRuntimeException("Error getting " + property + " of " + entity + ":" + ex.getMessage(),
+                        ex);
+            }
+        };
+    }
+
+    private String formatValue(Object value) {
+        if (value instanceof BigDecimal bd) {
+            return NumberUtils.bigDecimalToString(false, false, false, 2, bd, getLocale(), "");
         }
-        return row;
+        return value == null ? "" : value.toString();
     }
 
     private void addFixedColumns(List<String> headers) {
@@ -173,24 +202,4 @@ public class ModelBasedCsvPivotExportTemplate<ID extends Serializable, T extends
         }
     }
 
-    private void addEmptyColumns(List<String> row) {
-        int size = pivotParameters.getFixedColumnKeys().size()
-                + pivotParameters.getPivotedProperties().size() * pivotParameters.getPossibleColumnKeys().size();
-        while (row.size() < size) {
-            row.add("");
-        }
-    }
-
-    /**
-     * Checks whether the value of the column key matches the expected value
-     *
-     * @param entity   the entity to check for the actual value
-     * @param expected the expected value
-     * @return true if this is the case, false otherwise
-     */
-    private boolean columnValueMatches(T entity, Object expected) {
-        Object actual = ClassUtils.getFieldValue(entity, pivotParameters.getColumnKeyProperty());
-        return Objects.equals(actual, expected);
-    }
-
 }
@@ -13,8 +13,8 @@
  */
 package com.ocs.dynamo.ui.composite.export.impl;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.util.function.Supplier;
 
@@ -32,7 +32,6 @@ import com.ocs.dynamo.filter.Filter;
 import com.ocs.dynamo.service.BaseService;
 import com.ocs.dynamo.ui.composite.export.CustomXlsStyleGenerator;
 import com.ocs.dynamo.ui.composite.type.ExportMode;
-import com.ocs.dynamo.ui.utils.VaadinUtils;
 import com.ocs.dynamo.utils.ClassUtils;
 
 /**
@@ -64,13 +63,12 @@ public class ModelBasedExcelExportTemplate<ID extends Serializable, T extends Ab
     }
 
     @Override
-    protected byte[] generate(DataSetIterator<ID, T> iterator) throws IOException {
+    protected void generate(DataSetIterator<ID, T> iterator, OutputStream out) throws IOException {
         setWorkbook(createWorkbook(iterator.size()));
         Sheet sheet = getWorkbook().createSheet(getTitle());
         setGenerator(createGenerator(getWorkbook()));
 
         boolean resize = canResize();
-        ByteArrayOutputStream stream = new ByteArrayOutputStream();
 
         Row titleRow = sheet.createRow(0);
         titleRow.setHeightInPoints(TITLE_ROW_HEIGHT);
@@ -79,8 +77,7 @@ public class ModelBasedExcelExportTemplate<ID extends Serializable, T extends Ab
         addContentRows(iterator, sheet);
         resizeColumns(sheet);
 
-        getWorkbook().write(stream);
-        return stream.toByteArray();
+        writeWorkbook(out);
     }
 
     private void addHeaderRow(Sheet sheet, boolean resize, Row titleRow) {
@@ -92,7 +89,8 @@ public class ModelBasedExcelExportTemplate<ID extends Serializable, T extends Ab
                 }
                 Cell cell = titleRow.createCell(i);
                 cell.setCellStyle(getGenerator().getHeaderStyle(i));
-                cell.setCellValue(am.getDisplayName(VaadinUtils.getLocale()));
+                cell.setCellValue(am.getDisplayName(getLocale()));
+                trackWidth(cell);
                 i++;
             }
         }
@@ -13,8 +13,8 @@
  */
 package com.ocs.dynamo.ui.composite.export.impl;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.util.HashMap;
@@ -42,7 +42,6 @@ import com.ocs.dynamo.ui.composite.export.CustomXlsStyleGenerator;
 import com.ocs.dynamo.ui.composite.export.PivotParameters;
 import com.ocs.dynamo.ui.composite.type.ExportMode;
 import com.ocs.dynamo.ui.provider.PivotAggregationType;
-import com.ocs.dynamo.ui.utils.VaadinUtils;
 import com.ocs.dynamo.utils.ClassUtils;
 
 /**
@@ -106,12 +105,14 @@ public class ModelBasedExcelPivotExportTemplate<ID extends Serializable, T exten
                 String value = getAggregateHeader(type);
                 if (value != null) {
                     cell.setCellValue(value);
+                    trackWidth(cell);
                 }
 
                 // add the pivot property description
                 Cell subtitleCell = subtitleRow.createCell(index);
                 subtitleCell.setCellStyle(getGenerator().getHeaderStyle(index));
                 subtitleCell.setCellValue(pivotParameters.getSubHeaderMapper().apply("", aggregateProp));
+                trackWidth(subtitleCell);
                 index++;
             }
         }
@@ -134,6 +135,7 @@ public class ModelBasedExcelPivotExportTemplate<ID extends Serializable, T exten
             }
             cell.setCellStyle(getGenerator().getHeaderStyle(i));
             cell.setCellValue(pivotParameters.getFixedHeaderMapper().apply(fc));
+            trackWidth(cell);
             i++;
         }
         return i;
@@ -228,6 +230,10 @@ public class ModelBasedExcelPivotExportTemplate<ID extends Serializable, T exten
                 String header = pivotParameters.getHeaderMapper().apply(fc, property);
                 if (header != null) {
                     cell.setCellValue(header);
+                    // merged headers span several columns so they do not determine the width
+                    if (nrOfPivotProps == 1) {
+                        trackWidth(cell);
+                    }
                 }
                 colIndex++;
             }
@@ -261,6 +267,7 @@ public class ModelBasedExcelPivotExportTemplate<ID extends Serializable, T exten
                 String value = pivotParameters.getSubHeaderMapper().apply(fc, property);
                 if (value != null) {
                     cell.setCellValue(value);
+                    trackWidth(cell);
                 }
                 colIndex++;
             }
@@ -281,13 +288,12 @@ public class ModelBasedExcelPivotExportTemplate<ID extends Serializable, T exten
     }
 
     @Override
-    protected byte[] generate(DataSetIterator<ID, T> iterator) throws IOException {
+    protected void generate(DataSetIterator<ID, T> iterator, OutputStream out) throws IOException {
         setWorkbook(createWorkbook(iterator.size()));
         Sheet sheet = getWorkbook().createSheet(getTitle());
         setGenerator(createGenerator(getWorkbook()));
 
         boolean resize = canResize();
-        ByteArrayOutputStream stream = new ByteArrayOutputStream();
 
         Row titleRow = sheet.createRow(0);
         Row subtitleRow = sheet.createRow(1);
@@ -374,15 +380,14 @@ public class ModelBasedExcelPivotExportTemplate<ID extends Serializable, T exten
 
         resizeColumns(sheet);
 
-        getWorkbook().write(stream);
-        return stream.toByteArray();
+        writeWorkbook(out);
     }
 
     private String getAggregateHeader(PivotAggregationType type) {
         return switch (type) {
-            case SUM -> messageService.getMessage("ocs.sum", VaadinUtils.getLocale());
-            case AVERAGE -> messageService.getMessage("ocs.average", VaadinUtils.getLocale());
-            default -> messageService.getMessage("ocs.count", VaadinUtils.getLocale());
+            case SUM -> messageService.getMessage("ocs.sum", getLocale());
+            case AVERAGE -> messageService.getMessage("ocs.average", getLocale());
+            default -> messageService.getMessage("ocs.count", getLocale());
         };
     }
 
@@ -518,6 +523,7 @@ public class ModelBasedExcelPivotExportTemplate<ID extends Serializable, T exten
 
         totalsCell.setCellStyle(getGenerator().getTotalsStyle(aggregateClass, null));
         totalsCell.setCellValue(cellValue);
+        trackWidth(totalsCell);
     }
 
     /**
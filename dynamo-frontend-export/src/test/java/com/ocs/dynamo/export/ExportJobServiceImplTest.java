@@ -0,0 +1,87 @@
+package com.ocs.dynamo.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.ocs.dynamo.domain.TestEntity;
+import com.ocs.dynamo.domain.model.EntityModelFactory;
+import com.ocs.dynamo.domain.model.impl.EntityModelFactoryImpl;
+import com.ocs.dynamo.ui.FrontendIntegrationTest;
+import com.ocs.dynamo.ui.FrontendIntegrationTestConfig;
+import com.ocs.dynamo.ui.composite.export.ExportJob;
+import com.ocs.dynamo.ui.composite.export.impl.ExportJobServiceImpl;
+import com.ocs.dynamo.ui.composite.export.impl.LocalExportFileStore;
+import com.ocs.dynamo.ui.composite.type.ExportMode;
+
+@SpringBootTest(classes = FrontendIntegrationTestConfig.class)
+public class ExportJobServiceImplTest extends FrontendIntegrationTest {
+
+	private final EntityModelFactory entityModelFactory = new EntityModelFactoryImpl();
+
+	private LocalExportFileStore fileStore;
+
+	private ExportJobServiceImpl exportJobService;
+
+	@BeforeEach
+	public void setup() throws IOException {
+		fileStore = new LocalExportFileStore(Files.createTempDirectory("export-test"), Duration.ofMinutes(30));
+		exportJobService = new ExportJobServiceImpl(fileStore, 1);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		exportJobService.shutdown();
+		fileStore.clear();
+	}
+
+	@Test
+	public void testCsvFixed() throws Exception {
+		List<TestEntity> items = List.of(new TestEntity("Bob", 11L), new TestEntity("Harry", 12L));
+		ExportJob job = exportJobService.exportCsvFixed("test.csv", entityModelFactory.getModel(TestEntity.class),
+				ExportMode.ONLY_VISIBLE_IN_GRID, items);
+
+		CompletableFuture<ExportJob> finished = new CompletableFuture<>();
+		job.whenFinished(finished::complete);
+		finished.get(10, TimeUnit.SECONDS);
+
+		assertEquals(ExportJob.Status.COMPLETED, job.getStatus());
+		assertEquals("test.csv", job.getFileName());
+		assertEquals(2, job.getRowsDone());
+		assertEquals(2, job.getTotalRows());
+		assertEquals(1.0, job.getProgress(), 0.001);
+
+		try (InputStream in = exportJobService.openResult(job)) {
+			String[] lines = new String(in.readAllBytes(), StandardCharsets.UTF_8).split("\n");
+			assertEquals(3, lines.length);
+			assertTrue(lines[1].contains("Bob"));
+		}
+	}
+
+	@Test
+	public void testEvictExpired() throws IOException {
+		Path directory = Files.createTempDirectory("export-test");
+		LocalExportFileStore store = new LocalExportFileStore(directory, Duration.ofMinutes(-1));
+		store.store("abc", new byte[] { 1, 2, 3 });
+		assertTrue(Files.exists(directory.resolve("abc.export")));
+
+		store.evictExpired();
+		assertFalse(Files.exists(directory.resolve("abc.export")));
+		store.clear();
+	}
+}
@@ -29,6 +29,7 @@ import com.ocs.dynamo.ui.FrontendIntegrationTestConfig;
 import com.ocs.dynamo.ui.composite.export.impl.ModelBasedCsvExportTemplate;
 import com.ocs.dynamo.ui.composite.export.impl.ModelBasedExcelExportTemplate;
 import com.ocs.dynamo.ui.composite.type.ExportMode;
+import com.ocs.dynamo.util.SystemPropertyUtils;
 import com.ocs.dynamo.utils.DateUtils;
 
 @SpringBootTest(classes = FrontendIntegrationTestConfig.class)
@@ -42,6 +43,7 @@ public class ModelBasedExportTemplateTest extends FrontendIntegrationTest {
 	@BeforeEach
 	public void setup() {
 		System.setProperty("ocs.default.locale", "de");
+		SystemPropertyUtils.reload();
 		TestEntity e1 = new TestEntity("Bob", 11L);
 		e1.setRate(BigDecimal.valueOf(4));
 		e1.setBirthDate(DateUtils.createLocalDate("01042014"));
@@ -140,4 +142,17 @@ public class ModelBasedExportTemplateTest extends FrontendIntegrationTest {
 				"\"11\";\"01/04/2014\";\"2014-14\";\"34,00\";;\"Bob\";\"secret\";\"4,00%\";\"11:12:13\";\"false\";\"On\";\"44,44\";\"Value A\";\"1.234\";\"some\";\"abab\";\"12:13:14\";\"http://www.google.nl\";\"14-08-2015 11:12:13+0200\"",
 				lines[1].trim());
 	}
+
+	@Test
+	public void testCsvParallel() {
+		ModelBasedCsvExportTemplate<Integer, TestEntity> template = new ModelBasedCsvExportTemplate<Integer, TestEntity>(
+				testEntityService, entityModelFactory.getModel(TestEntity.class), ExportMode.ONLY_VISIBLE_IN_GRID,
+				new SortOrder[] { new SortOrder("name", Direction.ASC) }, null);
+		String sequential = new String(template.process());
+
+		template.setThreads(4);
+		String parallel = new String(template.process());
+		assertEquals(sequential, parallel);
+		assertEquals(3, parallel.split("\n").length);
+	}
 }
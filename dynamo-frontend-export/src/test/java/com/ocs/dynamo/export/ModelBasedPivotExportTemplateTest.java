@@ -31,6 +31,7 @@ import com.ocs.dynamo.ui.FrontendIntegrationTestConfig;
 import com.ocs.dynamo.ui.composite.export.PivotParameters;
 import com.ocs.dynamo.ui.composite.export.impl.ModelBasedCsvPivotExportTemplate;
 import com.ocs.dynamo.ui.composite.export.impl.ModelBasedExcelPivotExportTemplate;
+import com.ocs.dynamo.util.SystemPropertyUtils;
 import com.ocs.dynamo.utils.DateUtils;
 
 @SpringBootTest(classes = FrontendIntegrationTestConfig.class)
@@ -48,6 +49,7 @@ public class ModelBasedPivotExportTemplateTest extends FrontendIntegrationTest {
 	@BeforeEach
 	public void setup() {
 		System.setProperty("ocs.default.locale", "de");
+		SystemPropertyUtils.reload();
 		e1 = new TestEntity("Bob", 11L);
 		e1.setRate(BigDecimal.valueOf(4));
 		e1.setBirthDate(DateUtils.createLocalDate("01042014"));
@@ -137,6 +139,24 @@ public class ModelBasedPivotExportTemplateTest extends FrontendIntegrationTest {
 		assertEquals("\"Bob\";\"A\";\"B\";\"\"", lines[1].trim());
 	}
 
+	@Test
+	public void testCsvUnsortedColumnKeys() {
+
+		PivotParameters pars = createPivotParameters();
+
+		// only sorted on the row key, with the column keys in reverse order
+		ModelBasedCsvPivotExportTemplate<Integer, TestEntity> template = new ModelBasedCsvPivotExportTemplate<Integer, TestEntity>(
+				testEntityService, entityModelFactory.getModel(TestEntity.class),
+				new SortOrder[] { new SortOrder("age", Direction.ASC), new SortOrder("someEnum", Direction.DESC) },
+				null, pars);
+		byte[] bytes = template.process();
+
+		String str = new String(bytes);
+		String[] lines = str.split("\n");
+
+		assertEquals("\"Bob\";\"A\";\"B\";\"\"", lines[1].trim());
+	}
+
 	private PivotParameters createPivotParameters() {
 		return PivotParameters.builder().fixedColumnKeys(List.of("name")) //
 				.rowKeyProperty("age") //
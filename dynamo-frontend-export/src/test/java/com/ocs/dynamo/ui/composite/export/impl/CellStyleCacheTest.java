@@ -0,0 +1,67 @@
+package com.ocs.dynamo.ui.composite.export.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import com.ocs.dynamo.ui.composite.export.CellStyleSpec;
+
+public class CellStyleCacheTest {
+
+	@Test
+	public void testInterning() throws IOException {
+		try (Workbook workbook = new XSSFWorkbook()) {
+			CellStyle base = workbook.createCellStyle();
+			base.setBorderTop(BorderStyle.THIN);
+			CellStyleCache cache = new CellStyleCache(workbook);
+			int initial = workbook.getNumCellStyles();
+
+			for (int i = 0; i < 1000; i++) {
+				CellStyleSpec spec = CellStyleSpec.builder()
+						.fillColor(i % 2 == 0 ? IndexedColors.RED.getIndex() : IndexedColors.GREEN.getIndex())
+						.bold(true).build();
+				cache.getStyle(base, spec);
+			}
+
+			assertEquals(2, cache.size());
+			assertEquals(initial + 2, workbook.getNumCellStyles());
+
+			CellStyle red = cache.getStyle(base,
+					CellStyleSpec.builder().fillColor(IndexedColors.RED.getIndex()).bold(true).build());
+			assertEquals(IndexedColors.RED.getIndex(), red.getFillForegroundColor());
+			assertEquals(FillPatternType.SOLID_FOREGROUND, red.getFillPattern());
+			assertEquals(BorderStyle.THIN, red.getBorderTop());
+			assertTrue(workbook.getFontAt(red.getFontIndex()).getBold());
+
+			// no specification, use the default style
+			assertSame(base, cache.getStyle(base, null));
+		}
+	}
+
+	@Test
+	public void testLimit() throws IOException {
+		try (Workbook workbook = new XSSFWorkbook()) {
+			CellStyle base = workbook.createCellStyle();
+			CellStyleCache cache = new CellStyleCache(workbook, 2);
+
+			CellStyle first = cache.getStyle(base, CellStyleSpec.builder().dataFormat("0.0").build());
+			assertNotSame(base, first);
+			cache.getStyle(base, CellStyleSpec.builder().dataFormat("0.00").build());
+
+			// limit reached, fall back to the default style
+			assertSame(base, cache.getStyle(base, CellStyleSpec.builder().dataFormat("0.000").build()));
+			assertEquals(2, cache.size());
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package com.ocs.dynamo.ui.composite.export.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Locale;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+public class ColumnWidthEstimatorTest {
+
+	@Test
+	public void testEstimate() throws IOException {
+		try (Workbook workbook = new SXSSFWorkbook(1)) {
+			Sheet sheet = workbook.createSheet();
+			ColumnWidthEstimator estimator = new ColumnWidthEstimator(Locale.ENGLISH);
+
+			Font bold = workbook.createFont();
+			bold.setBold(true);
+			CellStyle header = workbook.createCellStyle();
+			header.setFont(bold);
+
+			Row row = sheet.createRow(0);
+			row.createCell(0).setCellValue("Name");
+			row.getCell(0).setCellStyle(header);
+			estimator.track(row.getCell(0));
+
+			// rows are flushed immediately, the estimator must still see them
+			for (int i = 1; i < 10; i++) {
+				Row dataRow = sheet.createRow(i);
+				dataRow.createCell(0).setCellValue("a".repeat(i));
+				dataRow.createCell(1).setCellValue(12345);
+				estimator.track(dataRow.getCell(0));
+				estimator.track(dataRow.getCell(1));
+			}
+
+			assertEquals((9 + 2) * 256, estimator.getWidth(0));
+			assertEquals((5 + 2) * 256, estimator.getWidth(1));
+			assertEquals(-1, estimator.getWidth(2));
+
+			estimator.apply(sheet);
+			assertEquals((9 + 2) * 256, sheet.getColumnWidth(0));
+		}
+	}
+
+	@Test
+	public void testMultiLine() throws IOException {
+		try (Workbook workbook = new SXSSFWorkbook()) {
+			Sheet sheet = workbook.createSheet();
+			ColumnWidthEstimator estimator = new ColumnWidthEstimator(Locale.ENGLISH);
+
+			Row row = sheet.createRow(0);
+			row.createCell(40).setCellValue("abc\nabcdef\nab");
+			estimator.track(row.getCell(40));
+			assertTrue(estimator.getWidth(40) > 0);
+			assertEquals((6 + 2) * 256, estimator.getWidth(40));
+		}
+	}
+}
@@ -49,6 +49,7 @@ import com.ocs.dynamo.service.impl.DefaultUserDetailsServiceImpl;
 import com.ocs.dynamo.ui.auth.AuthorizationServiceInitListener;
 import com.ocs.dynamo.ui.auth.PermissionChecker;
 import com.ocs.dynamo.ui.auth.impl.DefaultPermissionCheckerImpl;
+import com.ocs.dynamo.ui.component.TempFileCleanupServiceInitListener;
 import com.ocs.dynamo.ui.menu.MenuService;
 import com.ocs.dynamo.ui.menu.VerticalMenuService;
 
@@ -245,6 +246,12 @@ public class DynamoFrontendAutoConfigure {
 		return new AuthorizationServiceInitListener();
 	}
 
+	@Bean
+	@ConditionalOnMissingBean(value = TempFileCleanupServiceInitListener.class)
+	public TempFileCleanupServiceInitListener tempFileCleanupServiceInitListener() {
+		return new TempFileCleanupServiceInitListener();
+	}
+
 	@Bean
 	@ConditionalOnMissingBean(value = UserDetailsService.class)
 	public UserDetailsService userDetailsService() {
@@ -28,7 +28,9 @@ public interface ComponentCreator {
 
 	/**
 	 * Checks whether the ComponentCreator supports creating a component for the
-	 * provided attribute model and context
+	 * provided attribute model and context. The outcome is cached by the field
+	 * factory, so it must only depend on the attribute model and the search, view
+	 * mode and editable grid flags of the context
 	 * 
 	 * @param attributeModel the attribute model
 	 * @param context        the context
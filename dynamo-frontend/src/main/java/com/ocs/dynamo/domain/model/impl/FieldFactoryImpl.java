@@ -16,7 +16,9 @@ package com.ocs.dynamo.domain.model.impl;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import org.apache.commons.lang3.StringUtils;
@@ -62,6 +64,12 @@ public class FieldFactoryImpl implements FieldFactory {
 	@Autowired
 	private List<ComponentCreator> componentCreators;
 
+	/**
+	 * The component creator that was resolved for each combination of attribute
+	 * model and context flags
+	 */
+	private final Map<CreatorKey, Optional<ComponentCreator>> resolvedCreators = new ConcurrentHashMap<>();
+
 	private final ServiceLocator serviceLocator = ServiceLocatorFactory.getServiceLocator();
 
 	@SuppressWarnings("unchecked")
@@ -69,7 +77,7 @@ public class FieldFactoryImpl implements FieldFactory {
 			FieldCreationContext context, Converter<V, T> customConverter, Function<HasSelectedItem<T>, Validator<?>> customValidator,
 			Function<HasSelectedItem<T>, Validator<?>> customRequiredValidator) {
 
-		Optional<ComponentCreator> optCreator = componentCreators.stream().filter(creator -> creator.supports(am, context)).findFirst();
+		Optional<ComponentCreator> optCreator = findComponentCreator(am, context);
 		optCreator.ifPresent(creator -> {
 			if (customValidator != null) {
 				builder.withValidator((Validator<V>) customValidator.apply(entityProvider));
@@ -144,6 +152,21 @@ public class FieldFactoryImpl implements FieldFactory {
 		return component;
 	}
 
+	/**
+	 * Finds the first component creator that supports the attribute model and
+	 * context. The result is cached per attribute model and context flags, so
+	 * constructing the same field again only requires a map lookup
+	 * 
+	 * @param am      the attribute model
+	 * @param context the context
+	 * @return the component creator, or an empty optional if none was found
+	 */
+	private Optional<ComponentCreator> findComponentCreator(AttributeModel am, FieldCreationContext context) {
+		CreatorKey key = new CreatorKey(am, context.isSearch(), context.isViewMode(), context.isEditableGrid());
+		return resolvedCreators.computeIfAbsent(key,
+				k -> componentCreators.stream().filter(creator -> creator.supports(am, context)).findFirst());
+	}
+
 	/**
 	 * Finds the appropriate component creator for this attribute model and context
 	 * and uses it to create a component
@@ -159,8 +182,7 @@ public class FieldFactoryImpl implements FieldFactory {
 			EntityModel<?> entityModel, DataProvider<?, SerializablePredicate<?>> sharedProvider,
 			SerializablePredicate<?> fieldFilter) {
 
-		Optional<ComponentCreator> optCreator = componentCreators.stream().filter(comp -> comp.supports(attributeModel, context))
-				.findFirst();
+		Optional<ComponentCreator> optCreator = findComponentCreator(attributeModel, context);
 		return optCreator.map(creator -> {
 			if (creator instanceof EntityComponentCreator) {
 				return invokeEntityComponentCreator(context, attributeModel, entityModel, sharedProvider, fieldFilter,
@@ -274,4 +296,43 @@ public class FieldFactoryImpl implements FieldFactory {
 		addConvertersAndValidators(entityProvider, builder, am, FieldCreationContext.create().build(), null, null, null);
 	}
 
+
+	/**
+	 * Key for looking up a resolved component creator. Attribute models are
+	 * compared by identity
+	 */
+	private static final class CreatorKey {
+
+		private final AttributeModel attributeModel;
+
+		private final boolean search;
+
+		private final boolean viewMode;
+
+		private final boolean editableGrid;
+
+		CreatorKey(AttributeModel attributeModel, boolean search, boolean viewMode, boolean editableGrid) {
+			this.attributeModel = attributeModel;
+			this.search = search;
+			this.viewMode = viewMode;
+			this.editableGrid = editableGrid;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof CreatorKey other)) {
+				return false;
+			}
+			return attributeModel == other.attributeModel && search == other.search && viewMode == other.viewMode
+					&& editableGrid == other.editableGrid;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(System.identityHashCode(attributeModel), search, viewMode, editableGrid);
+		}
+	}
 }
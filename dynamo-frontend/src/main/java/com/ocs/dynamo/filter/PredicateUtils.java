@@ -17,6 +17,7 @@ import com.vaadin.flow.function.SerializablePredicate;
 import lombok.experimental.UtilityClass;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -119,4 +120,66 @@ public final class PredicateUtils {
 		return result;
 	}
 
+	/**
+	 * Checks whether two filters are structurally equal, i.e. whether they are of
+	 * the same type and filter on the same properties using the same values
+	 *
+	 * @param first  the first filter
+	 * @param second the second filter
+	 * @return true if the filters are equal, false otherwise
+	 */
+	public static <T> boolean isEqual(SerializablePredicate<T> first, SerializablePredicate<T> second) {
+		if (first == second) {
+			return true;
+		}
+		if (first == null || second == null || !first.getClass().equals(second.getClass())) {
+			return false;
+		}
+
+		if (first instanceof CompositePredicate<T> composite) {
+			List<SerializablePredicate<T>> operands = composite.getOperands();
+			List<SerializablePredicate<T>> otherOperands = ((CompositePredicate<T>) second).getOperands();
+			if (operands.size() != otherOperands.size()) {
+				return false;
+			}
+			for (int i = 0; i < operands.size(); i++) {
+				if (!isEqual(operands.get(i), otherOperands.get(i))) {
+					return false;
+				}
+			}
+			return true;
+		} else if (first instanceof NotPredicate<T> not) {
+			return isEqual(not.getOperand(), ((NotPredicate<T>) second).getOperand());
+		} else if (first instanceof PropertyPredicate<T> prop) {
+			PropertyPredicate<T> other = (PropertyPredicate<T>) second;
+			return Objects.equals(prop.getProperty(), other.getProperty())
+					&& Objects.equals(prop.getValue(), other.getValue()) && isEqualSettings(prop, other);
+		}
+		return first.equals(second);
+	}
+
+	/**
+	 * Compares the additional settings of two property filters of the same type
+	 *
+	 * @param first  the first filter
+	 * @param second the second filter
+	 * @return true if the settings are equal, false otherwise
+	 */
+	private static <T> boolean isEqualSettings(PropertyPredicate<T> first, PropertyPredicate<T> second) {
+		if (first instanceof BetweenPredicate<T> between) {
+			return Objects.equals(between.getToValue(), ((BetweenPredicate<T>) second).getToValue());
+		} else if (first instanceof LikePredicate<T> like) {
+			return like.isCaseSensitive() == ((LikePredicate<T>) second).isCaseSensitive();
+		} else if (first instanceof SimpleStringPredicate<T> simple) {
+			SimpleStringPredicate<T> other = (SimpleStringPredicate<T>) second;
+			return simple.isCaseSensitive() == other.isCaseSensitive()
+					&& simple.isOnlyMatchPrefix() == other.isOnlyMatchPrefix();
+		} else if (first instanceof ModuloPredicate<T> modulo) {
+			ModuloPredicate<T> other = (ModuloPredicate<T>) second;
+			return Objects.equals(modulo.getModExpression(), other.getModExpression())
+					&& Objects.equals(modulo.getModValue(), other.getModValue());
+		}
+		return true;
+	}
+
 }
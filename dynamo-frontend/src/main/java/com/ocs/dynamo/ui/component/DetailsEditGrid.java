@@ -20,6 +20,7 @@ import java.util.Comparator;
 import java.util.List;
 
 import com.ocs.dynamo.domain.AbstractEntity;
+import com.ocs.dynamo.domain.comparator.AttributeComparator;
 import com.ocs.dynamo.domain.model.AttributeModel;
 import com.ocs.dynamo.domain.model.EntityModel;
 import com.ocs.dynamo.exception.OCSRuntimeException;
@@ -140,7 +141,9 @@ public class DetailsEditGrid<ID extends Serializable, T extends AbstractEntity<I
 	@Override
 	protected void setPresentationValue(Collection<T> value) {
 		List<T> list = new ArrayList<>(value);
-		if (comparator != null) {
+		if (comparator instanceof AttributeComparator<T> attributeComparator) {
+			attributeComparator.sort(list);
+		} else if (comparator != null) {
 			list.sort(comparator);
 		}
 
@@ -0,0 +1,35 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.component;
+
+import com.vaadin.flow.server.ServiceInitEvent;
+import com.vaadin.flow.server.VaadinServiceInitListener;
+
+/**
+ * Service listener that removes any temporary upload files that are left when a
+ * session ends
+ * 
+ * @author Bas Rutten
+ *
+ */
+public class TempFileCleanupServiceInitListener implements VaadinServiceInitListener {
+
+	private static final long serialVersionUID = -1848271618853004128L;
+
+	@Override
+	public void serviceInit(ServiceInitEvent event) {
+		event.getSource()
+				.addSessionDestroyListener(destroyEvent -> TempFileReceiver.SessionFiles.deleteAll(destroyEvent.getSession()));
+	}
+}
@@ -0,0 +1,233 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.component;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.ocs.dynamo.util.SystemPropertyUtils;
+import com.vaadin.flow.component.upload.Receiver;
+import com.vaadin.flow.server.VaadinSession;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A receiver for file uploads that writes the uploaded file to a temporary
+ * file rather than keeping it in memory. The size of the upload can be limited.
+ * The temporary file is removed when calling {@link #delete()}, when a new file
+ * is uploaded, or at the latest when the Vaadin session ends
+ * 
+ * @author Bas Rutten
+ *
+ */
+@Slf4j
+public class TempFileReceiver implements Receiver {
+
+	private static final long serialVersionUID = 6217441986427862911L;
+
+	private static final String PREFIX = "dynamo-upload-";
+
+	@Getter
+	private final long maxSize;
+
+	@Getter
+	private String fileName;
+
+	@Getter
+	private String mimeType;
+
+	private transient Path file;
+
+	/**
+	 * Constructor - uses the maximum size from the system properties
+	 */
+	public TempFileReceiver() {
+		this(SystemPropertyUtils.getMaxUploadSize());
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param maxSize the maximum size of an upload in bytes. 0 or less means that
+	 *                there is no maximum
+	 */
+	public TempFileReceiver(long maxSize) {
+		this.maxSize = maxSize;
+	}
+
+	@Override
+	public OutputStream receiveUpload(String fileName, String mimeType) {
+		delete();
+		this.fileName = fileName;
+		this.mimeType = mimeType;
+		try {
+			file = Files.createTempFile(PREFIX, null);
+			SessionFiles.register(file);
+			OutputStream out = Files.newOutputStream(file);
+			return maxSize > 0 ? new LimitedOutputStream(out, maxSize) : out;
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	/**
+	 * Returns the temporary file that contains the uploaded data
+	 * 
+	 * @return the file, or null if no file has been uploaded
+	 */
+	public Path getFile() {
+		return file;
+	}
+
+	/**
+	 * Opens a stream for reading the uploaded data
+	 * 
+	 * @return the stream
+	 * @throws IOException when the file cannot be read
+	 */
+	public InputStream getInputStream() throws IOException {
+		return Files.newInputStream(file);
+	}
+
+	/**
+	 * Reads the uploaded data into a byte array. Use this only when the data is
+	 * needed in memory, e.g. for binding to a LOB attribute
+	 * 
+	 * @return the data
+	 * @throws IOException when the file cannot be read
+	 */
+	public byte[] readBytes() throws IOException {
+		return Files.readAllBytes(file);
+	}
+
+	/**
+	 * Hands the temporary file over to the caller. The receiver no longer keeps
+	 * track of the file, so a subsequent upload or a call to {@link #delete()}
+	 * does not remove it. The caller is responsible for deleting the file; if it
+	 * does not, the file is still removed when the session ends
+	 * 
+	 * @return the file, or null if no file has been uploaded
+	 */
+	public Path release() {
+		Path released = file;
+		file = null;
+		return released;
+	}
+
+	/**
+	 * Deletes the temporary file (if any)
+	 */
+	public void delete() {
+		if (file != null) {
+			SessionFiles.delete(file);
+			file = null;
+		}
+	}
+
+	/**
+	 * Output stream that fails once more than the maximum number of bytes has been
+	 * written
+	 */
+	private static class LimitedOutputStream extends FilterOutputStream {
+
+		private final long maxSize;
+
+		private long count;
+
+		LimitedOutputStream(OutputStream out, long maxSize) {
+			super(out);
+			this.maxSize = maxSize;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			checkSize(1);
+			out.write(b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			checkSize(len);
+			out.write(b, off, len);
+		}
+
+		private void checkSize(int len) throws IOException {
+			count += len;
+			if (count > maxSize) {
+				throw new IOException("Upload exceeds the maximum size of " + maxSize + " bytes");
+			}
+		}
+	}
+
+	/**
+	 * Keeps track of the temporary files that were created for a session, so that
+	 * they can be removed when the session ends
+	 */
+	public static final class SessionFiles implements Serializable {
+
+		private static final long serialVersionUID = -3016734581375207286L;
+
+		private final Set<String> files = ConcurrentHashMap.newKeySet();
+
+		private static void register(Path file) {
+			VaadinSession session = VaadinSession.getCurrent();
+			if (session != null) {
+				SessionFiles sessionFiles = session.getAttribute(SessionFiles.class);
+				if (sessionFiles == null) {
+					sessionFiles = new SessionFiles();
+					session.setAttribute(SessionFiles.class, sessionFiles);
+				}
+				sessionFiles.files.add(file.toString());
+			}
+		}
+
+		private static void delete(Path file) {
+			VaadinSession session = VaadinSession.getCurrent();
+			if (session != null && session.getAttribute(SessionFiles.class) != null) {
+				session.getAttribute(SessionFiles.class).files.remove(file.toString());
+			}
+			deleteFile(file);
+		}
+
+		private static void deleteFile(Path file) {
+			try {
+				Files.deleteIfExists(file);
+			} catch (IOException ex) {
+				log.warn("Could not delete temporary upload file {}", file);
+			}
+		}
+
+		/**
+		 * Deletes all temporary files that were created for a session
+		 * 
+		 * @param session the session
+		 */
+		public static void deleteAll(VaadinSession session) {
+			SessionFiles sessionFiles = session.getAttribute(SessionFiles.class);
+			if (sessionFiles != null) {
+				sessionFiles.files.forEach(f -> deleteFile(Path.of(f)));
+				sessionFiles.files.clear();
+			}
+		}
+	}
+}
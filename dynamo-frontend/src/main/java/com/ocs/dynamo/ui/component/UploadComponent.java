@@ -13,7 +13,6 @@
  */
 package com.ocs.dynamo.ui.component;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.Set;
 import java.util.function.BiConsumer;
@@ -26,6 +25,7 @@ import com.ocs.dynamo.constants.DynamoConstants;
 import com.ocs.dynamo.domain.model.AttributeModel;
 import com.ocs.dynamo.service.MessageService;
 import com.ocs.dynamo.service.ServiceLocatorFactory;
+import com.ocs.dynamo.ui.utils.LobUtils;
 import com.ocs.dynamo.ui.utils.VaadinUtils;
 import com.vaadin.flow.component.Text;
 import com.vaadin.flow.component.button.Button;
@@ -34,17 +34,17 @@ import com.vaadin.flow.component.html.Image;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.upload.FinishedEvent;
 import com.vaadin.flow.component.upload.Upload;
-import com.vaadin.flow.component.upload.receivers.MemoryBuffer;
-import com.vaadin.flow.server.StreamResource;
 
 import lombok.Getter;
 import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * A custom field that can be used to upload a file
  *
  * @author bas.rutten
  */
+@Slf4j
 public class UploadComponent extends CustomField<byte[]> {
 
 	private static final long serialVersionUID = -2254464483539583268L;
@@ -81,17 +81,22 @@ public class UploadComponent extends CustomField<byte[]> {
 		initContent();
 	}
 
-	private void afterUploadFinished(MemoryBuffer buffer, FinishedEvent event) {
+	private void afterUploadFinished(TempFileReceiver receiver, FinishedEvent event) {
 		String extension = FilenameUtils.getExtension(event.getFileName());
 		Set<String> allowedExtensions = am.getAllowedExtensions();
 		if (allowedExtensions == null || allowedExtensions.isEmpty()
 				|| (extension != null && allowedExtensions.contains(extension.toLowerCase()))) {
 
-			byte[] content = new byte[(int) event.getContentLength()];
+			// the value of a LOB field is a byte array, so the file is read only once
+			// and the temporary file is removed directly afterwards
+			byte[] content;
 			try {
-				buffer.getInputStream().read(content);
+				content = receiver.readBytes();
 			} catch (IOException e) {
-				// do nothing
+				log.error(e.getMessage(), e);
+				return;
+			} finally {
+				receiver.delete();
 			}
 			setValue(content);
 
@@ -104,6 +109,7 @@ public class UploadComponent extends CustomField<byte[]> {
 			}
 
 		} else {
+			receiver.delete();
 			VaadinUtils.showErrorNotification(
 					messageService.getMessage("ocs.modelbasededitform.upload.format.invalid", VaadinUtils.getLocale()));
 		}
@@ -136,25 +142,26 @@ public class UploadComponent extends CustomField<byte[]> {
 		// for a LOB field, create an upload and an image
 		// retrieve the current value
 		if (am.isImage()) {
-			image.setVisible(value != null);
-			if (value != null) {
-				image.setSrc(new StreamResource(System.nanoTime() + ".png", () -> new ByteArrayInputStream(value)));
-			}
+			updateImage();
 			main.add(image);
 		} else {
 			text = new Text(messageService.getMessage("ocs.no.preview.available", VaadinUtils.getLocale()));
 			main.add(text);
 		}
 
-		MemoryBuffer buffer = new MemoryBuffer();
-		upload = new Upload(buffer);
+		TempFileReceiver receiver = new TempFileReceiver();
+		upload = new Upload(receiver);
+		if (receiver.getMaxSize() > 0) {
+			upload.setMaxFileSize((int) Math.min(Integer.MAX_VALUE, receiver.getMaxSize()));
+		}
+		upload.addFailedListener(event -> receiver.delete());
 
 		if (am.getAllowedExtensions() != null && !am.getAllowedExtensions().isEmpty()) {
 			Set<String> extensions = am.getAllowedExtensions().stream().map(s -> "." + s).collect(Collectors.toSet());
 			upload.setAcceptedFileTypes(extensions.toArray(new String[0]));
 		}
 
-		upload.addFinishedListener(event -> afterUploadFinished(buffer, event));
+		upload.addFinishedListener(event -> afterUploadFinished(receiver, event));
 
 		// clear content and file name after file upload is removed
 		upload.getElement().addEventListener("file-remove", event -> {
@@ -211,12 +218,21 @@ public class UploadComponent extends CustomField<byte[]> {
 		showValue();
 	}
 
+	/**
+	 * Updates the image preview. The preview is displayed as a thumbnail when
+	 * thumbnails are enabled
+	 */
+	private void updateImage() {
+		byte[] current = value;
+		image.setVisible(current != null);
+		if (current != null) {
+			image.setSrc(LobUtils.createImageResource(System.nanoTime() + ".png", null, () -> current));
+		}
+	}
+
 	private void showValue() {
 		if (am.isImage()) {
-			image.setVisible(value != null);
-			if (value != null) {
-				image.setSrc(new StreamResource(System.nanoTime() + ".png", () -> new ByteArrayInputStream(value)));
-			}
+			updateImage();
 		} else {
 			text.setText(messageService.getMessage("ocs.no.preview.available", VaadinUtils.getLocale()));
 		}
@@ -48,10 +48,13 @@ import com.vaadin.flow.component.Component;
 import com.vaadin.flow.component.ComponentEventListener;
 import com.vaadin.flow.component.HasComponents;
 import com.vaadin.flow.component.Key;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.icon.VaadinIcon;
 import com.vaadin.flow.component.orderedlayout.FlexLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.data.value.HasValueChangeMode;
+import com.vaadin.flow.data.value.ValueChangeMode;
 import com.vaadin.flow.function.SerializablePredicate;
 
 import lombok.Getter;
@@ -135,6 +138,27 @@ public abstract class AbstractModelBasedSearchForm<ID extends Serializable, T ex
 	@Getter
 	private HasComponents filterLayout;
 
+	/**
+	 * The filter that was used for the last search
+	 */
+	private SerializablePredicate<T> lastSearchFilter;
+
+	/**
+	 * Whether a search has been carried out
+	 */
+	private boolean searchPerformed;
+
+	/**
+	 * Whether the last search was an 'Or' search
+	 */
+	private boolean lastSearchMatchAny;
+
+	/**
+	 * Whether a search (as a result of a filter change) is scheduled to be carried
+	 * out before the response is sent to the client
+	 */
+	private boolean searchScheduled;
+
 	private VerticalLayout main;
 
 	/**
@@ -495,6 +519,61 @@ public abstract class AbstractModelBasedSearchForm<ID extends Serializable, T ex
 			currentFilters.add(event.getNewFilter());
 		}
 		searchButton.setEnabled(isSearchAllowed());
+
+		if (isSearchAsYouType()) {
+			scheduleSearch();
+		}
+	}
+
+	/**
+	 * Configures a search field so that it only sends its value to the server after
+	 * the user has stopped typing, when searching as you type
+	 * 
+	 * @param component the search field
+	 */
+	protected void configureValueChangeMode(Component component) {
+		if (isSearchAsYouType() && component instanceof HasValueChangeMode hvcm) {
+			hvcm.setValueChangeMode(ValueChangeMode.LAZY);
+			hvcm.setValueChangeTimeout(getFormOptions().getSearchDelay());
+		}
+	}
+
+	/**
+	 * @return whether a search is carried out automatically when a filter changes
+	 */
+	protected boolean isSearchAsYouType() {
+		return getFormOptions().isSearchImmediately() && getFormOptions().getSearchDelay() > 0;
+	}
+
+	/**
+	 * Schedules a search to be carried out right before the response is sent to
+	 * the client, so that all filter changes that are made during a single request
+	 * result in a single search
+	 */
+	private void scheduleSearch() {
+		if (searchScheduled || searchable == null) {
+			return;
+		}
+		UI ui = getUI().orElse(UI.getCurrent());
+		if (ui != null) {
+			searchScheduled = true;
+			ui.beforeClientResponse(this, context -> {
+				searchScheduled = false;
+				searchIfFilterChanged();
+			});
+		}
+	}
+
+	/**
+	 * Carries out a search of the same kind ('And' or 'Or') as the previous
+	 * search, unless the filter is equal to the filter that was used for the
+	 * previous search
+	 */
+	private void searchIfFilterChanged() {
+		if (searchPerformed && PredicateUtils.isEqual(extractFilter(lastSearchMatchAny), lastSearchFilter)) {
+			return;
+		}
+		search(false, lastSearchMatchAny);
 	}
 
 	/**
@@ -550,7 +629,11 @@ public abstract class AbstractModelBasedSearchForm<ID extends Serializable, T ex
 				}
 			}
 
-			searchable.search(extractFilter(matchAny));
+			SerializablePredicate<T> filter = extractFilter(matchAny);
+			searchable.search(filter);
+			lastSearchFilter = filter;
+			lastSearchMatchAny = matchAny;
+			searchPerformed = true;
 
 			// store search filters for later use
 			storeSearchFilters();
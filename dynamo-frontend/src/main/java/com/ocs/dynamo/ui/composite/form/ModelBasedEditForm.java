@@ -31,6 +31,7 @@ import com.ocs.dynamo.ui.composite.layout.FormOptions;
 import com.ocs.dynamo.ui.composite.layout.HasSelectedItem;
 import com.ocs.dynamo.ui.composite.layout.TabWrapper;
 import com.ocs.dynamo.ui.composite.type.AttributeGroupMode;
+import com.ocs.dynamo.ui.utils.LobUtils;
 import com.ocs.dynamo.ui.utils.VaadinUtils;
 import com.ocs.dynamo.util.SystemPropertyUtils;
 import com.ocs.dynamo.util.TriConsumer;
@@ -59,11 +60,9 @@ import com.vaadin.flow.data.binder.Binder.Binding;
 import com.vaadin.flow.data.binder.Binder.BindingBuilder;
 import com.vaadin.flow.data.binder.BinderValidationStatus;
 import com.vaadin.flow.function.SerializablePredicate;
-import com.vaadin.flow.server.StreamResource;
 import lombok.Getter;
 import lombok.Setter;
 
-import java.io.ByteArrayInputStream;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.text.DecimalFormat;
@@ -129,6 +128,11 @@ public class ModelBasedEditForm<ID extends Serializable, T extends AbstractEntit
      */
     private final Map<Boolean, Map<String, List<Button>>> buttons = new HashMap<>();
 
+    /**
+     * The attributes for which a cascade listener has been added, per view mode
+     */
+    private final Map<Boolean, Set<String>> cascadeListenersAdded = new HashMap<>();
+
     /**
      * The relations to fetch when selecting a single detail relation
      */
@@ -219,6 +223,19 @@ public class ModelBasedEditForm<ID extends Serializable, T extends AbstractEntit
     @Setter
     private String[] parentGroupHeaders;
 
+    /**
+     * The code for constructing the contents of the tabs that have not been
+     * opened yet, per view mode and tab index. Only used when lazy tab
+     * construction is enabled
+     */
+    private final Map<Boolean, Map<Integer, Runnable>> pendingTabs = new HashMap<>();
+
+    /**
+     * The index of the (not yet constructed) tab that contains an attribute, per
+     * view mode and attribute path
+     */
+    private final Map<Boolean, Map<String, Integer>> pendingTabAttributes = new HashMap<>();
+
     @Getter
     @Setter
     private BiConsumer<FlexLayout, Boolean> postProcessButtonBar;
@@ -283,35 +300,47 @@ public class ModelBasedEditForm<ID extends Serializable, T extends AbstractEntit
 
         buttons.put(Boolean.TRUE, new HashMap<>());
         buttons.put(Boolean.FALSE, new HashMap<>());
+
+        cascadeListenersAdded.put(Boolean.TRUE, new HashSet<>());
+        cascadeListenersAdded.put(Boolean.FALSE, new HashSet<>());
+
+        pendingTabs.put(Boolean.TRUE, new HashMap<>());
+        pendingTabs.put(Boolean.FALSE, new HashMap<>());
+
+        pendingTabAttributes.put(Boolean.TRUE, new HashMap<>());
+        pendingTabAttributes.put(Boolean.FALSE, new HashMap<>());
     }
 
     /**
-     * Adds a cascade listener to the input field for an attribute
+     * Applies the cascade filters that result from a change to the value of the
+     * input field for an attribute
      *
      * @param am    the attribute
-     * @param event the value change event for the input field
+     * @param value the new value of the input field
      */
     @SuppressWarnings("unchecked")
-    private <S> void addCascadeListener(AttributeModel am, ValueChangeEvent<S> event) {
+    private <S> void applyCascadeFilters(AttributeModel am, S value) {
         for (String cascadePath : am.getCascadeAttributes()) {
             CascadeMode cm = am.getCascadeMode(cascadePath);
             if (CascadeMode.BOTH.equals(cm) || CascadeMode.EDIT.equals(cm)) {
                 Component cascadeField = getField(isViewMode(), cascadePath);
                 if (cascadeField instanceof Cascadable) {
                     Cascadable<S> ca = (Cascadable<S>) cascadeField;
-                    if (event.getValue() == null) {
+                    if (value == null) {
                         ca.clearAdditionalFilter();
                     } else {
-                        if (event.getValue() instanceof Collection) {
+                        if (value instanceof Collection) {
                             ca.setAdditionalFilter(new InPredicate<>(am.getCascadeFilterPath(cascadePath),
-                                    (Collection<S>) event.getValue()));
+                                    (Collection<S>) value));
                         } else {
                             ca.setAdditionalFilter(
-                                    new EqualsPredicate<>(am.getCascadeFilterPath(cascadePath), event.getValue()));
+                                    new EqualsPredicate<>(am.getCascadeFilterPath(cascadePath), value));
                         }
                     }
-                } else {
-                    // field not found or does not support cascading
+                } else if (cascadeField != null
+                        || !pendingTabAttributes.get(isViewMode()).containsKey(cascadePath)) {
+                    // field not found or does not support cascading (fields on tabs that have
+                    // not been constructed yet are filtered once the tab is constructed)
                     throw new OCSRuntimeException("Cannot setup cascading from " + am.getPath() + " to " + cascadePath);
                 }
             }
@@ -328,7 +357,12 @@ public class ModelBasedEditForm<ID extends Serializable, T extends AbstractEntit
                     getComponentContext().findCustomConverter(attributeModel),
                     getComponentContext().findCustomValidator(attributeModel),
                     getComponentContext().findCustomRequiredValidator(attributeModel));
-            builder.bind(attributeModel.getPath());
+            if (field instanceof UploadComponent) {
+                ((BindingBuilder<T, byte[]>) builder).bind(e -> getLobValue(e, attributeModel),
+                        (e, value) -> ClassUtils.setBytes(value, e, attributeModel.getPath()));
+            } else {
+                builder.bind(attributeModel.getPath());
+            }
         }
     }
 
@@ -474,6 +508,7 @@ public class ModelBasedEditForm<ID extends Serializable, T extends AbstractEntit
     private void addTabChangeListener(TabWrapper wrapper) {
         wrapper.addSelectedChangeListener(event -> {
             int index = event.getSource().getSelectedIndex();
+            constructPendingTab(index);
 
             if (getComponentContext().getAfterTabSelected() != null) {
                 getComponentContext().getAfterTabSelected().accept(index);
@@ -803,8 +838,9 @@ public class ModelBasedEditForm<ID extends Serializable, T extends AbstractEntit
     private <S> void constructCascadeListeners() {
         for (AttributeModel am : getEntityModel().getCascadeAttributeModels()) {
             HasValue<?, S> field = (HasValue<?, S>) getField(isViewMode(), am.getPath());
-            if (field != null) {
-                ValueChangeListener<ValueChangeEvent<?>> cascadeListener = event -> addCascadeListener(am, event);
+            if (field != null && cascadeListenersAdded.get(isViewMode()).add(am.getPath())) {
+                ValueChangeListener<ValueChangeEvent<?>> cascadeListener = event -> applyCascadeFilters(am,
+                        event.getValue());
                 field.addValueChangeListener(cascadeListener);
             }
         }
@@ -893,21 +929,63 @@ public class ModelBasedEditForm<ID extends Serializable, T extends AbstractEntit
      */
     private Component constructImagePreview(AttributeModel attributeModel) {
         if (attributeModel.isImage()) {
-            byte[] bytes = ClassUtils.getBytes(getEntity(), attributeModel.getName());
+            Image image = new Image();
+            image.setClassName(DynamoConstants.CSS_IMAGE_PREVIEW);
+            updateImagePreview(image, attributeModel);
+            return image;
+        } else {
+            return new Span(message("ocs.no.preview.available"));
+        }
+    }
+
+    /**
+     * Points an image preview to the contents of the image property of the current
+     * entity. When the property has not been loaded yet, the contents are only
+     * retrieved once the browser requests the image
+     *
+     * @param image          the image preview
+     * @param attributeModel the attribute model for the image property
+     */
+    private void updateImagePreview(Image image, AttributeModel attributeModel) {
+        String name = attributeModel.getDisplayName(VaadinUtils.getLocale());
+        String path = attributeModel.getPath();
+        ID id = entity.getId();
+        if (id != null && !LobUtils.isLoaded(entity, path)) {
+            image.setAlt(name);
+            image.setSrc(LobUtils.createImageResource(name,
+                    LobUtils.getThumbnailKey(getEntityModel().getEntityClass(), id, path),
+                    () -> service.findLobValue(id, path)));
+        } else {
+            byte[] bytes = ClassUtils.getBytes(entity, path);
             if (bytes == null || bytes.length == 0) {
-                return new Span(message("ocs.no.preview.available"));
+                image.getElement().removeAttribute("src");
+                image.setAlt(message("ocs.no.preview.available"));
             } else {
-                StreamResource sr = new StreamResource(attributeModel.getDisplayName(VaadinUtils.getLocale()),
-                        () -> new ByteArrayInputStream(new byte[0]));
-                Image image = new Image(sr, attributeModel.getDisplayName(VaadinUtils.getLocale()));
-                image.setClassName(DynamoConstants.CSS_IMAGE_PREVIEW);
-                return image;
+                image.setAlt(name);
+                image.setSrc(LobUtils.createImageResource(name, null, () -> bytes));
             }
-        } else {
-            return new Span(message("ocs.no.preview.available"));
         }
     }
 
+    /**
+     * Returns the value of a LOB property of an entity. When the property has not
+     * been loaded yet (because it is mapped as lazy) it is retrieved using a
+     * separate query
+     *
+     * @param entity         the entity
+     * @param attributeModel the attribute model for the LOB property
+     * @return the value of the property
+     */
+    private byte[] getLobValue(T entity, AttributeModel attributeModel) {
+        String path = attributeModel.getPath();
+        if (entity.getId() != null && !LobUtils.isLoaded(entity, path)) {
+            byte[] value = service.findLobValue(entity.getId(), path);
+            ClassUtils.setBytes(value, entity, path);
+            return value;
+        }
+        return ClassUtils.getBytes(entity, path);
+    }
+
     /**
      * Constructs an internal link button. This is used for displaying a clickable
      * link in view mode
@@ -1086,14 +1164,24 @@ public class ModelBasedEditForm<ID extends Serializable, T extends AbstractEntit
         if (bottom) {
             groups.get(isViewMode()).getFields().forEach(f -> {
                 if (f instanceof HasValidation hv) {
-                    ValueChangeListener<ValueChangeEvent<?>> listener = event -> hv.setErrorMessage(null);
-                    f.addValueChangeListener(listener);
+                    clearErrorMessageOnValueChange(f, hv);
                 }
             });
         }
         return saveButton;
     }
 
+    /**
+     * Clears the error message of a field whenever its value changes
+     *
+     * @param field the field
+     * @param hv    the field as a component that supports validation
+     */
+    private void clearErrorMessageOnValueChange(HasValue<?, ?> field, HasValidation hv) {
+        ValueChangeListener<ValueChangeEvent<?>> listener = event -> hv.setErrorMessage(null);
+        field.addValueChangeListener(listener);
+    }
+
     private Span constructTitleLabel() {
         String value = getTitleLabelValue();
         return new Span(value);
@@ -1113,6 +1201,15 @@ public class ModelBasedEditForm<ID extends Serializable, T extends AbstractEntit
         }
     }
 
+    /**
+     * Removes the cached thumbnails of the image properties of the current entity
+     */
+    private void evictThumbnails() {
+        getEntityModel().getAttributeModels().stream().filter(AttributeModel::isImage)
+                .forEach(am -> LobUtils.evictThumbnail(
+                        LobUtils.getThumbnailKey(getEntityModel().getEntityClass(), entity.getId(), am.getPath())));
+    }
+
     /**
      * Perform the actual save action
      */
@@ -1120,6 +1217,7 @@ public class ModelBasedEditForm<ID extends Serializable, T extends AbstractEntit
         boolean isNew = entity.getId() == null;
 
         entity = service.save(entity);
+        evictThumbnails();
         setEntity(service.fetchById(entity.getId(), getDetailJoins()));
         showTrayNotification(message("ocs.changes.saved"));
 
@@ -1193,6 +1291,7 @@ public class ModelBasedEditForm<ID extends Serializable, T extends AbstractEntit
      * @return the binding for the field that is used for editing the property
      */
     public Binding<T, ?> getBinding(String path) {
+        constructPendingTabFor(path);
         Optional<Binding<T, ?>> binding = groups.get(viewMode).getBinding(path);
         return binding.orElse(null);
     }
@@ -1228,6 +1327,7 @@ public class ModelBasedEditForm<ID extends Serializable, T extends AbstractEntit
      * @return the component
      */
     public Component getField(String path) {
+        constructPendingTabFor(path);
         return getField(isViewMode(), path);
     }
 
@@ -1241,7 +1341,7 @@ public class ModelBasedEditForm<ID extends Serializable, T extends AbstractEntit
      */
     @SuppressWarnings("unchecked")
     public <C extends Component> C getField(String path, Class<C> clazz) {
-        return (C) getField(isViewMode(), path);
+        return (C) getField(path);
     }
 
     /**
@@ -1252,7 +1352,7 @@ public class ModelBasedEditForm<ID extends Serializable, T extends AbstractEntit
      */
     @SuppressWarnings("unchecked")
     public <U> HasValue<?, U> getFieldAsHasValue(String fieldName) {
-        return (HasValue<?, U>) getField(isViewMode(), fieldName);
+        return (HasValue<?, U>) getField(fieldName);
     }
 
     /**
@@ -1398,6 +1498,7 @@ public class ModelBasedEditForm<ID extends Serializable, T extends AbstractEntit
      * @return true if this is the case, false otherwise
      */
     public boolean isValid() {
+        constructPendingTabs();
         return groups.get(isViewMode()).isValid();
     }
 
@@ -1420,8 +1521,17 @@ public class ModelBasedEditForm<ID extends Serializable, T extends AbstractEntit
             if (entityModel.isAttributeGroupVisible(attributeGroup, isViewMode())) {
                 HasComponents innerForm = constructAttributeGroupLayout(form, useTabs, tabs.get(isViewMode()),
                         attributeGroup, true);
-                for (AttributeModel attributeModel : entityModel.getAttributeModelsForGroup(attributeGroup)) {
-                    addField(innerForm, entityModel, attributeModel, tabIndex);
+                List<AttributeModel> attributeModels = entityModel.getAttributeModelsForGroup(attributeGroup);
+                int index = tabIndex;
+                Runnable construct = () -> {
+                    for (AttributeModel attributeModel : attributeModels) {
+                        addField(innerForm, entityModel, attributeModel, index);
+                    }
+                };
+                if (isLazyTab(useTabs, tabIndex)) {
+                    deferTab(tabIndex, attributeModels, construct);
+                } else {
+                    construct.run();
                 }
                 if (AttributeGroupMode.TABSHEET.equals(getFormOptions().getAttributeGroupMode())) {
                     tabIndex++;
@@ -1477,11 +1587,129 @@ public class ModelBasedEditForm<ID extends Serializable, T extends AbstractEntit
             }
 
             // add all appropriate inner groups
-            processParentHeaderGroup(parentGroupHeader, innerForm, useInnerTabs, innerTabs, tabIndex);
+            if (isLazyTab(useTabs, tabIndex)) {
+                int index = tabIndex;
+                deferTab(tabIndex, getAttributeModelsForParentGroup(parentGroupHeader),
+                        () -> processParentHeaderGroup(parentGroupHeader, innerForm, false, null, index));
+            } else {
+                processParentHeaderGroup(parentGroupHeader, innerForm, useInnerTabs, innerTabs, tabIndex);
+            }
             tabIndex++;
         }
     }
 
+    /**
+     * Returns the attribute models of all attribute groups that belong to a parent
+     * group
+     *
+     * @param parentGroupHeader the parent group header
+     * @return the attribute models
+     */
+    private List<AttributeModel> getAttributeModelsForParentGroup(String parentGroupHeader) {
+        List<AttributeModel> result = new ArrayList<>();
+        for (String attributeGroup : getEntityModel().getAttributeGroups()) {
+            if (Objects.equals(getParentGroup(attributeGroup), parentGroupHeader)) {
+                result.addAll(getEntityModel().getAttributeModelsForGroup(attributeGroup));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks whether the construction of a tab must be deferred until the tab is
+     * selected. The first tab is always constructed immediately
+     *
+     * @param useTabs  whether the attribute groups are displayed in tabs
+     * @param tabIndex the index of the tab
+     * @return true if this is the case, false otherwise
+     */
+    private boolean isLazyTab(boolean useTabs, int tabIndex) {
+        return useTabs && tabIndex > 0 && getFormOptions().isLazyTabConstruction();
+    }
+
+    /**
+     * Registers a tab of which the contents will be constructed when the tab is
+     * first selected
+     *
+     * @param tabIndex        the index of the tab
+     * @param attributeModels the attribute models of the attributes on the tab
+     * @param construct       the code that constructs the contents of the tab
+     */
+    private void deferTab(int tabIndex, List<AttributeModel> attributeModels, Runnable construct) {
+        pendingTabs.get(isViewMode()).put(tabIndex, construct);
+        Map<String, Integer> attributes = pendingTabAttributes.get(isViewMode());
+        for (AttributeModel am : attributeModels) {
+            attributes.putIfAbsent(am.getPath(), tabIndex);
+            for (String path : am.getGroupTogetherWith()) {
+                attributes.putIfAbsent(path, tabIndex);
+            }
+        }
+    }
+
+    /**
+     * Constructs the contents of a tab that has not been opened before
+     *
+     * @param tabIndex the index of the tab
+     */
+    @SuppressWarnings("unchecked")
+    private void constructPendingTab(int tabIndex) {
+        Runnable construct = pendingTabs.get(isViewMode()).remove(tabIndex);
+        if (construct == null) {
+            return;
+        }
+
+        pendingTabAttributes.get(isViewMode()).values().removeIf(index -> index == tabIndex);
+        Set<String> boundBefore = new HashSet<>(alreadyBound.get(isViewMode()));
+        construct.run();
+
+        List<AttributeModel> added = alreadyBound.get(isViewMode()).stream()
+                .filter(path -> !boundBefore.contains(path)).map(path -> getEntityModel().getAttributeModel(path))
+                .filter(Objects::nonNull).toList();
+
+        constructCascadeListeners();
+        for (AttributeModel am : getEntityModel().getCascadeAttributeModels()) {
+            // apply any cascade filters to the newly constructed fields
+            HasValue<?, Object> field = (HasValue<?, Object>) getField(isViewMode(), am.getPath());
+            if (field != null && field.getValue() != null
+                    && added.stream().anyMatch(a -> am.getCascadeAttributes().contains(a.getPath()))) {
+                applyCascadeFilters(am, field.getValue());
+            }
+        }
+
+        if (!isViewMode()) {
+            for (AttributeModel am : added) {
+                Component field = getField(isViewMode(), am.getPath());
+                if (field instanceof HasValidation hv) {
+                    clearErrorMessageOnValueChange((HasValue<?, ?>) field, hv);
+                }
+            }
+        }
+        setDefaultValues(added);
+        disableCreateOnlyFields();
+    }
+
+    /**
+     * Constructs the contents of all tabs that have not been opened yet
+     */
+    private void constructPendingTabs() {
+        for (Integer tabIndex : new ArrayList<>(pendingTabs.get(isViewMode()).keySet())) {
+            constructPendingTab(tabIndex);
+        }
+    }
+
+    /**
+     * Constructs the tab that contains the field for an attribute, if that tab has
+     * not been constructed yet
+     *
+     * @param path the path of the attribute
+     */
+    private void constructPendingTabFor(String path) {
+        Integer tabIndex = pendingTabAttributes.get(isViewMode()).get(path);
+        if (tabIndex != null) {
+            constructPendingTab(tabIndex);
+        }
+    }
+
     public void putAttributeGroupPanel(String key, Component c) {
         attributeGroups.get(isViewMode()).put(key, c);
     }
@@ -1553,6 +1781,15 @@ public class ModelBasedEditForm<ID extends Serializable, T extends AbstractEntit
             }
         }
 
+        // point the image previews to the current entity
+        if (previews.get(isViewMode()) != null) {
+            previews.get(isViewMode()).forEach((am, preview) -> {
+                if (preview instanceof Image image) {
+                    updateImagePreview(image, am);
+                }
+            });
+        }
+
         // also replace the title labels
         Span titleSpan = titleLabels.get(isViewMode());
         if (titleSpan != null) {
@@ -1588,6 +1825,7 @@ public class ModelBasedEditForm<ID extends Serializable, T extends AbstractEntit
     public void selectTab(int index) {
         if (tabs.get(isViewMode()) != null) {
             tabs.get(isViewMode()).setSelectedIndex(index);
+            constructPendingTab(index);
         }
     }
 
@@ -1614,7 +1852,7 @@ public class ModelBasedEditForm<ID extends Serializable, T extends AbstractEntit
      */
     public void setComponentVisible(String propertyName, boolean visible) {
         setLabelVisible(propertyName, visible);
-        Component field = getField(isViewMode(), propertyName);
+        Component field = getField(propertyName);
         if (field != null) {
             field.setVisible(visible);
         }
@@ -1630,10 +1868,20 @@ public class ModelBasedEditForm<ID extends Serializable, T extends AbstractEntit
         field.setValue(value);
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     private void setDefaultValues() {
+        setDefaultValues(getEntityModel().getAttributeModels());
+    }
+
+    /**
+     * Sets the default values for the fields of the provided attributes (when
+     * creating a new entity)
+     *
+     * @param attributeModels the attribute models
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void setDefaultValues(List<AttributeModel> attributeModels) {
         if (!isViewMode() && entity.getId() == null) {
-            for (AttributeModel am : getEntityModel().getAttributeModels()) {
+            for (AttributeModel am : attributeModels) {
                 Component field = getField(isViewMode(), am.getPath());
                 if (field != null && am.getDefaultValue() != null) {
                     Object defaultValue = am.getDefaultValue();
@@ -1836,6 +2084,7 @@ public class ModelBasedEditForm<ID extends Serializable, T extends AbstractEntit
         if (tabs.get(oldMode) != null) {
             int selectedIndex = tabs.get(oldMode).getSelectedIndex();
             tabs.get(isViewMode()).setSelectedIndex(selectedIndex);
+            constructPendingTab(selectedIndex);
             if (!isViewMode() && firstFields.get(selectedIndex) != null) {
                 firstFields.get(selectedIndex).focus();
             }
@@ -1922,6 +2171,8 @@ public class ModelBasedEditForm<ID extends Serializable, T extends AbstractEntit
      */
     @Override
     public boolean validateAllFields() {
+        // fields on tabs that have not been opened must be validated as well
+        constructPendingTabs();
 
         BinderValidationStatus<T> status = groups.get(isViewMode()).validate();
         boolean error = !status.isOk();
@@ -1937,6 +2188,7 @@ public class ModelBasedEditForm<ID extends Serializable, T extends AbstractEntit
     }
 
     private void fillForm() {
+        constructPendingTabs();
         FormFillDialog dialog = new FormFillDialog(this.mainEditLayout,
                     this.getEntityModel(), this);
         dialog.buildAndOpen();
@@ -354,6 +354,7 @@ public class ModelBasedFlexibleSearchForm<ID extends Serializable, T extends Abs
         @SuppressWarnings("unchecked")
         private void createAuxComponent(FieldCreationContext context, Component newComponent) {
             Component newAuxComponent = factory.constructField(context);
+            configureValueChangeMode(newAuxComponent);
             ValueChangeListener<ValueChangeEvent<?>> auxListener = event -> handleValueChange(
                     (HasValue<?, ?>) newAuxComponent, event.getValue());
             ((HasValue<?, ?>) newAuxComponent).addValueChangeListener(auxListener);
@@ -546,6 +547,7 @@ public class ModelBasedFlexibleSearchForm<ID extends Serializable, T extends Abs
 
             Component newComponent = constructCustomComponent(getEntityModel(), am)
                     .orElseGet(() -> factory.constructField(context));
+            configureValueChangeMode(newComponent);
             addValueChangeListener(newComponent);
             addCascadeListeners(newComponent);
 
@@ -183,6 +183,7 @@ public class ModelBasedSearchForm<ID extends Serializable, T extends AbstractEnt
 			throw new OCSRuntimeException("No field could be constructed for %s".formatted(attributeModel.getPath()));
 		}
 
+		configureValueChangeMode(component);
 		return component;
 	}
 
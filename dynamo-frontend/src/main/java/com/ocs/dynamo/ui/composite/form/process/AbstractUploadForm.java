@@ -0,0 +1,160 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.composite.form.process;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+import com.ocs.dynamo.ui.component.TempFileReceiver;
+import com.ocs.dynamo.ui.utils.VaadinUtils;
+import com.vaadin.componentfactory.EnhancedFormLayout;
+import com.vaadin.flow.component.DetachEvent;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.component.upload.Upload;
+
+import elemental.json.Json;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Base class for forms that contain a file upload component and a progress
+ * bar. The uploaded file is written to a temporary file rather than kept in
+ * memory
+ *
+ * @author bas.rutten
+ * @param <T> the type of the input that is passed to the process
+ */
+@Slf4j
+public abstract class AbstractUploadForm<T> extends ProgressForm<T> {
+
+    private static final long serialVersionUID = 2780713640421858104L;
+
+    @Getter
+    private final boolean showCancelButton;
+
+    @Getter
+    private Upload upload;
+
+    @Getter
+    private String fileName;
+
+    @Getter
+    @Setter
+    private Consumer<EnhancedFormLayout> buildForm;
+
+    @Getter
+    @Setter
+    private Runnable onCancel;
+
+    @Getter
+    private final TempFileReceiver receiver = new TempFileReceiver();
+
+    /**
+     * Constructor
+     *
+     * @param ui               the Vaadin UI
+     * @param progressMode     the desired progress mode
+     * @param showCancelButton whether to include a cancel button
+     */
+    protected AbstractUploadForm(UI ui, ProgressMode progressMode, boolean showCancelButton) {
+        super(ui, progressMode);
+        this.showCancelButton = showCancelButton;
+        setBuildMainLayout(main -> {
+            EnhancedFormLayout form = new EnhancedFormLayout();
+            main.add(form);
+
+            // add custom components
+            if (buildForm != null) {
+                buildForm.accept(form);
+            }
+
+            // add file upload field
+            upload = createFileUpload();
+            form.add(upload);
+
+            if (showCancelButton) {
+                addCancelButton(main);
+            }
+        });
+    }
+
+    private void addCancelButton(VerticalLayout main) {
+        Button cancelButton = new Button(message("ocs.cancel"));
+        cancelButton.addClickListener(event -> {
+            if (onCancel != null) {
+                onCancel.run();
+            }
+        });
+        main.add(cancelButton);
+    }
+
+    private Upload createFileUpload() {
+        Upload upload = new Upload(receiver);
+        upload.setClassName("dynamoUpload");
+        if (receiver.getMaxSize() > 0) {
+            upload.setMaxFileSize((int) Math.min(Integer.MAX_VALUE, receiver.getMaxSize()));
+        }
+        upload.addFailedListener(event -> receiver.delete());
+        upload.addFinishedListener(event -> {
+            this.fileName = event.getFileName();
+            if (event.getContentLength() > 0L && receiver.getFile() != null) {
+                upload.clearFileList();
+                try {
+                    startWork(toInput(receiver));
+                } catch (IOException e) {
+                    log.error(e.getMessage(), e);
+                    receiver.delete();
+                }
+            } else {
+                receiver.delete();
+                showNotification(message("ocs.no.file.selected"));
+            }
+        });
+        return upload;
+    }
+
+    /**
+     * Converts the uploaded file to the input for the process. When the input
+     * refers to the uploaded file itself, take it over using
+     * {@link TempFileReceiver#release()} and delete it in
+     * {@link #afterProcess(Object)}, so that it outlives this form while it is
+     * being processed
+     *
+     * @param receiver the receiver that holds the uploaded file
+     * @return the input
+     * @throws IOException when the uploaded file cannot be read
+     */
+    protected abstract T toInput(TempFileReceiver receiver) throws IOException;
+
+    @Override
+    protected void onDetach(DetachEvent detachEvent) {
+        super.onDetach(detachEvent);
+        // only removes a file that has not been handed over to a process
+        receiver.delete();
+    }
+
+    /**
+     * Shows an error after file upload and clears the upload component
+     *
+     * @param message the message to show
+     */
+    protected void showErrorAndClear(String message) {
+        VaadinUtils.showErrorNotification(message);
+        getUpload().getElement().setPropertyJson("files", Json.createArray());
+    }
+
+}
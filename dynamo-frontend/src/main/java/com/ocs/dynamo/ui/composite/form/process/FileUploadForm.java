@@ -0,0 +1,68 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.composite.form.process;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.ocs.dynamo.ui.component.TempFileReceiver;
+import com.vaadin.flow.component.UI;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A form that contains a file upload component and a progress bar. The
+ * uploaded file is passed to the process as the path of a temporary file, so
+ * that it can be streamed without loading it into memory. The temporary file is
+ * handed over to the process and is deleted once the process completes, so a
+ * new upload (or detaching the form) does not affect a file that is still being
+ * processed
+ *
+ * @author bas.rutten
+ */
+@Slf4j
+public class FileUploadForm extends AbstractUploadForm<Path> {
+
+    private static final long serialVersionUID = -5520478161839315062L;
+
+    /**
+     * Constructor
+     *
+     * @param ui               the Vaadin UI
+     * @param progressMode     the desired progress mode
+     * @param showCancelButton whether to include a cancel button
+     */
+    public FileUploadForm(UI ui, ProgressMode progressMode, boolean showCancelButton) {
+        super(ui, progressMode, showCancelButton);
+    }
+
+    @Override
+    protected Path toInput(TempFileReceiver receiver) {
+        return receiver.release();
+    }
+
+    @Override
+    protected void afterProcess(Path input) {
+        // this may run on the worker thread, so only touch the processed file
+        if (input != null) {
+            try {
+                Files.deleteIfExists(input);
+            } catch (IOException ex) {
+                log.warn("Could not delete temporary upload file {}", input);
+            }
+        }
+    }
+
+}
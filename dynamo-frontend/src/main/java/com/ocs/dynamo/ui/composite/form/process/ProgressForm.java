@@ -212,6 +212,7 @@ public class ProgressForm<T> extends BaseCustomComponent implements Progressable
 					process.accept(input, estimatedSize);
 				} finally {
 					updater.setStopped(true);
+					afterProcess(input);
 					signalDone(false);
 				}
 			});
@@ -220,10 +221,24 @@ public class ProgressForm<T> extends BaseCustomComponent implements Progressable
 			log.error(ex.getMessage(), ex);
 			// exception during size estimation
 			showNotification(ex.getMessage());
+			afterProcess(input);
 			signalDone(true);
 		}
 	}
 
+	/**
+	 * Callback that is carried out after the processing of the input has ended
+	 * (successfully or not), or when the input was rejected by the validity
+	 * check. Note that this runs on the worker thread when a progress bar is
+	 * used. Can be overridden to e.g. release resources that are held by the
+	 * input
+	 * 
+	 * @param input the input that was processed
+	 */
+	protected void afterProcess(T input) {
+		// override in subclasses
+	}
+
 	/**
 	 * Executes the process without polling
 	 * 
@@ -238,6 +253,8 @@ public class ProgressForm<T> extends BaseCustomComponent implements Progressable
 			// exception during size estimation
 			showNotification(ex.getMessage());
 			signalDone(true);
+		} finally {
+			afterProcess(input);
 		}
 	}
 
@@ -368,6 +385,8 @@ public class ProgressForm<T> extends BaseCustomComponent implements Progressable
 			} else {
 				executeProcessWithPolling(input);
 			}
+		} else {
+			afterProcess(input);
 		}
 	}
 
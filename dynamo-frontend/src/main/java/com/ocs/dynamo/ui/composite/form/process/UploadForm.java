@@ -14,46 +14,20 @@
 package com.ocs.dynamo.ui.composite.form.process;
 
 import java.io.IOException;
-import java.util.function.Consumer;
 
-import com.ocs.dynamo.ui.utils.VaadinUtils;
-import com.vaadin.componentfactory.EnhancedFormLayout;
+import com.ocs.dynamo.ui.component.TempFileReceiver;
 import com.vaadin.flow.component.UI;
-import com.vaadin.flow.component.button.Button;
-import com.vaadin.flow.component.orderedlayout.VerticalLayout;
-import com.vaadin.flow.component.upload.Upload;
-import com.vaadin.flow.component.upload.receivers.MemoryBuffer;
-
-import elemental.json.Json;
-import lombok.Getter;
-import lombok.Setter;
 
 /**
- * A form that contains a file upload component and a progress bar
+ * A form that contains a file upload component and a progress bar. The
+ * uploaded file is passed to the process as a byte array
  *
  * @author bas.rutten
  */
-public class UploadForm extends ProgressForm<byte[]> {
+public class UploadForm extends AbstractUploadForm<byte[]> {
 
     private static final long serialVersionUID = -4717815709838453902L;
 
-    @Getter
-    private final boolean showCancelButton;
-
-    @Getter
-    private Upload upload;
-
-    @Getter
-    private String fileName;
-
-    @Getter
-    @Setter
-    private Consumer<EnhancedFormLayout> buildForm;
-
-    @Getter
-    @Setter
-    private Runnable onCancel;
-
     /**
      * Constructor
      *
@@ -62,68 +36,16 @@ public class UploadForm extends ProgressForm<byte[]> {
      * @param showCancelButton whether to include a cancel button
      */
     public UploadForm(UI ui, ProgressMode progressMode, boolean showCancelButton) {
-        super(ui, progressMode);
-        this.showCancelButton = showCancelButton;
-        setBuildMainLayout(main -> {
-            EnhancedFormLayout form = new EnhancedFormLayout();
-            main.add(form);
-
-            // add custom components
-            if (buildForm != null) {
-                buildForm.accept(form);
-            }
-
-            // add file upload field
-            upload = createFileUpload();
-            form.add(upload);
-
-            if (showCancelButton) {
-                addCancelButton(main);
-            }
-        });
+        super(ui, progressMode, showCancelButton);
     }
 
-    private void addCancelButton(VerticalLayout main) {
-        Button cancelButton = new Button(message("ocs.cancel"));
-        cancelButton.addClickListener(event -> {
-            if (onCancel != null) {
-                onCancel.run();
-            }
-        });
-        main.add(cancelButton);
-    }
-
-    private Upload createFileUpload() {
-        MemoryBuffer buffer = new MemoryBuffer();
-        Upload upload = new Upload(buffer);
-        upload.setClassName("dynamoUpload");
-        upload.addFinishedListener(event -> {
-            this.fileName = event.getFileName();
-            if (event.getContentLength() > 0L) {
-                byte[] content = new byte[(int) event.getContentLength()];
-                try {
-                    upload.clearFileList();
-
-                    buffer.getInputStream().read(content);
-                    startWork(content);
-                } catch (IOException e) {
-                    // do nothing
-                }
-            } else {
-                showNotification(message("ocs.no.file.selected"));
-            }
-        });
-        return upload;
-    }
-
-    /**
-     * Shows an error after file upload and clears the upload component
-     *
-     * @param message the message to show
-     */
-    protected void showErrorAndClear(String message) {
-        VaadinUtils.showErrorNotification(message);
-        getUpload().getElement().setPropertyJson("files", Json.createArray());
+    @Override
+    protected byte[] toInput(TempFileReceiver receiver) throws IOException {
+        try {
+            return receiver.readBytes();
+        } finally {
+            receiver.delete();
+        }
     }
 
 }
@@ -26,6 +26,7 @@ import org.apache.commons.lang3.function.TriFunction;
 
 import com.ocs.dynamo.constants.DynamoConstants;
 import com.ocs.dynamo.domain.AbstractEntity;
+import com.ocs.dynamo.domain.comparator.AttributeComparator;
 import com.ocs.dynamo.service.MessageService;
 import com.ocs.dynamo.service.ServiceLocatorFactory;
 import com.ocs.dynamo.ui.Buildable;
@@ -154,8 +155,8 @@ public class InMemoryTreeGrid<T, ID, C extends AbstractEntity<ID>, ID2, P extend
 	 * @param caption      the column caption
 	 * @param alignRight   whether to align the column to the right
 	 */
-	public Column<?> addReadOnlyColumn(String propertyName, String caption, boolean alignRight) {
-		Column<?> col;
+	public Column<T> addReadOnlyColumn(String propertyName, String caption, boolean alignRight) {
+		Column<T> col;
 		if (this.getColumns().isEmpty()) {
 			col = this.addHierarchyColumn(t -> {
 				Object value = ClassUtils.getFieldValue(t, propertyName);
@@ -174,6 +175,8 @@ public class InMemoryTreeGrid<T, ID, C extends AbstractEntity<ID>, ID2, P extend
 			});
 		}
 
+		// sort on the actual value rather than the formatted one
+		col.setComparator(new AttributeComparator<T>(propertyName, VaadinUtils.getLocale())::compare);
 		col.setId(propertyName);
 		col.setHeader(caption);
 		col.setKey(propertyName);
@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 
 import com.ocs.dynamo.domain.AbstractEntity;
+import com.ocs.dynamo.domain.comparator.AttributeComparator;
 import com.ocs.dynamo.domain.model.AttributeModel;
 import com.ocs.dynamo.domain.model.AttributeType;
 import com.ocs.dynamo.domain.model.EditableType;
@@ -132,6 +133,13 @@ public abstract class ModelBasedGridBuilder<ID extends Serializable, T extends A
             column.setHeader(am.getDisplayName(VaadinUtils.getLocale())).setSortProperty(am.getActualSortPath())
                     .setSortable(am.isSortable()).setClassNameGenerator(item -> am.isNumerical() ? "v-align-right" : "")
                     .setKey(am.getPath()).setAutoWidth(true).setResizable(true).setId(am.getPath());
+
+            // used when sorting in memory, compare on the actual value rather than the
+            // formatted one
+            if (am.isSortable()) {
+                column.setComparator(
+                        new AttributeComparator<T>(am.getActualSortPath(), VaadinUtils.getLocale())::compare);
+            }
         }
 
     }
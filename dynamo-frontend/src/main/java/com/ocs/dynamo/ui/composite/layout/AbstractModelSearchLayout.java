@@ -14,7 +14,10 @@
 package com.ocs.dynamo.ui.composite.layout;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.ocs.dynamo.constants.DynamoConstants;
 import com.ocs.dynamo.dao.FetchJoinInformation;
@@ -80,6 +83,12 @@ public abstract class AbstractModelSearchLayout<ID extends Serializable, T exten
 	@Getter
 	private Button nextButton;
 
+	/**
+	 * Entities that have been prefetched while navigating through the search
+	 * results, by ID
+	 */
+	private final Map<ID, T> prefetchedEntities = new HashMap<>();
+
 	@Getter
 	private Button prevButton;
 
@@ -106,6 +115,9 @@ public abstract class AbstractModelSearchLayout<ID extends Serializable, T exten
 
 	private void addAfterEditDone() {
 		editForm.setAfterEditDone((cancel, isNew, entity) -> {
+			if (entity != null) {
+				prefetchedEntities.remove(entity.getId());
+			}
 			if (getFormOptions().isOpenInViewMode()) {
 				if (isNew) {
 					searchMode();
@@ -226,6 +238,8 @@ public abstract class AbstractModelSearchLayout<ID extends Serializable, T exten
 
 			@Override
 			protected SerializablePredicate<T> beforeSearchPerformed(SerializablePredicate<T> filter) {
+				// the search results change, so prefetched entities are no longer relevant
+				prefetchedEntities.clear();
 				return AbstractModelSearchLayout.this.beforeSearchPerformed(filter);
 			}
 
@@ -410,6 +424,48 @@ public abstract class AbstractModelSearchLayout<ID extends Serializable, T exten
 		}
 	}
 
+	/**
+	 * Retrieves the entity to navigate to. When a prefetch window has been
+	 * configured, the target entity and its neighbours are retrieved using a single
+	 * query and kept in memory so that subsequent navigation does not require a
+	 * database round trip
+	 * 
+	 * @param leavingId the ID of the entity that is currently displayed
+	 * @param targetId  the ID of the entity to navigate to
+	 * @return the entity to navigate to
+	 */
+	private T fetchNavigationTarget(ID leavingId, ID targetId) {
+		int window = getFormOptions().getNavigationPrefetchWindow();
+		if (window <= 0) {
+			return getService().fetchById(targetId, getDetailJoins());
+		}
+
+		// the entity that is being left might have been modified while it was displayed
+		if (leavingId != null) {
+			prefetchedEntities.remove(leavingId);
+		}
+
+		T target = prefetchedEntities.get(targetId);
+		if (target == null) {
+			BaseDataProvider<ID, T> provider = (BaseDataProvider<ID, T>) getGridWrapper().getDataProvider();
+			List<ID> toFetch = new ArrayList<>();
+			toFetch.add(targetId);
+			provider.getNeighbourItemIds(targetId, window).stream().filter(id -> !id.equals(leavingId))
+					.forEach(toFetch::add);
+
+			prefetchedEntities.clear();
+			getService().fetchByIds(toFetch, getDetailJoins()).forEach(t -> prefetchedEntities.put(t.getId(), t));
+			target = prefetchedEntities.get(targetId);
+		}
+		return target;
+	}
+
+	@Override
+	protected T fetchSelectedEntity(ID id) {
+		T prefetched = prefetchedEntities.get(id);
+		return prefetched != null ? prefetched : super.fetchSelectedEntity(id);
+	}
+
 	@Override
 	public ServiceBasedGridWrapper<ID, T> getGridWrapper() {
 		if (gridWrapper == null) {
@@ -423,10 +479,11 @@ public abstract class AbstractModelSearchLayout<ID extends Serializable, T exten
 	 */
 	protected final T getNextEntity() {
 		BaseDataProvider<ID, T> provider = (BaseDataProvider<ID, T>) getGridWrapper().getDataProvider();
+		ID currentId = provider.getCurrentlySelectedId();
 		ID nextId = provider.getNextItemId();
 		T next = null;
 		if (nextId != null) {
-			next = getService().fetchById(nextId, getDetailJoins());
+			next = fetchNavigationTarget(currentId, nextId);
 			getGridWrapper().getGrid().select(next);
 		}
 		return next;
@@ -437,10 +494,11 @@ public abstract class AbstractModelSearchLayout<ID extends Serializable, T exten
 	 */
 	protected final T getPreviousEntity() {
 		BaseDataProvider<ID, T> provider = (BaseDataProvider<ID, T>) getGridWrapper().getDataProvider();
+		ID currentId = provider.getCurrentlySelectedId();
 		ID prevId = provider.getPreviousItemId();
 		T prev = null;
 		if (prevId != null) {
-			prev = getService().fetchById(prevId, getDetailJoins());
+			prev = fetchNavigationTarget(currentId, prevId);
 			getGridWrapper().getGrid().select(prev);
 		}
 		return prev;
@@ -540,6 +540,16 @@ public abstract class AbstractSearchLayout<ID extends Serializable, T extends Ab
 		setSelectedItem(null);
 	}
 
+	/**
+	 * Retrieves the entity that was selected in the grid
+	 * 
+	 * @param id the ID of the selected entity
+	 * @return the entity, including the detail joins
+	 */
+	protected T fetchSelectedEntity(ID id) {
+		return getService().fetchById(id, getDetailJoins());
+	}
+
 	/**
 	 * Perform the actual search
 	 */
@@ -573,7 +583,7 @@ public abstract class AbstractSearchLayout<ID extends Serializable, T extends Ab
 			if (selectedItems instanceof Collection<?> col) {
 				if (col.size() == 1) {
 					T t = (T) col.iterator().next();
-					setSelectedItem(getService().fetchById(t.getId(), getDetailJoins()));
+					setSelectedItem(fetchSelectedEntity(t.getId()));
 					this.selectedItems = new ArrayList<>(List.of(getSelectedItem()));
 				} else if (col.size() > 1) {
 					// deal with the selection of multiple items
@@ -586,7 +596,7 @@ public abstract class AbstractSearchLayout<ID extends Serializable, T extends Ab
 			} else {
 				// single item has been selected
 				T t = (T) selectedItems;
-				setSelectedItem(getService().fetchById(t.getId(), getDetailJoins()));
+				setSelectedItem(fetchSelectedEntity(t.getId()));
 			}
 		} else {
 			setSelectedItem(null);
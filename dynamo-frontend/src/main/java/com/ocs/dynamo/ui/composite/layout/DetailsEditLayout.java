@@ -27,6 +27,7 @@ import java.util.function.Supplier;
 
 import com.ocs.dynamo.constants.DynamoConstants;
 import com.ocs.dynamo.domain.AbstractEntity;
+import com.ocs.dynamo.domain.comparator.AttributeComparator;
 import com.ocs.dynamo.domain.model.AttributeModel;
 import com.ocs.dynamo.domain.model.EntityModel;
 import com.ocs.dynamo.domain.model.GroupTogetherMode;
@@ -592,7 +593,9 @@ public class DetailsEditLayout<ID extends Serializable, T extends AbstractEntity
         if (items != null) {
             list.addAll(items);
         }
-        if (comparator != null) {
+        if (comparator instanceof AttributeComparator<T> attributeComparator) {
+            attributeComparator.sort(list);
+        } else if (comparator != null) {
             list.sort(comparator);
         }
 
@@ -448,22 +448,15 @@ public class EditableGridLayout<ID extends Serializable, T extends AbstractEntit
         saveButton = new Button(message("ocs.save"));
         saveButton.addClickListener(event -> {
 
-            List<T> toSave = new ArrayList<>(binders.keySet());
-            boolean valid = binders.values().stream().map(binder -> binder.validate()).allMatch(s -> s.isOk());
-            if (valid) {
+            Map<T, Binder<T>> toValidate = getFormOptions().isSaveChangedRowsOnly() ? getChangedBinders() : binders;
+            List<T> toSave = new ArrayList<>(toValidate.keySet());
+            boolean valid = toValidate.values().stream().map(binder -> binder.validate()).allMatch(s -> s.isOk());
+            if (valid && !toSave.isEmpty()) {
                 if (getFormOptions().isConfirmSave()) {
                     askConfirmationBeforeSave(toSave);
                 } else {
                     // do not ask for confirmation before saving
-                    try {
-                        getService().save(toSave);
-                        VaadinUtils.showTrayNotification(message("ocs.changes.saved"));
-                        // save and reassign to avoid optimistic locks
-                        clearAll();
-                        constructGrid();
-                    } catch (RuntimeException ex) {
-                        handleSaveException(ex);
-                    }
+                    saveRows(toSave);
                 }
             }
         });
@@ -475,17 +468,61 @@ public class EditableGridLayout<ID extends Serializable, T extends AbstractEntit
     private void askConfirmationBeforeSave(List<T> toSave) {
         VaadinUtils.showConfirmDialog(getMessageService().getMessage("ocs.confirm.save.all",
                         VaadinUtils.getLocale(), getEntityModel().getDisplayNamePlural(VaadinUtils.getLocale())),
-                () -> {
-                    try {
-                        getService().save(toSave);
-                        VaadinUtils.showTrayNotification(message("ocs.changes.saved"));
-                        // save and recreate grid to avoid optimistic locks
-                        clearAll();
-                        constructGrid();
-                    } catch (RuntimeException ex) {
-                        handleSaveException(ex);
-                    }
-                });
+                () -> saveRows(toSave));
+    }
+
+    /**
+     * Saves the provided rows and then updates the grid. Depending on the form
+     * options, either only the saved rows are refreshed or the entire grid is
+     * reconstructed
+     *
+     * @param toSave the entities to save
+     */
+    private void saveRows(List<T> toSave) {
+        try {
+            List<T> saved = getService().save(toSave);
+            VaadinUtils.showTrayNotification(message("ocs.changes.saved"));
+            if (getFormOptions().isSaveChangedRowsOnly()) {
+                refreshSavedRows(toSave, saved);
+            } else {
+                // save and recreate grid to avoid optimistic locks
+                clearAll();
+                constructGrid();
+            }
+        } catch (RuntimeException ex) {
+            handleSaveException(ex);
+        }
+    }
+
+    /**
+     * Replaces the rows that were saved by the saved versions of the entities.
+     * Only these rows are refreshed, the rest of the grid is left untouched
+     *
+     * @param original the entities that were passed to the service
+     * @param saved    the entities as returned by the service
+     */
+    private void refreshSavedRows(List<T> original, List<T> saved) {
+        for (T t : original) {
+            binders.remove(t);
+            changedEntityIds.remove(t.getId());
+        }
+
+        // refresh the rows so that they are bound to the saved versions (avoids optimistic locks)
+        DataProvider<T, ?> provider = getGridWrapper().getGrid().getDataProvider();
+        saved.forEach(provider::refreshItem);
+    }
+
+    /**
+     * @return the binders for the rows that were modified by the user
+     */
+    private Map<T, Binder<T>> getChangedBinders() {
+        Map<T, Binder<T>> result = new HashMap<>();
+        binders.forEach((entity, binder) -> {
+            if (changedEntityIds.contains(entity.getId()) || binder.hasChanges()) {
+                result.put(entity, binder);
+            }
+        });
+        return result;
     }
 
     @Override
@@ -110,6 +110,19 @@ public class FormOptions implements Serializable {
 	 */
 	private GridEditMode gridEditMode = GridEditMode.SINGLE_ROW;
 
+	/**
+	 * Whether to only construct the fields on a tab of an edit form when the tab
+	 * is first selected. Only applies when the attribute group mode is TABSHEET
+	 */
+	private boolean lazyTabConstruction;
+
+	/**
+	 * The number of entities to prefetch on either side of the selected entity
+	 * when navigating through search results using the next and previous buttons.
+	 * A value of 0 disables prefetching
+	 */
+	private int navigationPrefetchWindow = SystemPropertyUtils.getDefaultNavigationPrefetchWindow();
+
 	/**
 	 * 
 	 * Whether to open the form in view (read-only) mode
@@ -149,6 +162,13 @@ public class FormOptions implements Serializable {
 	 */
 	private boolean readOnly;
 
+	/**
+	 * Whether to only save the rows that were actually modified when saving an
+	 * EditableGridLayout in SIMULTANEOUS mode. When false, all rows are saved and
+	 * the grid is reconstructed afterwards
+	 */
+	private boolean saveChangedRowsOnly = true;
+
 	/**
 	 * The orientation of the screen (horizontal or vertical). This is relevant for
 	 * the split layout. In the HORIZONTAL view the grid and form are displayed next
@@ -156,6 +176,13 @@ public class FormOptions implements Serializable {
 	 */
 	private ScreenMode screenMode = ScreenMode.HORIZONTAL;
 
+	/**
+	 * The delay (in milliseconds) after the last filter change after which a
+	 * search is carried out automatically. Only used when searchImmediately is
+	 * true, 0 disables searching as you type
+	 */
+	private int searchDelay = SystemPropertyUtils.getDefaultSearchDelay();
+
 	/**
 	 * Whether to search immediately when opening a search screen
 	 */
@@ -271,6 +298,7 @@ public class FormOptions implements Serializable {
 		fo.setPreserveSelectedTab(isPreserveSelectedTab());
 		fo.setScreenMode(getScreenMode());
 		fo.setSearchImmediately(isSearchImmediately());
+		fo.setSearchDelay(getSearchDelay());
 		fo.setShowBackButton(isShowBackButton());
 		fo.setShowNextButton(isShowNextButton());
 		fo.setShowPrevButton(isShowPrevButton());
@@ -293,6 +321,9 @@ public class FormOptions implements Serializable {
 		fo.setShowDetailsGridDetailsPanel(isShowDetailsGridDetailsPanel());
 		fo.setShowSplitLayoutSearchButton(isShowSplitLayoutSearchButton());
 		fo.setShowFormFillButton(isShowFormFillButton());
+		fo.setNavigationPrefetchWindow(getNavigationPrefetchWindow());
+		fo.setSaveChangedRowsOnly(isSaveChangedRowsOnly());
+		fo.setLazyTabConstruction(isLazyTabConstruction());
 		return fo;
 	}
 
@@ -312,6 +343,10 @@ public class FormOptions implements Serializable {
 		return gridEditMode;
 	}
 
+	public int getNavigationPrefetchWindow() {
+		return navigationPrefetchWindow;
+	}
+
 	public ScreenMode getScreenMode() {
 		return screenMode;
 	}
@@ -356,6 +391,10 @@ public class FormOptions implements Serializable {
 		return exportAllowed;
 	}
 
+	public boolean isLazyTabConstruction() {
+		return lazyTabConstruction;
+	}
+
 	public boolean isOpenInViewMode() {
 		return openInViewMode;
 	}
@@ -384,6 +423,14 @@ public class FormOptions implements Serializable {
 		return readOnly;
 	}
 
+	public boolean isSaveChangedRowsOnly() {
+		return saveChangedRowsOnly;
+	}
+
+	public int getSearchDelay() {
+		return searchDelay;
+	}
+
 	public boolean isSearchImmediately() {
 		return searchImmediately;
 	}
@@ -619,6 +666,20 @@ public class FormOptions implements Serializable {
 		return this;
 	}
 
+	/**
+	 * Specify whether to construct the fields on a tab of an edit form only when
+	 * the tab is selected for the first time. This only has an effect when the
+	 * attribute group mode is TABSHEET. Fields on tabs that have not been opened
+	 * are constructed before the form is validated
+	 * 
+	 * @param lazyTabConstruction whether to construct the tabs lazily
+	 * @return
+	 */
+	public FormOptions setLazyTabConstruction(boolean lazyTabConstruction) {
+		this.lazyTabConstruction = lazyTabConstruction;
+		return this;
+	}
+
 	/**
 	 * Specify whether to open details screens in view mode. This defaults to
 	 * <code>false</code>
@@ -708,6 +769,19 @@ public class FormOptions implements Serializable {
 		return this;
 	}
 
+	/**
+	 * Specify whether to only save the modified rows when saving an
+	 * EditableGridLayout in SIMULTANEOUS mode. When set to false, all rows are
+	 * saved and the grid is reconstructed after saving
+	 * 
+	 * @param saveChangedRowsOnly the desired setting
+	 * @return the FormOptions object
+	 */
+	public FormOptions setSaveChangedRowsOnly(boolean saveChangedRowsOnly) {
+		this.saveChangedRowsOnly = saveChangedRowsOnly;
+		return this;
+	}
+
 	/**
 	 * Specify the desired screen mode for SplitLayouts. Supported values are
 	 * HORIZONTAL (the default) and VERTICAL
@@ -720,6 +794,19 @@ public class FormOptions implements Serializable {
 		return this;
 	}
 
+	/**
+	 * Specify the delay (in milliseconds) after which a search is carried out when
+	 * the user changes a search filter. Only has an effect when searchImmediately
+	 * is true
+	 * 
+	 * @param searchDelay the delay (0 disables searching as you type)
+	 * @return
+	 */
+	public FormOptions setSearchDelay(int searchDelay) {
+		this.searchDelay = searchDelay;
+		return this;
+	}
+
 	/**
 	 * Specify whether searching occurs immediately when the user opens a screen
 	 * that contains a search form. This defaults to <code>true</code>
@@ -934,6 +1021,20 @@ public class FormOptions implements Serializable {
 		return this;
 	}
 
+	/**
+	 * Specify the number of entities to prefetch on either side of the selected
+	 * entity when navigating through search results using the next and previous
+	 * buttons
+	 * 
+	 * @param navigationPrefetchWindow the desired window size (0 disables
+	 *                                 prefetching)
+	 * @return the FormOptions object
+	 */
+	public FormOptions setNavigationPrefetchWindow(int navigationPrefetchWindow) {
+		this.navigationPrefetchWindow = navigationPrefetchWindow;
+		return this;
+	}
+
 	public FormOptions setShowFormFillButton(boolean showFormFillButton) {
 		this.showFormFillButton = showFormFillButton;
 		return this;
@@ -15,6 +15,11 @@ package com.ocs.dynamo.ui.converter;
 
 import java.math.BigDecimal;
 import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import com.ocs.dynamo.domain.model.AttributeModel;
 import com.ocs.dynamo.service.MessageService;
@@ -35,6 +40,25 @@ public final class ConverterFactory {
 
 	private static final String CANNOT_CONVERT = "ocs.cannot.convert";
 
+	/**
+	 * The converters, per type and configuration. The number converters are
+	 * stateless, so identical configurations can share a single instance
+	 */
+	private static final Map<List<Object>, Converter<String, ?>> CONVERTERS = new ConcurrentHashMap<>();
+
+	/**
+	 * Returns the cached converter for a certain configuration, creating it first
+	 * if needed
+	 * 
+	 * @param supplier the supplier that creates the converter
+	 * @param key      the values that identify the configuration
+	 * @return the converter
+	 */
+	@SuppressWarnings("unchecked")
+	private static <C extends Converter<String, ?>> C getConverter(Supplier<C> supplier, Object... key) {
+		return (C) CONVERTERS.computeIfAbsent(Arrays.asList(key), k -> supplier.get());
+	}
+
 	/**
 	 * Creates a BigDecimalConverter
 	 * 
@@ -49,11 +73,14 @@ public final class ConverterFactory {
 			boolean useGrouping, int precision, String currencySymbol) {
 		String msg = messageService.getMessage(CANNOT_CONVERT, VaadinUtils.getLocale());
 		if (currency) {
-			return new CurrencyBigDecimalConverter(msg, precision, useGrouping, currencySymbol);
+			return getConverter(() -> new CurrencyBigDecimalConverter(msg, precision, useGrouping, currencySymbol),
+					CurrencyBigDecimalConverter.class, msg, precision, useGrouping, currencySymbol);
 		} else if (percentage) {
-			return new PercentageBigDecimalConverter(msg, precision, useGrouping);
+			return getConverter(() -> new PercentageBigDecimalConverter(msg, precision, useGrouping),
+					PercentageBigDecimalConverter.class, msg, precision, useGrouping);
 		} else {
-			return new BigDecimalConverter(msg, precision, useGrouping);
+			return getConverter(() -> new BigDecimalConverter(msg, precision, useGrouping),
+					BigDecimalConverter.class, msg, precision, useGrouping);
 		}
 	}
 
@@ -90,8 +117,11 @@ public final class ConverterFactory {
 	 */
 	public static StringToIntegerConverter createIntegerConverter(boolean useGrouping, boolean percentage) {
 		String msg = messageService.getMessage(CANNOT_CONVERT, VaadinUtils.getLocale());
-		return percentage ? new PercentageIntegerConverter(msg, useGrouping)
-				: new GroupingStringToIntegerConverter(msg, useGrouping);
+		return percentage
+				? getConverter(() -> new PercentageIntegerConverter(msg, useGrouping),
+						PercentageIntegerConverter.class, msg, useGrouping)
+				: getConverter(() -> new GroupingStringToIntegerConverter(msg, useGrouping),
+						GroupingStringToIntegerConverter.class, msg, useGrouping);
 	}
 
 	/**
@@ -103,8 +133,11 @@ public final class ConverterFactory {
 	 */
 	public static StringToLongConverter createLongConverter(boolean useGrouping, boolean percentage) {
 		String msg = messageService.getMessage(CANNOT_CONVERT, VaadinUtils.getLocale());
-		return percentage ? new PercentageLongConverter(msg, useGrouping)
-				: new GroupingStringToLongConverter(msg, useGrouping);
+		return percentage
+				? getConverter(() -> new PercentageLongConverter(msg, useGrouping), PercentageLongConverter.class,
+						msg, useGrouping)
+				: getConverter(() -> new GroupingStringToLongConverter(msg, useGrouping),
+						GroupingStringToLongConverter.class, msg, useGrouping);
 	}
 
 	/**
@@ -120,11 +153,14 @@ public final class ConverterFactory {
 			boolean useGrouping, int precision, String currencySymbol) {
 		String msg = messageService.getMessage(CANNOT_CONVERT, VaadinUtils.getLocale());
 		if (currency) {
-			return new CurrencyDoubleConverter(msg, precision, useGrouping, currencySymbol);
+			return getConverter(() -> new CurrencyDoubleConverter(msg, precision, useGrouping, currencySymbol),
+					CurrencyDoubleConverter.class, msg, precision, useGrouping, currencySymbol);
 		} else if (percentage) {
-			return new PercentageDoubleConverter(msg, precision, useGrouping);
+			return getConverter(() -> new PercentageDoubleConverter(msg, precision, useGrouping),
+					PercentageDoubleConverter.class, msg, precision, useGrouping);
 		} else {
-			return new GroupingStringToDoubleConverter(msg, precision, useGrouping);
+			return getConverter(() -> new GroupingStringToDoubleConverter(msg, precision, useGrouping),
+					GroupingStringToDoubleConverter.class, msg, precision, useGrouping);
 		}
 	}
 
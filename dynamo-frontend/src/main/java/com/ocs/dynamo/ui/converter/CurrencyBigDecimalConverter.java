@@ -35,7 +35,7 @@ public class CurrencyBigDecimalConverter extends BigDecimalConverter {
 	/**
 	 * The currency symbol
 	 */
-	private String currencySymbol;
+	private final String currencySymbol;
 
 	public CurrencyBigDecimalConverter(String message, int precision, boolean useGrouping, String currencySymbol) {
 		super(message, precision, useGrouping);
@@ -66,11 +66,12 @@ public class CurrencyBigDecimalConverter extends BigDecimalConverter {
 		return nf;
 	}
 
-	public String getCurrencySymbol() {
+	@Override
+	protected Object getFormatKey() {
 		return currencySymbol;
 	}
 
-	public void setCurrencySymbol(String currencySymbol) {
-		this.currencySymbol = currencySymbol;
+	public String getCurrencySymbol() {
+		return currencySymbol;
 	}
 }
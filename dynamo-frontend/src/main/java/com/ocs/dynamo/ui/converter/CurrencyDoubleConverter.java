@@ -31,7 +31,7 @@ public class CurrencyDoubleConverter extends GroupingStringToDoubleConverter {
 
     private static final long serialVersionUID = -8785156070280947096L;
 
-    private String currencySymbol;
+    private final String currencySymbol;
 
     public CurrencyDoubleConverter(String message, int precision, boolean useGrouping, String currencySymbol) {
         super(message, precision, useGrouping);
@@ -62,11 +62,12 @@ public class CurrencyDoubleConverter extends GroupingStringToDoubleConverter {
         return nf;
     }
 
-    public String getCurrencySymbol() {
+    @Override
+    protected Object getFormatKey() {
         return currencySymbol;
     }
 
-    public void setCurrencySymbol(String currencySymbol) {
-        this.currencySymbol = currencySymbol;
+    public String getCurrencySymbol() {
+        return currencySymbol;
     }
 }
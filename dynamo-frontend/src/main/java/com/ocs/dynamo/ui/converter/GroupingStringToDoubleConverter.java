@@ -71,12 +71,25 @@ public class GroupingStringToDoubleConverter extends StringToDoubleConverter {
 	 * @return
 	 */
 	public DecimalFormat getDecimalFormat(Locale locale) {
-		locale = locale != null ? locale : VaadinUtils.getLocale();
-		DecimalFormat decimalFormat = constructFormat(locale);
-		decimalFormat.setGroupingUsed(useGrouping);
-		decimalFormat.setMaximumFractionDigits(precision);
-		decimalFormat.setMinimumFractionDigits(precision);
-		return decimalFormat;
+		Locale formatLocale = locale != null ? locale : VaadinUtils.getLocale();
+		return NumberFormatCache.getFormat(() -> {
+			DecimalFormat decimalFormat = constructFormat(formatLocale);
+			decimalFormat.setGroupingUsed(useGrouping);
+			decimalFormat.setMaximumFractionDigits(precision);
+			decimalFormat.setMinimumFractionDigits(precision);
+			return decimalFormat;
+		}, getClass(), formatLocale, precision, useGrouping, getFormatKey());
+	}
+
+	/**
+	 * Returns any additional converter state on which the format depends. Formats
+	 * are cached per converter type, locale, precision, grouping setting and this
+	 * key - overwrite in subclasses whose format depends on other settings
+	 * 
+	 * @return the additional key
+	 */
+	protected Object getFormatKey() {
+		return null;
 	}
 
 	/**
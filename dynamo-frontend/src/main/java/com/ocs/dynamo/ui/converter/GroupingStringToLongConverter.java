@@ -38,8 +38,11 @@ public class GroupingStringToLongConverter extends StringToLongConverter {
 
 	@Override
 	protected NumberFormat getFormat(Locale locale) {
-		NumberFormat format = super.getFormat(locale == null ? VaadinUtils.getLocale() : locale);
-		format.setGroupingUsed(useGrouping);
-		return format;
+		Locale formatLocale = locale == null ? VaadinUtils.getLocale() : locale;
+		return NumberFormatCache.getFormat(() -> {
+			NumberFormat format = super.getFormat(formatLocale);
+			format.setGroupingUsed(useGrouping);
+			return format;
+		}, getClass(), formatLocale, useGrouping);
 	}
 }
@@ -0,0 +1,61 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.converter;
+
+import java.text.NumberFormat;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import lombok.experimental.UtilityClass;
+
+/**
+ * Cache of configured number formats that are used by the converters.
+ * Constructing and configuring a format is relatively expensive, so every
+ * distinct configuration is constructed only once. Since number formats are
+ * not thread safe, callers always receive their own copy of the cached format
+ * 
+ * @author bas.rutten
+ */
+@UtilityClass
+public final class NumberFormatCache {
+
+	private static final Map<List<Object>, NumberFormat> FORMATS = new ConcurrentHashMap<>();
+
+	/**
+	 * Removes all cached formats
+	 */
+	public static void clear() {
+		FORMATS.clear();
+	}
+
+	/**
+	 * Returns a copy of the format for the provided key, constructing the format
+	 * first if it is not yet cached
+	 * 
+	 * @param <F>      the type of the format
+	 * @param supplier supplier that constructs and configures the format
+	 * @param key      the values that (together) identify the format
+	 *                 configuration, e.g. the locale, precision and grouping
+	 *                 setting
+	 * @return a copy of the cached format
+	 */
+	@SuppressWarnings("unchecked")
+	public static <F extends NumberFormat> F getFormat(Supplier<F> supplier, Object... key) {
+		NumberFormat format = FORMATS.computeIfAbsent(Arrays.asList(key), k -> supplier.get());
+		return (F) format.clone();
+	}
+}
@@ -13,11 +13,14 @@
  */
 package com.ocs.dynamo.ui.menu;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -25,6 +28,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import com.ocs.dynamo.service.MessageService;
 import com.ocs.dynamo.ui.auth.PermissionChecker;
+import com.ocs.dynamo.ui.utils.VaadinUtils;
 import com.vaadin.flow.component.Component;
 
 import lombok.Getter;
@@ -82,6 +86,12 @@ public abstract class BaseMenuService<T extends Component, U> {
      */
     private final Map<String, T> destinationMap = new HashMap<>();
 
+    /**
+     * The parsed menu definitions, per root name and locale. These are shared
+     * between all sessions
+     */
+    private final Map<String, List<MenuDefinition>> definitions = new ConcurrentHashMap<>();
+
     @Autowired
     @Getter
     private MessageService messageService;
@@ -114,6 +124,14 @@ public abstract class BaseMenuService<T extends Component, U> {
         return command;
     }
 
+    /**
+     * Removes all cached menu definitions, so that they are read from the message
+     * bundle again the next time a menu is constructed
+     */
+    public void clearMenuDefinitions() {
+        definitions.clear();
+    }
+
     protected Set<Entry<String, T>> findDestinations(String destination) {
         return destinationMap.entrySet().stream().filter(e -> e.getKey().startsWith(destination))
                 .collect(Collectors.toSet());
@@ -123,6 +141,71 @@ public abstract class BaseMenuService<T extends Component, U> {
         return destinationMap.get(destination + "#" + (mode != null ? mode : "nomode"));
     }
 
+    /**
+     * Returns the definitions of the top level menu items for the current locale.
+     * The definitions are read from the message bundle once per root name and
+     * locale
+     *
+     * @param rootName the root name (prefix) of the messages that are used to
+     *                 populate the menu
+     * @return the menu definitions
+     */
+    protected List<MenuDefinition> getMenuDefinitions(String rootName) {
+        Locale locale = VaadinUtils.getLocale();
+        return definitions.computeIfAbsent(rootName + "#" + locale, k -> readRootDefinitions(rootName, locale));
+    }
+
+    /**
+     * Reads the definitions of the top level menu items. Reading stops at the
+     * first item that has no display name
+     *
+     * @param rootName the root name
+     * @param locale   the locale
+     * @return the menu definitions
+     */
+    private List<MenuDefinition> readRootDefinitions(String rootName, Locale locale) {
+        List<MenuDefinition> result = new ArrayList<>();
+        int i = 1;
+        MenuDefinition definition = readDefinition(rootName + "." + i, locale);
+        while (definition != null) {
+            result.add(definition);
+            i++;
+            definition = readDefinition(rootName + "." + i, locale);
+        }
+        return List.copyOf(result);
+    }
+
+    /**
+     * Reads the definition of a menu item and its children
+     *
+     * @param key    the message key of the menu item
+     * @param locale the locale
+     * @return the definition, or null if the item has no display name
+     */
+    private MenuDefinition readDefinition(String key, Locale locale) {
+        String caption = messageService.getMessageNoDefault(key + "." + DISPLAY_NAME, locale);
+        if (StringUtils.isEmpty(caption)) {
+            return null;
+        }
+
+        List<MenuDefinition> children = new ArrayList<>();
+        int index = 1;
+        String childKey = messageService.getMessageNoDefault(key + "." + index + "." + DISPLAY_NAME, locale);
+        while (childKey != null) {
+            MenuDefinition child = readDefinition(key + "." + index, locale);
+            if (child != null) {
+                children.add(child);
+            }
+            index++;
+            childKey = messageService.getMessageNoDefault(key + "." + index + "." + DISPLAY_NAME, locale);
+        }
+
+        return new MenuDefinition(key, caption, messageService.getMessageNoDefault(key + "." + DESTINATION, locale),
+                messageService.getMessageNoDefault(key + "." + TAB_INDEX, locale),
+                messageService.getMessageNoDefault(key + "." + MODE, locale),
+                messageService.getMessageNoDefault(key + "." + DESCRIPTION, locale), List.copyOf(children));
+    }
+
     /**
      * Returns the children of the root element of the menu
      *
@@ -0,0 +1,72 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.menu;
+
+import java.io.Serializable;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Immutable definition of a menu item (and its children) as read from the
+ * message bundle
+ *
+ * @author BasRutten
+ */
+@Getter
+@AllArgsConstructor
+public class MenuDefinition implements Serializable {
+
+    private static final long serialVersionUID = -2722353346838393245L;
+
+    /**
+     * The message key of the menu item
+     */
+    private final String key;
+
+    /**
+     * The display name
+     */
+    private final String displayName;
+
+    /**
+     * The destination (name of the view) to navigate to
+     */
+    private final String destination;
+
+    /**
+     * The tab index of the tab to display
+     */
+    private final String tabIndex;
+
+    /**
+     * The screen mode
+     */
+    private final String mode;
+
+    /**
+     * The tool tip
+     */
+    private final String description;
+
+    /**
+     * The child items
+     */
+    private final List<MenuDefinition> children;
+
+    public boolean hasChildren() {
+        return !children.isEmpty();
+    }
+}
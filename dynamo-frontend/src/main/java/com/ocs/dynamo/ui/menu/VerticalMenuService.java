@@ -42,27 +42,6 @@ public class VerticalMenuService extends BaseMenuService<Button, Accordion> {
 
 	private final Map<Component, AccordionPanel> toPanelMap = new HashMap<>();
 
-	/**
-	 * Adds child menu items to a parent item
-	 * 
-	 * @param parent the parent menu item
-	 * @param key    the message key
-	 */
-	private void addChildItems(Accordion parent, Accordion root, String key) {
-		// add the child items
-		int index = 1;
-		String childKey = getMessageService().getMessageNoDefault(key + "." + index + "." + DISPLAY_NAME,
-				VaadinUtils.getLocale());
-
-		while (childKey != null) {
-			constructMenu(parent, root, key + "." + index);
-			index++;
-			childKey = getMessageService().getMessageNoDefault(key + "." + index + "." + DISPLAY_NAME,
-					VaadinUtils.getLocale());
-		}
-
-	}
-
 	/**
 	 * Adds a menu item
 	 * 
@@ -132,34 +111,22 @@ public class VerticalMenuService extends BaseMenuService<Button, Accordion> {
 	/**
 	 * Constructs a menu item and its children
 	 * 
-	 * @param parent the parent component (either a menu bar or menu item) to add
-	 *               the menu to
-	 * @param key    the message key
+	 * @param parent     the parent component (either a menu bar or menu item) to add
+	 *                   the menu to
+	 * @param root       the root of the menu
+	 * @param definition the definition of the menu item
 	 * @return the constructed menu item
 	 */
-	protected Accordion constructMenu(Accordion parent, Accordion root, String key) {
-		String caption = getMessageService().getMessageNoDefault(key + "." + DISPLAY_NAME, VaadinUtils.getLocale());
-
-		Accordion menuItem = null;
-		// When no caption exists, return no instance of menuItem (null)
-		if (!StringUtils.isEmpty(caption)) {
-			// look up the messages
-			String destination = getMessageService().getMessageNoDefault(key + "." + DESTINATION,
-					VaadinUtils.getLocale());
-			String tabIndex = getMessageService().getMessageNoDefault(key + "." + TAB_INDEX, VaadinUtils.getLocale());
-			String mode = getMessageService().getMessageNoDefault(key + "." + MODE, VaadinUtils.getLocale());
-			String description = getMessageService().getMessageNoDefault(key + "." + DESCRIPTION,
-					VaadinUtils.getLocale());
-
-			NavigateCommand<Button, Accordion> command = createNavigationCommand(root, destination, tabIndex, mode);
-			boolean hasChildren = hasChildren(key);
-
-			menuItem = addMenuItem(parent, caption, hasChildren, mode, destination, description, command);
-
-			if (hasChildren) {
-				addChildItems(menuItem, root, key);
-			}
+	protected Accordion constructMenu(Accordion parent, Accordion root, MenuDefinition definition) {
+		NavigateCommand<Button, Accordion> command = createNavigationCommand(root, definition.getDestination(),
+				definition.getTabIndex(), definition.getMode());
+		boolean hasChildren = definition.hasChildren();
+
+		Accordion menuItem = addMenuItem(parent, definition.getDisplayName(), hasChildren, definition.getMode(),
+				definition.getDestination(), definition.getDescription(), command);
 
+		for (MenuDefinition child : definition.getChildren()) {
+			constructMenu(menuItem, root, child);
 		}
 		return menuItem;
 	}
@@ -175,13 +142,8 @@ public class VerticalMenuService extends BaseMenuService<Button, Accordion> {
 		Accordion mainMenu = new Accordion();
 		mainMenu.setClassName("dynamoVerticalMenuMain");
 
-		// look up any messages of the form "rootName.i"
-		int i = 1;
-		while (true) {
-			if (constructMenu(mainMenu, mainMenu, rootName + "." + i) == null) {
-				break;
-			}
-			i++;
+		for (MenuDefinition definition : getMenuDefinitions(rootName)) {
+			constructMenu(mainMenu, mainMenu, definition);
 		}
 
 		// hide any menu items for which the user has no access rights
@@ -203,25 +165,6 @@ public class VerticalMenuService extends BaseMenuService<Button, Accordion> {
 		return getChildren(root);
 	}
 
-	/**
-	 * Checks whether the menu item with the specified key has any children
-	 * 
-	 * @param key the key of the menu item
-	 * @return true if this is the case, false otherwise
-	 */
-	private boolean hasChildren(String key) {
-		int index = 1;
-		String childKey = getMessageService().getMessageNoDefault(key + "." + index + "." + DISPLAY_NAME,
-				VaadinUtils.getLocale());
-		while (childKey != null) {
-			index++;
-			childKey = getMessageService().getMessageNoDefault(key + "." + index + "." + DISPLAY_NAME,
-					VaadinUtils.getLocale());
-		}
-
-		return index > 1;
-	}
-
 	/**
 	 * Checks whether the provided item has a sub menu item with the provided
 	 * destination
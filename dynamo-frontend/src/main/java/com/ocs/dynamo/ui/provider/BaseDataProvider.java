@@ -14,6 +14,7 @@
 package com.ocs.dynamo.ui.provider;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
 
@@ -197,6 +198,36 @@ public abstract class BaseDataProvider<ID extends Serializable, T extends Abstra
 		return new FilterConverter<>(em);
 	}
 
+	/**
+	 * Returns the IDs of the items that surround the item identified by the
+	 * provided ID, without changing the currently selected item
+	 * 
+	 * @param id     the ID of the item
+	 * @param window the maximum number of IDs to return on either side of the item
+	 * @return the IDs of the neighbouring items, in the order of the provider. Does
+	 *         not include the provided ID itself
+	 */
+	public List<ID> getNeighbourItemIds(ID id, int window) {
+		List<ID> result = new ArrayList<>();
+		if (ids == null || window <= 0) {
+			return result;
+		}
+
+		int index = ids.indexOf(id);
+		if (index < 0) {
+			return result;
+		}
+
+		int from = Math.max(0, index - window);
+		int to = Math.min(ids.size() - 1, index + window);
+		for (int i = from; i <= to; i++) {
+			if (i != index) {
+				result.add(ids.get(i));
+			}
+		}
+		return result;
+	}
+
 	public ID getNextItemId() {
 		if (ids == null) {
 			return null;
@@ -0,0 +1,118 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.vaadin.flow.component.grid.Grid;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A template for pasting a block of values (e.g. copied from a spreadsheet)
+ * into the items of a grid. The rows of the block are applied to consecutive
+ * items, and the values in a row to consecutive columns. The whole block is
+ * parsed in a single pass, and the grid is refreshed once after all values
+ * have been applied
+ * 
+ * @author bas.rutten
+ *
+ * @param <T> the type of the items in the grid
+ */
+@Slf4j
+public abstract class BulkPasteTemplate<T> {
+
+	private final Locale locale;
+
+	@Getter
+	private final Grid<T> grid;
+
+	private final List<T> items;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param locale the locale used for the formatting
+	 * @param grid   the grid to which to apply the pasting
+	 * @param items  the items in the grid, in the order in which they are
+	 *               displayed
+	 */
+	protected BulkPasteTemplate(Locale locale, Grid<T> grid, List<T> items) {
+		this.locale = locale;
+		this.grid = grid;
+		this.items = items;
+	}
+
+	/**
+	 * Pastes a block of values
+	 * 
+	 * @param text        the text to paste
+	 * @param startRow    the index of the item to which to apply the first row
+	 * @param startColumn the index of the column to which to apply the first value
+	 *                    in every row
+	 * @return the items that were modified
+	 */
+	public List<T> execute(String text, int startRow, int startColumn) {
+		List<T> modified = new ArrayList<>();
+		char decimalSeparator = PasteUtils.getDecimalSeparator(locale);
+
+		List<String[]> rows = PasteUtils.splitRows(text);
+		for (int row = 0; row < rows.size() && startRow + row < items.size(); row++) {
+			T item = items.get(startRow + row);
+			String[] values = rows.get(row);
+			boolean changed = false;
+			for (int column = 0; column < values.length; column++) {
+				try {
+					String value = PasteUtils.translateSeparators(values[column], decimalSeparator).replace("%", "");
+					changed |= process(item, startColumn + column, value);
+				} catch (Exception ex) {
+					log.error(ex.getMessage(), ex);
+				}
+			}
+			if (changed) {
+				modified.add(item);
+			}
+		}
+
+		if (!modified.isEmpty()) {
+			afterPaste(modified);
+		}
+		return modified;
+	}
+
+	/**
+	 * Applies a single value to an item. Implementations typically convert the
+	 * value based on the type of the property that is displayed in the column
+	 * 
+	 * @param item   the item
+	 * @param column the index of the column
+	 * @param value  the value to apply (with the decimal separator translated to
+	 *               the locale and any percentage signs removed)
+	 * @return whether the item was modified
+	 */
+	protected abstract boolean process(T item, int column, String value);
+
+	/**
+	 * Refreshes the grid after all values have been applied. By default all items
+	 * are refreshed at once
+	 * 
+	 * @param modified the items that were modified
+	 */
+	protected void afterPaste(List<T> modified) {
+		grid.getDataProvider().refreshAll();
+	}
+}
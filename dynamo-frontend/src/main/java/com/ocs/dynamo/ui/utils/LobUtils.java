@@ -0,0 +1,186 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.utils;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import jakarta.persistence.Persistence;
+
+import com.ocs.dynamo.util.SystemPropertyUtils;
+import com.vaadin.flow.function.SerializableSupplier;
+import com.vaadin.flow.server.StreamResource;
+
+import lombok.experimental.UtilityClass;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Utilities for displaying LOB (binary) attributes. The contents of a LOB are
+ * only retrieved once the browser requests them, and images can be displayed
+ * as (cached) thumbnails
+ * 
+ * @author Bas Rutten
+ *
+ */
+@Slf4j
+@UtilityClass
+public final class LobUtils {
+
+	/**
+	 * The maximum number of thumbnails to keep in the cache
+	 */
+	private static final int MAX_CACHED_THUMBNAILS = 500;
+
+	private static final Map<String, byte[]> THUMBNAILS = Collections
+			.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+
+				private static final long serialVersionUID = 4178307207596735236L;
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, byte[]> eldest) {
+					return size() > MAX_CACHED_THUMBNAILS;
+				}
+			});
+
+	/**
+	 * Checks whether a property of an entity has been loaded. This returns false
+	 * for LOB properties that are mapped as lazy and have not been accessed yet
+	 * 
+	 * @param entity       the entity
+	 * @param propertyName the name of the property
+	 * @return true if the property has been loaded
+	 */
+	public static boolean isLoaded(Object entity, String propertyName) {
+		return propertyName.indexOf('.') >= 0 || Persistence.getPersistenceUtil().isLoaded(entity, propertyName);
+	}
+
+	/**
+	 * Creates a stream resource for a LOB. The contents are retrieved when the
+	 * resource is requested
+	 * 
+	 * @param name     the name of the resource
+	 * @param contents the supplier for the contents
+	 * @return the resource
+	 */
+	public static StreamResource createResource(String name, SerializableSupplier<byte[]> contents) {
+		return new StreamResource(name, () -> toStream(contents.get()));
+	}
+
+	/**
+	 * Creates a stream resource for an image preview. When thumbnails are enabled
+	 * (see {@link SystemPropertyUtils#getImageThumbnailSize()}) the image is scaled
+	 * down, and the thumbnail is cached when a cache key is provided
+	 * 
+	 * @param name     the name of the resource
+	 * @param cacheKey the key under which to cache the thumbnail. Use
+	 *                 {@link #getThumbnailKey(Class, Object, String)} to construct
+	 *                 it. May be null, in which case the thumbnail is not cached
+	 * @param contents the supplier for the contents of the full image
+	 * @return the resource
+	 */
+	public static StreamResource createImageResource(String name, String cacheKey,
+			SerializableSupplier<byte[]> contents) {
+		int size = SystemPropertyUtils.getImageThumbnailSize();
+		if (size <= 0) {
+			return createResource(name, contents);
+		}
+		return new StreamResource(name, () -> {
+			if (cacheKey == null) {
+				return toStream(createThumbnail(contents.get(), size));
+			}
+			byte[] thumbnail = THUMBNAILS.get(cacheKey);
+			if (thumbnail == null) {
+				thumbnail = createThumbnail(contents.get(), size);
+				if (thumbnail != null) {
+					THUMBNAILS.put(cacheKey, thumbnail);
+				}
+			}
+			return toStream(thumbnail);
+		});
+	}
+
+	/**
+	 * Scales down an image so that it fits within a square of the provided size
+	 * 
+	 * @param image the image
+	 * @param size  the maximum width and height
+	 * @return the scaled image (in PNG format), or the original image when it is
+	 *         small enough or cannot be read
+	 */
+	public static byte[] createThumbnail(byte[] image, int size) {
+		if (image == null || image.length == 0) {
+			return image;
+		}
+		try {
+			BufferedImage source = ImageIO.read(new ByteArrayInputStream(image));
+			if (source == null || (source.getWidth() <= size && source.getHeight() <= size)) {
+				return image;
+			}
+
+			double scale = Math.min((double) size / source.getWidth(), (double) size / source.getHeight());
+			int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+			int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+			BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+			Graphics2D graphics = target.createGraphics();
+			try {
+				graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+				graphics.drawImage(source, 0, 0, width, height, null);
+			} finally {
+				graphics.dispose();
+			}
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			ImageIO.write(target, "png", out);
+			return out.toByteArray();
+		} catch (IOException ex) {
+			log.warn("Could not create thumbnail: {}", ex.getMessage());
+			return image;
+		}
+	}
+
+	/**
+	 * Constructs the key under which the thumbnail of an image property is cached
+	 * 
+	 * @param entityClass  the entity class
+	 * @param id           the ID of the entity
+	 * @param propertyName the name of the image property
+	 * @return the key
+	 */
+	public static String getThumbnailKey(Class<?> entityClass, Object id, String propertyName) {
+		return entityClass.getName() + "#" + id + "#" + propertyName;
+	}
+
+	/**
+	 * Removes a thumbnail from the cache
+	 * 
+	 * @param cacheKey the key of the thumbnail
+	 */
+	public static void evictThumbnail(String cacheKey) {
+		THUMBNAILS.remove(cacheKey);
+	}
+
+	private static ByteArrayInputStream toStream(byte[] bytes) {
+		return new ByteArrayInputStream(bytes == null ? new byte[0] : bytes);
+	}
+}
@@ -66,13 +66,12 @@ public abstract class PasteTemplate<T> {
 				// clear the source field
 				clearSourceField(event);
 
+				char decimalSeparator = PasteUtils.getDecimalSeparator(locale);
 				for (int i = 0; i < values.length; i++) {
 					try {
-						String temp = values[i];
-						temp = PasteUtils.translateSeparators(temp, locale);
+						String temp = PasteUtils.translateSeparators(values[i], decimalSeparator);
 						// strip off any percent signs
-						String s = temp.replaceAll("%", "");
-						process(i, s);
+						process(i, temp.replace("%", ""));
 
 					} catch (Exception ex) {
 						log.error(ex.getMessage(), ex);
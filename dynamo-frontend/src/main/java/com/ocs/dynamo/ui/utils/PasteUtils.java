@@ -13,7 +13,9 @@
  */
 package com.ocs.dynamo.ui.utils;
 
-import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 
 import lombok.experimental.UtilityClass;
@@ -39,27 +41,70 @@ public final class PasteUtils {
 			return null;
 		}
 		String temp = input.toString();
-		StringBuilder b = new StringBuilder();
+
+		// every whitespace character ends a value
+		List<String> result = new ArrayList<>();
+		int start = 0;
 		for (int i = 0; i < temp.length(); i++) {
-			String s = String.valueOf(temp.charAt(i));
-			if (StringUtils.isWhitespace(s)) {
-				if (i == 0) {
-					b.append("#");
-				} else {
-					String value = String.valueOf(temp.charAt(i - 1));
-					if (StringUtils.isWhitespace(value)) {
-						b.append("#");
-					}
+			if (Character.isWhitespace(temp.charAt(i))) {
+				result.add(temp.substring(start, i).trim());
+				start = i + 1;
+			}
+		}
+		result.add(temp.substring(start).trim());
+		removeTrailingEmptyValues(result);
+		return result.toArray(new String[0]);
+	}
+
+	/**
+	 * Splits a block of text (e.g. copied from a spreadsheet) into rows and
+	 * columns. Rows are separated by line breaks and the values in a row by tabs
+	 * 
+	 * @param input the input string
+	 * @return the rows, each containing the values for the consecutive columns
+	 */
+	public static List<String[]> splitRows(String input) {
+		List<String[]> rows = new ArrayList<>();
+		if (input == null) {
+			return rows;
+		}
+
+		List<String> row = new ArrayList<>();
+		int start = 0;
+		int length = input.length();
+		for (int i = 0; i < length; i++) {
+			char c = input.charAt(i);
+			if (c == '\t') {
+				row.add(input.substring(start, i).trim());
+				start = i + 1;
+			} else if (c == '\n' || c == '\r') {
+				row.add(input.substring(start, i).trim());
+				rows.add(row.toArray(new String[0]));
+				row.clear();
+				if (c == '\r' && i + 1 < length && input.charAt(i + 1) == '\n') {
+					i++;
 				}
+				start = i + 1;
 			}
-			b.append(temp.charAt(i));
 		}
 
-		String[] result = b.toString().replaceAll("\\s+", " ").split(" ");
-		for (int i = 0; i < result.length; i++) {
-			result[i] = result[i].replace('#', ' ').trim();
+		// the last row, unless the input ends with a line break
+		if (start < length) {
+			row.add(input.substring(start).trim());
+			rows.add(row.toArray(new String[0]));
+		}
+		return rows;
+	}
+
+	/**
+	 * Removes any empty values from the end of a list
+	 * 
+	 * @param values the list of values
+	 */
+	private static void removeTrailingEmptyValues(List<String> values) {
+		while (values.size() > 1 && values.get(values.size() - 1).isEmpty()) {
+			values.remove(values.size() - 1);
 		}
-		return result;
 	}
 
 	/**
@@ -87,18 +132,33 @@ public final class PasteUtils {
 	 * @return the result of the conversion
 	 */
 	public static String translateSeparators(String input, Locale locale) {
+		return translateSeparators(input, getDecimalSeparator(locale));
+	}
+
+	/**
+	 * Translates the decimal separator in the input to the provided decimal
+	 * separator. Use this when translating many values for the same locale
+	 * 
+	 * @param input            the input string
+	 * @param decimalSeparator the decimal separator (as returned by
+	 *                         getDecimalSeparator)
+	 * @return the result of the conversion
+	 */
+	public static String translateSeparators(String input, char decimalSeparator) {
 		if (input == null) {
 			return null;
 		}
+		return decimalSeparator == '.' ? input.replace(',', '.') : input.replace('.', ',');
+	}
 
-		DecimalFormat format = (DecimalFormat) DecimalFormat.getInstance(locale);
-		char decimalSeparator = format.getDecimalFormatSymbols().getDecimalSeparator();
-		if (decimalSeparator == '.') {
-			input = input.replace(',', '.');
-		} else {
-			input = input.replace('.', ',');
-		}
-		return input;
+	/**
+	 * Returns the decimal separator for a locale
+	 * 
+	 * @param locale the locale
+	 * @return the decimal separator
+	 */
+	public static char getDecimalSeparator(Locale locale) {
+		return DecimalFormatSymbols.getInstance(locale).getDecimalSeparator();
 	}
 
 	/**
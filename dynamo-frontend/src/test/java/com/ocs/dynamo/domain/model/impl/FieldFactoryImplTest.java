@@ -348,6 +348,18 @@ public class FieldFactoryImplTest extends FrontendIntegrationTest {
 		assertTrue(ac instanceof Checkbox);
 	}
 
+	/**
+	 * Test that the (cached) component creator is resolved separately for every
+	 * combination of context flags
+	 */
+	@Test
+	public void testResolvedCreatorDependsOnContext() {
+		for (int i = 0; i < 2; i++) {
+			assertTrue(constructField("someBoolean", false) instanceof Checkbox);
+			assertTrue(constructField("someBoolean", true) instanceof ComboBox);
+		}
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	public void testConstructEntityLookupField() {
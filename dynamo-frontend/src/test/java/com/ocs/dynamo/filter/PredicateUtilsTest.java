@@ -173,4 +173,39 @@ public class PredicateUtilsTest {
         Object f3 = PredicateUtils.extractPredicateValue(compare, "prop3");
         assertNull(f3);
     }
+
+    @Test
+    public void testIsEqual() {
+        assertTrue(PredicateUtils.isEqual(null, null));
+        assertFalse(PredicateUtils.isEqual(new EqualsPredicate<TestEntity>("prop1", 1), null));
+
+        assertTrue(PredicateUtils.isEqual(new EqualsPredicate<TestEntity>("prop1", 1),
+                new EqualsPredicate<TestEntity>("prop1", 1)));
+        assertFalse(PredicateUtils.isEqual(new EqualsPredicate<TestEntity>("prop1", 1),
+                new EqualsPredicate<TestEntity>("prop1", 2)));
+        assertFalse(PredicateUtils.isEqual(new EqualsPredicate<TestEntity>("prop1", 1),
+                new GreaterThanPredicate<TestEntity>("prop1", 1)));
+
+        assertTrue(PredicateUtils.isEqual(new LikePredicate<TestEntity>("prop1", "%a%", false),
+                new LikePredicate<TestEntity>("prop1", "%a%", false)));
+        assertFalse(PredicateUtils.isEqual(new LikePredicate<TestEntity>("prop1", "%a%", false),
+                new LikePredicate<TestEntity>("prop1", "%a%", true)));
+
+        assertTrue(PredicateUtils.isEqual(new BetweenPredicate<TestEntity>("prop1", 1, 5),
+                new BetweenPredicate<TestEntity>("prop1", 1, 5)));
+        assertFalse(PredicateUtils.isEqual(new BetweenPredicate<TestEntity>("prop1", 1, 5),
+                new BetweenPredicate<TestEntity>("prop1", 1, 6)));
+
+        AndPredicate<TestEntity> and1 = new AndPredicate<>(new EqualsPredicate<>("prop1", 1),
+                new NotPredicate<>(new EqualsPredicate<>("prop2", "a")));
+        AndPredicate<TestEntity> and2 = new AndPredicate<>(new EqualsPredicate<>("prop1", 1),
+                new NotPredicate<>(new EqualsPredicate<>("prop2", "a")));
+        AndPredicate<TestEntity> and3 = new AndPredicate<>(new EqualsPredicate<>("prop1", 1),
+                new NotPredicate<>(new EqualsPredicate<>("prop2", "b")));
+        OrPredicate<TestEntity> or = new OrPredicate<>(new EqualsPredicate<>("prop1", 1),
+                new NotPredicate<>(new EqualsPredicate<>("prop2", "a")));
+        assertTrue(PredicateUtils.isEqual(and1, and2));
+        assertFalse(PredicateUtils.isEqual(and1, and3));
+        assertFalse(PredicateUtils.isEqual(and1, or));
+    }
 }
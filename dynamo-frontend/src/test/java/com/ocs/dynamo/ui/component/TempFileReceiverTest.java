@@ -0,0 +1,62 @@
+package com.ocs.dynamo.ui.component;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+public class TempFileReceiverTest {
+
+	@Test
+	public void testReceive() throws IOException {
+		TempFileReceiver receiver = new TempFileReceiver(0);
+		try (OutputStream out = receiver.receiveUpload("test.txt", "text/plain")) {
+			out.write(new byte[] { 1, 2, 3 });
+		}
+		assertEquals("test.txt", receiver.getFileName());
+		assertArrayEquals(new byte[] { 1, 2, 3 }, receiver.readBytes());
+
+		Path file = receiver.getFile();
+		assertTrue(Files.exists(file));
+
+		// a new upload replaces the previous file
+		receiver.receiveUpload("test2.txt", "text/plain").close();
+		assertFalse(Files.exists(file));
+
+		receiver.delete();
+		assertNull(receiver.getFile());
+	}
+
+	@Test
+	public void testRelease() throws IOException {
+		TempFileReceiver receiver = new TempFileReceiver(0);
+		receiver.receiveUpload("test.txt", "text/plain").close();
+		Path file = receiver.release();
+		assertNull(receiver.getFile());
+
+		// a released file survives a new upload and a delete
+		receiver.receiveUpload("test2.txt", "text/plain").close();
+		receiver.delete();
+		assertTrue(Files.exists(file));
+		Files.delete(file);
+	}
+
+	@Test
+	public void testMaxSize() throws IOException {
+		TempFileReceiver receiver = new TempFileReceiver(2);
+		try (OutputStream out = receiver.receiveUpload("test.txt", "text/plain")) {
+			assertThrows(IOException.class, () -> out.write(new byte[] { 1, 2, 3 }));
+		} finally {
+			receiver.delete();
+		}
+	}
+}
@@ -14,6 +14,7 @@ import com.ocs.dynamo.ui.composite.ComponentContext;
 import com.ocs.dynamo.ui.composite.grid.ServiceBasedGridWrapper;
 import com.ocs.dynamo.ui.composite.layout.FormOptions;
 import com.ocs.dynamo.ui.provider.QueryType;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.function.SerializablePredicate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -229,6 +230,58 @@ public class ModelBasedFlexibleSearchFormTest extends FrontendIntegrationTest {
 		assertTrue(form.hasFilter(em.getAttributeModel("age")));
 	}
 
+	@Test
+	public void testSearchAsYouTypeSkipsUnchangedFilter() {
+		List<SerializablePredicate<TestEntity>> searches = new ArrayList<>();
+		ModelBasedFlexibleSearchForm<Integer, TestEntity> searchForm = buildSearchAsYouType(searches);
+
+		searchForm.addFilter(am, FlexibleFilterType.EQUALS, "Harry", null);
+		searchForm.addFilter(am, FlexibleFilterType.EQUALS, "Bob", null);
+		MockVaadin.clientRoundtrip();
+
+		// both changes result in a single search
+		assertEquals(1, searches.size());
+
+		// the filter changes, but ends up equal to the one of the last search
+		searchForm.addFilter(am, FlexibleFilterType.EQUALS, "Harry", null);
+		searchForm.addFilter(am, FlexibleFilterType.EQUALS, "Bob", null);
+		MockVaadin.clientRoundtrip();
+		assertEquals(1, searches.size());
+
+		searchForm.addFilter(am, FlexibleFilterType.EQUALS, "Harry", null);
+		MockVaadin.clientRoundtrip();
+		assertEquals(2, searches.size());
+	}
+
+	@Test
+	public void testSearchAsYouTypeAfterSearchAny() {
+		List<SerializablePredicate<TestEntity>> searches = new ArrayList<>();
+		ModelBasedFlexibleSearchForm<Integer, TestEntity> searchForm = buildSearchAsYouType(searches);
+
+		searchForm.addFilter(am, FlexibleFilterType.EQUALS, "Bob", null);
+		searchForm.searchAny();
+		MockVaadin.clientRoundtrip();
+		assertEquals(1, searches.size());
+
+		// the filter is compared with the 'Or' filter of the last search
+		searchForm.addFilter(am, FlexibleFilterType.EQUALS, "Harry", null);
+		searchForm.addFilter(am, FlexibleFilterType.EQUALS, "Bob", null);
+		MockVaadin.clientRoundtrip();
+		assertEquals(1, searches.size());
+	}
+
+	private ModelBasedFlexibleSearchForm<Integer, TestEntity> buildSearchAsYouType(
+			List<SerializablePredicate<TestEntity>> searches) {
+		FormOptions fo = new FormOptions().setSearchImmediately(true).setSearchDelay(300);
+		ModelBasedFlexibleSearchForm<Integer, TestEntity> searchForm = new ModelBasedFlexibleSearchForm<>(
+				searches::add, em, fo);
+		searchForm.build();
+		UI.getCurrent().add(searchForm);
+		MockVaadin.clientRoundtrip();
+		searches.clear();
+		return searchForm;
+	}
+
 	private void build(EntityModel<TestEntity> em) {
 		wrapper = new ServiceBasedGridWrapper<>(testEntityService, em, QueryType.ID_BASED, new FormOptions(),
 				ComponentContext.<Integer, TestEntity>builder().build(), null,
@@ -27,6 +27,7 @@ import com.ocs.dynamo.service.MessageService;
 import com.ocs.dynamo.test.BaseMockitoTest;
 import com.ocs.dynamo.test.MockUtil;
 import com.ocs.dynamo.utils.DateUtils;
+import com.ocs.dynamo.util.SystemPropertyUtils;
 import com.vaadin.flow.component.html.Span;
 import jakarta.persistence.OptimisticLockException;
 import org.junit.jupiter.api.BeforeEach;
@@ -63,6 +64,7 @@ public class BaseCustomComponentTest extends BaseMockitoTest {
 		// Reset vaadin session locale for unit test
 		MockVaadin.tearDown();
 		System.setProperty(DynamoConstants.SP_DEFAULT_LOCALE, "en");
+		SystemPropertyUtils.reload();
 		MockUtil.mockMessageService(messageService);
 		ReflectionTestUtils.setField(component, "messageService", messageService);
 	}
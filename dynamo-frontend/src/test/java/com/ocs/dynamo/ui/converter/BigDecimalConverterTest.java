@@ -14,9 +14,12 @@
 package com.ocs.dynamo.ui.converter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.util.Locale;
 
 import org.junit.jupiter.api.Test;
 
@@ -76,4 +79,25 @@ public class BigDecimalConverterTest extends BaseConverterTest {
 		assertEquals("3.140", result);
 	}
 
+	/**
+	 * Test that every call receives its own (identically configured) copy of the
+	 * cached format
+	 */
+	@Test
+	public void testDecimalFormatIsCopied() {
+		BigDecimalConverter converter = new BigDecimalConverter("message", 3, true);
+		DecimalFormat first = converter.getDecimalFormat(Locale.US);
+		DecimalFormat second = converter.getDecimalFormat(Locale.US);
+		assertNotSame(first, second);
+		assertEquals(first, second);
+		assertEquals("1,234.500", second.format(1234.5));
+
+		// changing a copy does not affect the cached format
+		first.setMaximumFractionDigits(0);
+		assertEquals("1,234.500", converter.getDecimalFormat(Locale.US).format(1234.5));
+
+		// another precision results in another format
+		assertEquals("1,234.50", new BigDecimalConverter("message", 2, true).getDecimalFormat(Locale.US).format(1234.5));
+	}
+
 }
@@ -14,6 +14,8 @@
 package com.ocs.dynamo.ui.converter;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigDecimal;
@@ -121,4 +123,16 @@ public class ConverterFactoryTest extends BaseMockitoTest {
         StringToDoubleConverter cv = ConverterFactory.createDoubleConverter(true, false, false, 2, null);
         assertTrue(cv instanceof CurrencyDoubleConverter);
     }
+
+    @Test
+    public void testConvertersAreReused() {
+        BigDecimalConverter cv = ConverterFactory.createBigDecimalConverter(true, false, false, 2, "EUR");
+        assertSame(cv, ConverterFactory.createBigDecimalConverter(true, false, false, 2, "EUR"));
+        assertNotSame(cv, ConverterFactory.createBigDecimalConverter(true, false, false, 2, "$"));
+        assertNotSame(cv, ConverterFactory.createBigDecimalConverter(true, false, false, 3, "EUR"));
+
+        StringToIntegerConverter icv = ConverterFactory.createIntegerConverter(true, false);
+        assertSame(icv, ConverterFactory.createIntegerConverter(true, false));
+        assertNotSame(icv, ConverterFactory.createIntegerConverter(false, false));
+    }
 }
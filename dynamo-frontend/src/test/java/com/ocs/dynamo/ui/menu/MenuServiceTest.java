@@ -15,8 +15,12 @@ package com.ocs.dynamo.ui.menu;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -105,4 +109,24 @@ public class MenuServiceTest extends FrontendIntegrationTest {
         assertFalse(firstSub.isVisible());
     }
 
+    /**
+     * Test that the menu definition is read once and shared between menus
+     */
+    @Test
+    public void testMenuDefinitionsCached() {
+        List<MenuDefinition> definitions = menuService.getMenuDefinitions("ocs.menu");
+        assertEquals(2, definitions.size());
+        assertEquals("Menu 1", definitions.get(0).getDisplayName());
+        assertTrue(definitions.get(0).hasChildren());
+        assertSame(definitions, menuService.getMenuDefinitions("ocs.menu"));
+
+        // each menu gets its own components
+        MenuBar bar1 = menuService.constructMenu("ocs.menu");
+        MenuBar bar2 = menuService.constructMenu("ocs.menu");
+        assertNotSame(bar1.getItems().get(0), bar2.getItems().get(0));
+
+        menuService.clearMenuDefinitions();
+        assertNotSame(definitions, menuService.getMenuDefinitions("ocs.menu"));
+    }
+
 }
@@ -166,4 +166,21 @@ public class IdBasedDataProviderTest extends BaseMockitoTest {
 		assertFalse(provider.hasPreviousItemId());
 	}
 
+	@Test
+	public void testNeighbourItemIds() {
+
+		when(service.findIds(isNull(), isNull(), any())).thenReturn(List.of(1, 2, 3, 4, 5, 6));
+		provider = new IdBasedDataProvider<>(service, entityModelFactory.getModel(TestEntity.class));
+		provider.size(query);
+		provider.setCurrentlySelectedId(1);
+
+		assertEquals(List.of(1, 2, 4, 5), provider.getNeighbourItemIds(3, 2));
+		assertEquals(List.of(4, 5), provider.getNeighbourItemIds(6, 2));
+		assertTrue(provider.getNeighbourItemIds(3, 0).isEmpty());
+		assertTrue(provider.getNeighbourItemIds(7, 2).isEmpty());
+
+		// the currently selected item is not affected
+		assertEquals(1, provider.getCurrentlySelectedId().intValue());
+	}
+
 }
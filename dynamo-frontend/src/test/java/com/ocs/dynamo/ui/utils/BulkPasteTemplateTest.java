@@ -0,0 +1,64 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import com.ocs.dynamo.domain.TestEntity;
+import com.ocs.dynamo.test.BaseMockitoTest;
+import com.vaadin.flow.component.grid.Grid;
+
+public class BulkPasteTemplateTest extends BaseMockitoTest {
+
+	private Grid<TestEntity> grid = new Grid<TestEntity>();
+
+	@Test
+	public void testPasteBlock() {
+		TestEntity e1 = new TestEntity();
+		TestEntity e2 = new TestEntity();
+		TestEntity e3 = new TestEntity();
+		List<TestEntity> items = List.of(e1, e2, e3);
+		grid.setItems(items);
+
+		BulkPasteTemplate<TestEntity> template = new BulkPasteTemplate<>(new Locale("nl"), grid, items) {
+
+			@Override
+			protected boolean process(TestEntity item, int column, String value) {
+				if (column == 0) {
+					item.setName(value);
+				} else {
+					item.setRate(new BigDecimal(value.replace(',', '.')));
+				}
+				return true;
+			}
+		};
+
+		// paste into the second and third item (the third row is ignored)
+		List<TestEntity> modified = template.execute("Bob\t4.5%\r\nKevin\t3,25\nPete\t1\n", 1, 0);
+		assertEquals(List.of(e2, e3), modified);
+
+		assertNull(e1.getName());
+		assertEquals("Bob", e2.getName());
+		assertEquals(new BigDecimal("4.5"), e2.getRate());
+		assertEquals("Kevin", e3.getName());
+		assertEquals(new BigDecimal("3.25"), e3.getRate());
+	}
+}
@@ -20,6 +20,7 @@ import com.ocs.dynamo.domain.model.impl.EntityModelFactoryImpl;
 import com.ocs.dynamo.exception.OCSRuntimeException;
 import com.ocs.dynamo.test.BaseMockitoTest;
 import com.ocs.dynamo.utils.DateUtils;
+import com.ocs.dynamo.util.SystemPropertyUtils;
 import com.vaadin.flow.data.binder.Result;
 
 public class ConvertUtilsTest extends BaseMockitoTest {
@@ -30,6 +31,7 @@ public class ConvertUtilsTest extends BaseMockitoTest {
     public static void beforeClass() {
         System.setProperty(DynamoConstants.SP_SERVICE_LOCATOR_CLASS_NAME, "com.ocs.dynamo.ui.SpringTestServiceLocator");
         System.setProperty("ocs.default.locale", "en");
+        SystemPropertyUtils.reload();
     }
 
     @Test
@@ -0,0 +1,46 @@
+package com.ocs.dynamo.ui.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+
+public class LobUtilsTest {
+
+	private byte[] createImage(int width, int height) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+		return out.toByteArray();
+	}
+
+	@Test
+	public void testCreateThumbnail() throws IOException {
+		byte[] thumbnail = LobUtils.createThumbnail(createImage(200, 100), 50);
+		BufferedImage image = ImageIO.read(new ByteArrayInputStream(thumbnail));
+		assertEquals(50, image.getWidth());
+		assertEquals(25, image.getHeight());
+
+		// small enough already
+		byte[] small = createImage(40, 40);
+		assertSame(small, LobUtils.createThumbnail(small, 50));
+
+		// not an image
+		byte[] other = new byte[] { 1, 2, 3 };
+		assertSame(other, LobUtils.createThumbnail(other, 50));
+
+		assertNull(LobUtils.createThumbnail(null, 50));
+	}
+
+	@Test
+	public void testGetThumbnailKey() {
+		assertEquals("java.lang.String#12#photo", LobUtils.getThumbnailKey(String.class, 12, "photo"));
+	}
+}
@@ -13,10 +13,12 @@
  */
 package com.ocs.dynamo.ui.utils;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
 import java.util.Locale;
 
 import org.apache.commons.lang3.StringUtils;
@@ -70,6 +72,20 @@ public class PasteUtilsTest {
         assertEquals("4", result[6]);
     }
 
+    @Test
+    public void testSplitRows() {
+        assertTrue(PasteUtils.splitRows(null).isEmpty());
+
+        List<String[]> rows = PasteUtils.splitRows("1\t2\t3\r\n4\t\t6\n");
+        assertEquals(2, rows.size());
+        assertArrayEquals(new String[] { "1", "2", "3" }, rows.get(0));
+        assertArrayEquals(new String[] { "4", "", "6" }, rows.get(1));
+
+        rows = PasteUtils.splitRows("a b\tc");
+        assertEquals(1, rows.size());
+        assertArrayEquals(new String[] { "a b", "c" }, rows.get(0));
+    }
+
     @Test
     public void testToInt() {
         assertEquals(1234, PasteUtils.toInt("1234"));
@@ -58,6 +58,7 @@ public class VaadinUtilsTest extends BaseMockitoTest {
     public static void beforeClass() {
         System.setProperty(DynamoConstants.SP_DEFAULT_LOCALE, "de");
         System.setProperty(DynamoConstants.SP_SERVICE_LOCATOR_CLASS_NAME, "com.ocs.dynamo.ui.SpringTestServiceLocator");
+        SystemPropertyUtils.reload();
     }
 
     @Test
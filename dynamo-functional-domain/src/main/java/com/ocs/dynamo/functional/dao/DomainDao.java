@@ -13,7 +13,9 @@
  */
 package com.ocs.dynamo.functional.dao;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import com.ocs.dynamo.dao.BaseDao;
 import com.ocs.dynamo.functional.domain.Domain;
@@ -37,6 +39,24 @@ public interface DomainDao extends BaseDao<Integer, Domain> {
      */
     <C extends DomainChild<C, P>, P extends DomainParent<C, P>> List<C> findChildren(P parent);
 
+    /**
+     * Returns the children for a collection of parents, using a single query
+     * 
+     * @param parents the parent entities
+     * @return the children, grouped by the provided parent entities
+     */
+    <C extends DomainChild<C, P>, P extends DomainParent<C, P>> Map<P, List<C>> findChildrenByParents(
+            Collection<P> parents);
+
+    /**
+     * Returns all entities of a parent type along with their children, using a
+     * single query
+     * 
+     * @param parentType the type of the parent
+     * @return the children, grouped by parent
+     */
+    <C extends DomainChild<C, P>, P extends DomainParent<C, P>> Map<P, List<C>> findTree(Class<P> parentType);
+
     /**
      *
      * Returns a list of all domain entities of the requested type
@@ -13,15 +13,23 @@
  */
 package com.ocs.dynamo.functional.dao;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.NonUniqueResultException;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
 
 import org.springframework.stereotype.Repository;
 
+import com.ocs.dynamo.constants.DynamoConstants;
 import com.ocs.dynamo.dao.impl.DefaultDaoImpl;
 import com.ocs.dynamo.dao.impl.JpaQueryBuilder;
 import com.ocs.dynamo.exception.OCSRuntimeException;
@@ -78,4 +86,55 @@ public class DomainDaoImpl extends DefaultDaoImpl<Integer, Domain> implements Do
         return query.from(QDomainChild.domainChild).fetch();
     }
 
+    @Override
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public <C extends DomainChild<C, P>, P extends DomainParent<C, P>> Map<P, List<C>> findChildrenByParents(
+            Collection<P> parents) {
+        Map<P, List<C>> result = new LinkedHashMap<>();
+        if (parents == null || parents.isEmpty()) {
+            return result;
+        }
+
+        Map<Integer, P> parentsById = new HashMap<>();
+        for (P parent : parents) {
+            parentsById.put(parent.getId(), parent);
+            result.put(parent, new ArrayList<>());
+        }
+
+        for (DomainParent<?, ?> loaded : findParentsWithChildren(DomainParent.class, parentsById.keySet())) {
+            result.get(parentsById.get(loaded.getId())).addAll((Collection<C>) loaded.getChildren());
+        }
+        return result;
+    }
+
+    @Override
+    public <C extends DomainChild<C, P>, P extends DomainParent<C, P>> Map<P, List<C>> findTree(Class<P> parentType) {
+        Map<P, List<C>> result = new LinkedHashMap<>();
+        for (P parent : findParentsWithChildren(parentType, null)) {
+            result.put(parent, new ArrayList<>(parent.getChildren()));
+        }
+        return result;
+    }
+
+    /**
+     * Retrieves parent entities and fetches their children in the same query. This
+     * avoids a separate query for the (eagerly fetched) children of every parent
+     * 
+     * @param parentType the type of the parent
+     * @param ids        the IDs of the parents to retrieve. Null to retrieve all
+     *                   parents
+     * @return the parents
+     */
+    @SuppressWarnings("rawtypes")
+    private <P extends DomainParent> List<P> findParentsWithChildren(Class<P> parentType, Collection<Integer> ids) {
+        CriteriaQuery<P> cq = getEntityManager().getCriteriaBuilder().createQuery(parentType);
+        Root<P> root = cq.from(parentType);
+        root.fetch("children", JoinType.LEFT);
+        cq.select(root).distinct(true);
+        if (ids != null) {
+            cq.where(root.get(DynamoConstants.ID).in(ids));
+        }
+        return getEntityManager().createQuery(cq).getResultList();
+    }
+
 }
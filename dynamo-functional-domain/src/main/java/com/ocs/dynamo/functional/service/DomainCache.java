@@ -0,0 +1,173 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.functional.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.ocs.dynamo.functional.domain.Domain;
+
+/**
+ * Cache for domain values. The values are cached per domain type and can be
+ * looked up by their normalised (trimmed, lower case) name or code. The
+ * children of domain parents are cached per parent. The cached entities are
+ * shared between all sessions and threads and must be treated as read-only
+ * 
+ * Every eviction increases a generation counter. Values that were loaded
+ * during an older generation are returned to the caller but not cached, so a
+ * load that overlaps with a modification cannot put outdated values in the
+ * cache
+ * 
+ * @author Bas Rutten
+ *
+ */
+class DomainCache {
+
+	/**
+	 * The cached values of a single domain type
+	 */
+	private record TypeEntry(List<? extends Domain> values, Map<String, Domain> byName, Map<String, Domain> byCode) {
+	}
+
+	private final Map<Class<?>, TypeEntry> types = new ConcurrentHashMap<>();
+
+	private final Map<Integer, List<? extends Domain>> children = new ConcurrentHashMap<>();
+
+	private final AtomicLong generation = new AtomicLong();
+
+	/**
+	 * Normalises a name or code for lookup purposes
+	 * 
+	 * @param value the value to normalise
+	 * @return the normalised value
+	 */
+	static String normalise(String value) {
+		return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+	}
+
+	private static Map<String, Domain> index(List<? extends Domain> values, Function<Domain, String> property) {
+		Map<String, Domain> result = new HashMap<>();
+		for (Domain domain : values) {
+			String key = normalise(property.apply(domain));
+			if (key != null) {
+				result.putIfAbsent(key, domain);
+			}
+		}
+		return result;
+	}
+
+	private <D extends Domain> TypeEntry getEntry(Class<D> type, Supplier<List<D>> loader) {
+		TypeEntry entry = types.get(type);
+		if (entry == null) {
+			long loadedIn = generation.get();
+			List<D> values = Collections.unmodifiableList(loader.get());
+			entry = new TypeEntry(values, index(values, Domain::getName), index(values, Domain::getCode));
+			if (generation.get() == loadedIn) {
+				types.put(type, entry);
+			}
+		}
+		return entry;
+	}
+
+	/**
+	 * Returns all values of a domain type
+	 * 
+	 * @param type   the domain type
+	 * @param loader the function used to load the values in case they are not
+	 *               cached yet
+	 * @return the values
+	 */
+	@SuppressWarnings("unchecked")
+	<D extends Domain> List<D> getAll(Class<D> type, Supplier<List<D>> loader) {
+		return (List<D>) getEntry(type, loader).values();
+	}
+
+	/**
+	 * Looks up a domain value by its name (ignoring case)
+	 * 
+	 * @param type   the domain type
+	 * @param name   the name
+	 * @param loader the function used to load the values in case they are not
+	 *               cached yet
+	 * @return the value, or null if it does not exist
+	 */
+	<D extends Domain> D getByName(Class<D> type, String name, Supplier<List<D>> loader) {
+		return type.cast(getEntry(type, loader).byName().get(normalise(name)));
+	}
+
+	/**
+	 * Looks up a domain value by its code (ignoring case)
+	 * 
+	 * @param type   the domain type
+	 * @param code   the code
+	 * @param loader the function used to load the values in case they are not
+	 *               cached yet
+	 * @return the value, or null if it does not exist
+	 */
+	<D extends Domain> D getByCode(Class<D> type, String code, Supplier<List<D>> loader) {
+		return type.cast(getEntry(type, loader).byCode().get(normalise(code)));
+	}
+
+	/**
+	 * Returns the children of a parent. In case the children are not cached yet,
+	 * the children of all parents of the same type are loaded at once
+	 * 
+	 * @param parentId the ID of the parent
+	 * @param loader   the function used to load the children of all parents of
+	 *                 the same type, by parent ID
+	 * @return the children
+	 */
+	@SuppressWarnings("unchecked")
+	<C extends Domain> List<C> getChildren(Integer parentId, Supplier<Map<Integer, List<C>>> loader) {
+		List<? extends Domain> result = children.get(parentId);
+		if (result == null) {
+			long loadedIn = generation.get();
+			Map<Integer, List<C>> loaded = loader.get();
+			result = Collections.unmodifiableList(loaded.getOrDefault(parentId, List.of()));
+			if (generation.get() == loadedIn) {
+				loaded.forEach((id, list) -> children.put(id, Collections.unmodifiableList(list)));
+				children.putIfAbsent(parentId, result);
+			}
+		}
+		return (List<C>) result;
+	}
+
+	/**
+	 * Removes the values of a domain type from the cache. Since the type might be
+	 * a parent or child in a hierarchy, the cached children are removed as well
+	 * 
+	 * @param type the domain type
+	 */
+	void evict(Class<?> type) {
+		generation.incrementAndGet();
+		types.keySet().removeIf(t -> t.isAssignableFrom(type) || type.isAssignableFrom(t));
+		children.clear();
+	}
+
+	/**
+	 * Clears the cache
+	 */
+	void clear() {
+		generation.incrementAndGet();
+		types.clear();
+		children.clear();
+	}
+}
@@ -13,7 +13,9 @@
  */
 package com.ocs.dynamo.functional.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import com.ocs.dynamo.functional.domain.Domain;
 import com.ocs.dynamo.functional.domain.DomainChild;
@@ -54,4 +56,84 @@ public interface DomainService extends BaseService<Integer, Domain> {
      * @return the children for the given parent
      */
     <C extends DomainChild<C, P>, P extends DomainParent<C, P>> List<C> findChildren(P parent);
+
+    /**
+     * Query the children for a collection of parents, using a single query
+     * 
+     * @param parents the parent entities
+     * @return the children, grouped by the provided parent entities
+     */
+    <C extends DomainChild<C, P>, P extends DomainParent<C, P>> Map<P, List<C>> findChildrenByParents(
+            Collection<P> parents);
+
+    /**
+     * Query all entities of a parent type along with their children, using a
+     * single query
+     * 
+     * @param parentType the type of the parent
+     * @return the children, grouped by parent
+     */
+    <C extends DomainChild<C, P>, P extends DomainParent<C, P>> Map<P, List<C>> findTree(Class<P> parentType);
+
+    /**
+     * Returns all entities of a specific type from the domain cache. The entities
+     * are loaded once per type and are shared between all sessions and threads,
+     * so they must be treated as read-only: do not modify them or bind them to an
+     * edit form, but load the entity by its ID instead. The cache is cleared
+     * whenever a domain entity is saved or deleted using this service, and again
+     * once the transaction has completed
+     * 
+     * @param type the subclass
+     * @return all cached entities of the given type
+     */
+    <D extends Domain> List<D> findAllByTypeCached(Class<D> type);
+
+    /**
+     * Looks up a domain entity in the domain cache by its name, ignoring case and
+     * surrounding white space
+     * 
+     * @param type the subclass
+     * @param name the name
+     * @return the shared (read-only) entity, or null if it does not exist
+     */
+    <D extends Domain> D findCachedByName(Class<D> type, String name);
+
+    /**
+     * Looks up a domain entity in the domain cache by its code, ignoring case and
+     * surrounding white space
+     * 
+     * @param type the subclass
+     * @param code the code
+     * @return the shared (read-only) entity, or null if it does not exist
+     */
+    <D extends Domain> D findCachedByCode(Class<D> type, String code);
+
+    /**
+     * Returns the children for a given parent from the domain cache. When the
+     * children are not cached yet, the children of all parents of the same type
+     * are loaded using a single query
+     * 
+     * @param parent the parent entity
+     * @return the shared (read-only) children for the given parent
+     */
+    <C extends DomainChild<C, P>, P extends DomainParent<C, P>> List<C> findCachedChildren(P parent);
+
+    /**
+     * Looks up the domain entities with the provided names and creates the ones
+     * that do not exist yet. The existing entities are resolved using a single
+     * query, and the missing ones are saved in a single batch. Names are matched
+     * ignoring case and surrounding white space
+     * 
+     * @param type  the subclass
+     * @param names the names
+     * @return the existing or newly created entities, by the provided name. The
+     *         existing entities are the shared (read-only) cached instances
+     */
+    <D extends Domain> Map<String, D> createIfNotExists(Class<D> type, Collection<String> names);
+
+    /**
+     * Clears the domain cache. Use this after modifying domain entities without
+     * using this service
+     */
+    void clearCache();
 }
@@ -19,13 +19,23 @@ import com.ocs.dynamo.functional.domain.Domain;
 import com.ocs.dynamo.functional.domain.DomainChild;
 import com.ocs.dynamo.functional.domain.DomainParent;
 import com.ocs.dynamo.service.impl.DefaultServiceImpl;
+import com.ocs.dynamo.utils.ClassUtils;
 
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import javax.inject.Inject;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service for working with reference information.
@@ -41,6 +51,8 @@ public class DomainServiceImpl extends DefaultServiceImpl<Integer, Domain> imple
 	@Inject
 	private DomainDao domainDao;
 
+	private final DomainCache cache = new DomainCache();
+
 	public DomainServiceImpl() {
 		super(null);
 	}
@@ -63,6 +75,17 @@ public class DomainServiceImpl extends DefaultServiceImpl<Integer, Domain> imple
 		return domainDao.findChildren(parent);
 	}
 
+	@Override
+	public <C extends DomainChild<C, P>, P extends DomainParent<C, P>> Map<P, List<C>> findChildrenByParents(
+			Collection<P> parents) {
+		return domainDao.findChildrenByParents(parents);
+	}
+
+	@Override
+	public <C extends DomainChild<C, P>, P extends DomainParent<C, P>> Map<P, List<C>> findTree(Class<P> parentType) {
+		return domainDao.findTree(parentType);
+	}
+
 	@Override
 	public <D extends Domain> List<D> findAllByType(Class<D> type) {
 		return domainDao.findAllByType(type);
@@ -73,4 +96,125 @@ public class DomainServiceImpl extends DefaultServiceImpl<Integer, Domain> imple
         return domainDao.findByTypeAndUniqueProperty(type, propertyName, value, caseSensitive);
     }
 
+	@Override
+	public <D extends Domain> List<D> findAllByTypeCached(Class<D> type) {
+		return cache.getAll(type, () -> domainDao.findAllByType(type));
+	}
+
+	@Override
+	public <D extends Domain> D findCachedByName(Class<D> type, String name) {
+		return cache.getByName(type, name, () -> domainDao.findAllByType(type));
+	}
+
+	@Override
+	public <D extends Domain> D findCachedByCode(Class<D> type, String code) {
+		return cache.getByCode(type, code, () -> domainDao.findAllByType(type));
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <C extends DomainChild<C, P>, P extends DomainParent<C, P>> List<C> findCachedChildren(P parent) {
+		return cache.getChildren(parent.getId(), () -> {
+			Map<Integer, List<C>> byId = new HashMap<>();
+			domainDao.<C, P>findTree((Class<P>) Hibernate.getClass(parent))
+					.forEach((p, children) -> byId.put(p.getId(), children));
+			return byId;
+		});
+	}
+
+	@Override
+	public <D extends Domain> Map<String, D> createIfNotExists(Class<D> type, Collection<String> names) {
+		Map<String, D> result = new LinkedHashMap<>();
+		Map<String, D> created = new HashMap<>();
+		for (String name : names) {
+			if (name == null || result.containsKey(name)) {
+				continue;
+			}
+			D entity = findCachedByName(type, name);
+			if (entity == null) {
+				entity = created.computeIfAbsent(DomainCache.normalise(name), key -> {
+					D newEntity = ClassUtils.instantiateClass(type);
+					newEntity.setName(name.trim());
+					return newEntity;
+				});
+			}
+			result.put(name, entity);
+		}
+
+		if (!created.isEmpty()) {
+			List<Domain> toSave = new ArrayList<>(created.values());
+			toSave.forEach(this::validate);
+			List<Domain> saved = domainDao.save(toSave);
+			evict(type);
+
+			// replace the new entities by the saved ones
+			Map<Domain, Domain> savedByEntity = new IdentityHashMap<>();
+			for (int i = 0; i < toSave.size(); i++) {
+				savedByEntity.put(toSave.get(i), saved.get(i));
+			}
+			result.replaceAll((name, entity) -> type.cast(savedByEntity.getOrDefault(entity, entity)));
+		}
+		return result;
+	}
+
+	@Override
+	public void clearCache() {
+		cache.clear();
+	}
+
+	@Override
+	public Domain save(Domain entity) {
+		try {
+			return super.save(entity);
+		} finally {
+			evict(entity.getClass());
+		}
+	}
+
+	@Override
+	public List<Domain> save(List<Domain> list) {
+		try {
+			return super.save(list);
+		} finally {
+			list.forEach(entity -> evict(entity.getClass()));
+		}
+	}
+
+	@Override
+	public void delete(Domain entity) {
+		try {
+			super.delete(entity);
+		} finally {
+			evict(entity.getClass());
+		}
+	}
+
+	@Override
+	public void delete(List<Domain> list) {
+		try {
+			super.delete(list);
+		} finally {
+			list.forEach(entity -> evict(entity.getClass()));
+		}
+	}
+
+	/**
+	 * Evicts a domain type from the cache. Since the modification only becomes
+	 * visible to other transactions once it is committed, the type is evicted
+	 * again after the transaction completes
+	 * 
+	 * @param type the domain type
+	 */
+	private void evict(Class<?> type) {
+		cache.evict(type);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					cache.evict(type);
+				}
+			});
+		}
+	}
+
 }
@@ -16,11 +16,13 @@ package com.ocs.dynamo.functional.util;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.ocs.dynamo.functional.domain.Domain;
+import com.ocs.dynamo.functional.service.DomainService;
 import com.ocs.dynamo.service.BaseService;
 import com.ocs.dynamo.service.MessageService;
 import com.ocs.dynamo.utils.ClassUtils;
@@ -58,6 +60,21 @@ public final class DomainUtil {
 		return entity;
 	}
 
+	/**
+	 * Creates the entities that do not exist yet for a collection of values.
+	 * Existing entities are resolved using a single query and the missing ones are
+	 * created in a single batch. Values are matched ignoring case
+	 * 
+	 * @param service the domain service
+	 * @param clazz   the domain class
+	 * @param values  the values of the "name" attribute
+	 * @return the existing or newly created entities, by value
+	 */
+	public static <T extends Domain> Map<String, T> createIfNotExists(DomainService service, Class<T> clazz,
+			Collection<String> values) {
+		return service.createIfNotExists(clazz, values);
+	}
+
 	/**
 	 * Returns all domain entities that match the specified type
 	 * 
@@ -18,6 +18,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
+import java.util.Map;
 
 import javax.inject.Inject;
 
@@ -101,4 +102,22 @@ public class DomainDaoTest extends BackendIntegrationTest {
         countries = domainDao.findChildren(eu);
         assertEquals(4, countries.size());
     }
+
+    @Test
+    public void testFindChildrenByParents() {
+        Map<Region, List<Country>> children = domainDao.findChildrenByParents(List.of(europa, asia));
+        assertEquals(2, children.size());
+        assertEquals(4, children.get(europa).size());
+        assertEquals(3, children.get(asia).size());
+
+        assertTrue(domainDao.findChildrenByParents(List.<Region>of()).isEmpty());
+    }
+
+    @Test
+    public void testFindTree() {
+        Map<Region, List<Country>> tree = domainDao.findTree(Region.class);
+        assertEquals(2, tree.size());
+        assertEquals(4, tree.get(europa).size());
+        assertEquals(3, tree.get(asia).size());
+    }
 }
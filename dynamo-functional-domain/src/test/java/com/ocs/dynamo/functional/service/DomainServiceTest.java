@@ -14,8 +14,12 @@
 package com.ocs.dynamo.functional.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -111,4 +115,52 @@ public class DomainServiceTest extends BaseIntegrationTest {
         countries = regionService.findChildren(deu);
         assertEquals(4, countries.size());
     }
+
+    @Test
+    public void testCachedLookup() {
+        domainService.clearCache();
+        assertEquals(3, domainService.findAllByTypeCached(Currency.class).size());
+        assertEquals("USD", domainService.findCachedByName(Currency.class, " united states dollar").getCode());
+        assertEquals("Euro", domainService.findCachedByCode(Currency.class, "eu").getName());
+        assertNull(domainService.findCachedByName(Currency.class, "Yen"));
+
+        Region deu = domainService.findCachedByCode(Region.class, "EU");
+        assertEquals(4, domainService.findCachedChildren(deu).size());
+
+        // saving through the service clears the cache
+        domainService.save(new Currency("JPY", "Yen"));
+        assertEquals(4, domainService.findAllByTypeCached(Currency.class).size());
+        assertNotNull(domainService.findCachedByName(Currency.class, "Yen"));
+    }
+
+    @Test
+    public void testCacheIgnoresLoadThatOverlapsEviction() {
+        DomainCache cache = new DomainCache();
+        Currency stale = new Currency("OLD", "Old");
+
+        // the type is evicted while the values are being loaded
+        List<Currency> loaded = cache.getAll(Currency.class, () -> {
+            cache.evict(Currency.class);
+            return List.of(stale);
+        });
+        assertEquals(List.of(stale), loaded);
+
+        Currency fresh = new Currency("NEW", "New");
+        assertEquals(List.of(fresh), cache.getAll(Currency.class, () -> List.of(fresh)));
+        assertSame(fresh, cache.getByCode(Currency.class, "new", List::of));
+    }
+
+    @Test
+    public void testCreateIfNotExists() {
+        domainService.clearCache();
+        Map<String, Region> regions = domainService.createIfNotExists(Region.class,
+                List.of("Europa", "asia", "Africa", "AFRICA"));
+        assertEquals(4, regions.size());
+        assertEquals("EU", regions.get("Europa").getCode());
+        assertEquals("AS", regions.get("asia").getCode());
+        assertNotNull(regions.get("Africa").getId());
+        assertSame(regions.get("Africa"), regions.get("AFRICA"));
+
+        assertEquals(3, domainService.findAllByType(Region.class).size());
+    }
 }
@@ -109,6 +109,11 @@ public abstract class BaseDaoImpl<ID, T extends AbstractEntity<ID>> implements B
 		entityManager.remove(entity);
 	}
 
+	@Override
+	public void detach(T entity) {
+		entityManager.detach(entity);
+	}
+
 	@Override
 	public List<T> fetch(Filter filter, FetchJoinInformation... joins) {
 		return fetch(filter, null, null, joins);
@@ -120,8 +125,9 @@ public abstract class BaseDaoImpl<ID, T extends AbstractEntity<ID>> implements B
 	}
 
 	/**
-	 * Executes a fetch query - watch out, paging combined with one-to-many joins
-	 * leads to everything being calculated in-memory
+	 * Executes a fetch query. When paging is combined with a fetch join on a
+	 * collection, the page is first determined using an ID query and only the
+	 * entities on that page are then fetched
 	 * 
 	 * @param filter     the filter to apply
 	 * @param pageable   object containing the paging data
@@ -131,8 +137,12 @@ public abstract class BaseDaoImpl<ID, T extends AbstractEntity<ID>> implements B
 	 * @return a page of entities that match the filter
 	 */
 	private List<T> fetch(Filter filter, Pageable pageable, SortOrders sortOrders, FetchJoinInformation... joins) {
-		TypedQuery<T> query = JpaQueryBuilder.createSelectQuery(filter, entityManager, getEntityClass(),
-				(joins == null || joins.length == 0) ? getJoins() : joins,
+		FetchJoinInformation[] actualJoins = (joins == null || joins.length == 0) ? getJoins() : joins;
+		if (pageable != null && JpaQueryBuilder.isCollectionFetch(entityManager, getEntityClass(), actualJoins)) {
+			return fetchPageByIds(filter, pageable, sortOrders, actualJoins);
+		}
+
+		TypedQuery<T> query = JpaQueryBuilder.createSelectQuery(filter, entityManager, getEntityClass(), actualJoins,
 				sortOrders == null ? null : sortOrders.toArray());
 
 		if (pageable != null) {
@@ -142,6 +152,37 @@ public abstract class BaseDaoImpl<ID, T extends AbstractEntity<ID>> implements B
 		return query.getResultList();
 	}
 
+	/**
+	 * Fetches a page of entities in two steps. First the IDs of the entities on the
+	 * page are retrieved, with the paging applied by the database. Then only those
+	 * entities are fetched, together with the fetch joins. This avoids Hibernate
+	 * loading the full joined result and paging it in memory
+	 * 
+	 * @param filter     the filter to apply
+	 * @param pageable   object containing the paging data
+	 * @param sortOrders list of sort orders that must be applied
+	 * @param joins      the joins to apply
+	 * @return a page of entities that match the filter
+	 */
+	@SuppressWarnings("unchecked")
+	private List<T> fetchPageByIds(Filter filter, Pageable pageable, SortOrders sortOrders,
+			FetchJoinInformation... joins) {
+		TypedQuery<Tuple> idQuery = JpaQueryBuilder.createIdQuery(entityManager, getEntityClass(), filter,
+				sortOrders == null ? null : sortOrders.toArray());
+		idQuery.setFirstResult(pageable.getOffset());
+		idQuery.setMaxResults(pageable.getPageSize());
+		List<ID> ids = idQuery.getResultList().stream().map(tuple -> (ID) tuple.get(0)).collect(Collectors.toList());
+		if (ids.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		// no sorting needed here, the order is taken from the ID query
+		Map<ID, T> entities = new HashMap<>();
+		JpaQueryBuilder.createFetchQuery(entityManager, getEntityClass(), ids, null, null, joins).getResultList()
+				.forEach(entity -> entities.put(entity.getId(), entity));
+		return ids.stream().map(entities::get).filter(Objects::nonNull).collect(Collectors.toList());
+	}
+
 	@Override
 	public List<T> fetch(Filter filter, SortOrders sortOrders, FetchJoinInformation... joins) {
 		return fetch(filter, null, sortOrders, joins);
@@ -185,6 +226,13 @@ public abstract class BaseDaoImpl<ID, T extends AbstractEntity<ID>> implements B
 		}
 	}
 
+	@Override
+	public byte[] findLobValue(ID id, String propertyName) {
+		List<byte[]> result = JpaQueryBuilder.createLobQuery(entityManager, getEntityClass(), id, propertyName)
+				.getResultList();
+		return result.isEmpty() ? null : result.get(0);
+	}
+
 	@Override
 	public List<T> find(Filter filter) {
 		return fetch(filter, null, null, (FetchJoinInformation[]) null);
@@ -302,6 +350,10 @@ public abstract class BaseDaoImpl<ID, T extends AbstractEntity<ID>> implements B
 		return entityManager;
 	}
 
+	protected EntityModelFactory getEntityModelFactory() {
+		return entityModelFactory;
+	}
+
 	protected FetchJoinInformation[] getJoins() {
 		return entityModelFactory.getModel(getEntityClass())
 				.getFetchJoins().toArray(new FetchJoinInformation[0]);
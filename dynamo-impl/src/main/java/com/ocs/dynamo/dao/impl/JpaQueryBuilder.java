@@ -58,6 +58,8 @@ import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Selection;
 import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.SingularAttribute;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -337,7 +339,7 @@ public final class JpaQueryBuilder {
 		Root<T> root = cq.from(entityClass);
 
 		boolean distinct = addFetchJoins(root, fetchJoins);
-		if (distinct) {
+		if (distinct && sortOrders != null && sortOrders.getNrOfSortOrders() > 0) {
 			log.warn("Using distinct select, sorting on complex properties is not supported!");
 		}
 
@@ -735,6 +737,27 @@ public final class JpaQueryBuilder {
 		return cq;
 	}
 
+	/**
+	 * Creates a query that selects the value of a single (LOB) property of the
+	 * entity with the provided ID
+	 *
+	 * @param entityManager the entity manager
+	 * @param entityClass   the entity class
+	 * @param id            the ID of the entity
+	 * @param propertyName  the name of the property to select
+	 * @return the constructed query
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> TypedQuery<byte[]> createLobQuery(EntityManager entityManager, Class<T> entityClass, Object id,
+			String propertyName) {
+		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<byte[]> cq = builder.createQuery(byte[].class);
+		Root<T> root = cq.from(entityClass);
+		cq.select((Path<byte[]>) (Path<?>) getPropertyPath(root, propertyName, true));
+		cq.where(builder.equal(root.get(DynamoConstants.ID), id));
+		return entityManager.createQuery(cq);
+	}
+
 	/**
 	 * Creates a query used to retrieve a single entity based on a unique property
 	 * value
@@ -881,6 +904,40 @@ public final class JpaQueryBuilder {
 		return result;
 	}
 
+	/**
+	 * Indicates whether at least one of the specified fetch joins (possibly via a
+	 * nested property) fetches a collection. This is determined using the
+	 * metamodel, without constructing a query
+	 *
+	 * @param entityManager the entity manager
+	 * @param entityClass   the entity class
+	 * @param fetchJoins    the fetch joins
+	 * @return true if this is the case, false otherwise
+	 */
+	public static boolean isCollectionFetch(EntityManager entityManager, Class<?> entityClass,
+			FetchJoinInformation... fetchJoins) {
+		if (fetchJoins == null || fetchJoins.length == 0) {
+			return false;
+		}
+
+		ManagedType<?> rootType = entityManager.getMetamodel().managedType(entityClass);
+		for (FetchJoinInformation fetchJoin : fetchJoins) {
+			ManagedType<?> type = rootType;
+			for (String property : fetchJoin.getProperty().split("\\.")) {
+				Attribute<?, ?> attribute = type.getAttribute(property);
+				if (attribute.isCollection()) {
+					return true;
+				}
+				if (!(attribute instanceof SingularAttribute<?, ?> singular)
+						|| !(singular.getType() instanceof ManagedType<?> managedType)) {
+					break;
+				}
+				type = managedType;
+			}
+		}
+		return false;
+	}
+
 	private static boolean isCollection(Path<?> path) {
 		boolean collection = false;
 		try {
@@ -13,42 +13,187 @@
  */
 package com.ocs.dynamo.domain.comparator;
 
+import java.io.Serializable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.text.Collator;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-import com.ocs.dynamo.domain.AbstractEntity;
-import com.ocs.dynamo.utils.ClassUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.reflect.MethodUtils;
 
-import lombok.AllArgsConstructor;
+import com.ocs.dynamo.exception.OCSRuntimeException;
+import com.ocs.dynamo.util.SystemPropertyUtils;
+
+import lombok.AccessLevel;
 import lombok.Getter;
 
 /**
- * A comparator for comparing two entities based on a value of an attribute (using reflection)
+ * A comparator for comparing two objects based on the value of a (possibly
+ * nested) attribute. The getter methods are resolved once per class and then
+ * reused, and strings are compared using a locale-aware (case insensitive)
+ * collator
  * 
  * @author bas.rutten
  */
 @Getter
-@AllArgsConstructor
-public class AttributeComparator<T extends AbstractEntity<?>> implements Comparator<T> {
+public class AttributeComparator<T> implements Comparator<T>, Serializable {
+
+    private static final long serialVersionUID = -2370593458271393615L;
+
+    /**
+     * Cache of resolved getter methods, per class and property name
+     */
+    private static final Map<Class<?>, Map<String, Method>> GETTERS = new ConcurrentHashMap<>();
 
     private final String attribute;
 
+    private final Locale locale;
+
+    /**
+     * Whether null values are placed before non-null values
+     */
+    private final boolean nullsFirst;
+
+    @Getter(AccessLevel.NONE)
+    private final String[] path;
+
+    @Getter(AccessLevel.NONE)
+    private transient Collator collator;
+
+    /**
+     * Constructor
+     * 
+     * @param attribute the (possibly nested) attribute to compare on
+     */
+    public AttributeComparator(String attribute) {
+        this(attribute, SystemPropertyUtils.getDefaultLocale(), true);
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param attribute the (possibly nested) attribute to compare on
+     * @param locale    the locale used to compare string values
+     */
+    public AttributeComparator(String attribute, Locale locale) {
+        this(attribute, locale, true);
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param attribute  the (possibly nested) attribute to compare on
+     * @param locale     the locale used to compare string values
+     * @param nullsFirst whether null values are placed before non-null values
+     */
+    public AttributeComparator(String attribute, Locale locale, boolean nullsFirst) {
+        this.attribute = attribute;
+        this.locale = locale;
+        this.nullsFirst = nullsFirst;
+        this.path = attribute.split("\\.");
+    }
+
     @Override
-    @SuppressWarnings({ "unchecked" })
     public int compare(T o1, T o2) {
-        Object v1 = ClassUtils.getFieldValue(o1, attribute);
-        Object v2 = ClassUtils.getFieldValue(o2, attribute);
+        return compareValues(getValue(o1), getValue(o2));
+    }
+
+    /**
+     * Sorts a list. The attribute value (or collation key, for strings) is
+     * extracted only once for every element rather than once for every
+     * comparison, which is considerably cheaper for large lists
+     * 
+     * @param list the list to sort
+     */
+    public void sort(List<T> list) {
+        if (list.size() < 2) {
+            return;
+        }
 
+        List<Keyed<T>> keyed = new ArrayList<>(list.size());
+        for (T t : list) {
+            Object value = getValue(t);
+            keyed.add(new Keyed<>(value instanceof String str ? getCollator().getCollationKey(str) : value, t));
+        }
+        keyed.sort((k1, k2) -> compareValues(k1.key(), k2.key()));
+
+        ListIterator<T> it = list.listIterator();
+        for (Keyed<T> k : keyed) {
+            it.next();
+            it.set(k.item());
+        }
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private int compareValues(Object v1, Object v2) {
         if (v1 == null && v2 == null) {
             return 0;
         } else if (v1 == null) {
-            return -1;
+            return nullsFirst ? -1 : 1;
         } else if (v2 == null) {
-            return 1;
+            return nullsFirst ? 1 : -1;
         } else if (v1 instanceof String str1) {
-            return str1.compareToIgnoreCase((String) v2);
+            return getCollator().compare(str1, (String) v2);
         } else if (v1 instanceof Comparable comp) {
             return comp.compareTo(v2);
         }
         return 0;
     }
+
+    private Collator getCollator() {
+        if (collator == null) {
+            Collator coll = Collator.getInstance(locale);
+            coll.setStrength(Collator.SECONDARY);
+            collator = coll;
+        }
+        return collator;
+    }
+
+    /**
+     * Retrieves the value of the attribute by following the path
+     * 
+     * @param obj the object to retrieve the value from
+     * @return the value, or null if the object or any intermediate value is null
+     */
+    private Object getValue(Object obj) {
+        Object current = obj;
+        for (String property : path) {
+            if (current == null) {
+                return null;
+            }
+            Method getter = getGetter(current.getClass(), property);
+            try {
+                current = getter.invoke(current);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new OCSRuntimeException("Error getting of " + current + ":" + e.getMessage(), e);
+            }
+        }
+        return current;
+    }
+
+    private static Method getGetter(Class<?> clazz, String property) {
+        return GETTERS.computeIfAbsent(clazz, c -> new ConcurrentHashMap<>()).computeIfAbsent(property, p -> {
+            Method method = MethodUtils.getAccessibleMethod(clazz, "get" + StringUtils.capitalize(p));
+            if (method == null) {
+                method = MethodUtils.getAccessibleMethod(clazz, "is" + StringUtils.capitalize(p));
+            }
+            if (method == null) {
+                throw new OCSRuntimeException("No getter found for property " + p + " on " + clazz.getName());
+            }
+            return method;
+        });
+    }
+
+    /**
+     * An element together with its pre-extracted sort key
+     */
+    private record Keyed<T>(Object key, T item) {
+    }
 }
@@ -180,6 +180,11 @@ public abstract class BaseServiceImpl<ID, T extends AbstractEntity<ID>> implemen
         return getDao().findByUniqueProperty(propertyName, value, caseSensitive);
     }
 
+    @Override
+    public byte[] findLobValue(ID id, String propertyName) {
+        return getDao().findLobValue(id, propertyName);
+    }
+
     @Override
     public <S> List<S> findDistinctValues(Filter filter, String distinctField, Class<S> elementType, SortOrder... orders) {
         return getDao().findDistinctValues(filter, distinctField, elementType, orders);
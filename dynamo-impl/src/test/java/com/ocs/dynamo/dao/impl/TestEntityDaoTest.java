@@ -75,6 +75,19 @@ public class TestEntityDaoTest extends BackendIntegrationTest {
 		assertNull(t);
 	}
 
+	@Test
+	public void findLobValue() {
+		TestEntity entity = new TestEntity();
+		entity.setName("Bob");
+		entity.setSomeBytes(new byte[] { 1, 2, 3 });
+		entity = dao.save(entity);
+		TestEntity empty = save("Harry", 12L);
+
+		assertArrayEquals(new byte[] { 1, 2, 3 }, dao.findLobValue(entity.getId(), "someBytes"));
+		assertNull(dao.findLobValue(empty.getId(), "someBytes"));
+		assertNull(dao.findLobValue(-1, "someBytes"));
+	}
+
 	@Test
 	public void delete() {
 
@@ -112,6 +125,12 @@ public class TestEntityDaoTest extends BackendIntegrationTest {
 		results = dao.fetch(null, new PageableImpl(0, 1, new SortOrders(new SortOrder("name"))));
 		assertEquals(1, results.size());
 		assertEquals("Bob", results.get(0).getName());
+
+		// with a sort order, a collection fetch and a page (paged using the IDs)
+		results = dao.fetch(null, new PageableImpl(1, 1, new SortOrders(new SortOrder("name"))),
+				new FetchJoinInformation("testEntities"));
+		assertEquals(1, results.size());
+		assertEquals("Kevin", results.get(0).getName());
 	}
 
 	@Test
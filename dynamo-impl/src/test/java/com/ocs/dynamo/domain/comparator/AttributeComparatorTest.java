@@ -14,9 +14,15 @@
 package com.ocs.dynamo.domain.comparator;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 
 import org.junit.jupiter.api.Test;
 
+import com.ocs.dynamo.domain.TestDomain;
 import com.ocs.dynamo.domain.TestEntity;
 
 public class AttributeComparatorTest {
@@ -40,6 +46,38 @@ public class AttributeComparatorTest {
         // null value wins
         assertEquals(1, new AttributeComparator<TestEntity>("name").compare(t1, t3));
         assertEquals(-1, new AttributeComparator<TestEntity>("name").compare(t3, t1));
+
+        // null value last
+        assertEquals(-1, new AttributeComparator<TestEntity>("name", Locale.ENGLISH, false).compare(t1, t3));
+    }
+
+    @Test
+    public void testNested() {
+        TestEntity t1 = new TestEntity("bert", 44L);
+        t1.setTestDomain(new TestDomain("zeta"));
+        TestEntity t2 = new TestEntity("chloe", 33L);
+        t2.setTestDomain(new TestDomain("Alpha"));
+        TestEntity t3 = new TestEntity("dirk", 33L);
+
+        AttributeComparator<TestEntity> comparator = new AttributeComparator<>("testDomain.name", Locale.ENGLISH);
+        assertTrue(comparator.compare(t1, t2) > 0);
+        assertTrue(comparator.compare(t3, t2) < 0);
+    }
+
+    @Test
+    public void testSort() {
+        TestEntity t1 = new TestEntity("émile", 44L);
+        TestEntity t2 = new TestEntity("Bert", 33L);
+        TestEntity t3 = new TestEntity(null, 33L);
+        TestEntity t4 = new TestEntity("frank", 12L);
+
+        List<TestEntity> list = new ArrayList<>(List.of(t1, t2, t3, t4));
+        new AttributeComparator<TestEntity>("name", Locale.ENGLISH).sort(list);
+        assertEquals(List.of(t3, t2, t1, t4), list);
+
+        list.sort(new AttributeComparator<TestEntity>("age", Locale.ENGLISH).reversed());
+        assertEquals(t1, list.get(0));
+        assertEquals(t4, list.get(3));
     }
 
 }
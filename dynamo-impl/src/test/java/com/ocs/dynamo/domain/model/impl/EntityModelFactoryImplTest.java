@@ -68,6 +68,7 @@ import com.ocs.dynamo.service.MessageService;
 import com.ocs.dynamo.service.impl.MessageServiceImpl;
 import com.ocs.dynamo.test.BaseMockitoTest;
 import com.ocs.dynamo.utils.DateUtils;
+import com.ocs.dynamo.util.SystemPropertyUtils;
 
 import lombok.Getter;
 import lombok.Setter;
@@ -87,6 +88,7 @@ public class EntityModelFactoryImplTest extends BaseMockitoTest {
 	public void setupEntityModelFactoryTest() throws NoSuchFieldException {
 
 		System.setProperty("ocs.use.default.prompt.value", "true");
+		SystemPropertyUtils.reload();
 
 		source.setBasename("META-INF/entitymodel");
 		ReflectionTestUtils.setField(messageService, "source", source);
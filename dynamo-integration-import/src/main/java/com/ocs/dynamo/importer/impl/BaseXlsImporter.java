@@ -33,6 +33,7 @@ import java.io.IOException;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.Date;
 
 import static java.lang.String.format;
 
@@ -45,6 +46,51 @@ public class BaseXlsImporter extends BaseImporter<Row, Cell> {
 
 	private static final int CACHE_SIZE = 500;
 
+	/**
+	 * The value of a single cell, read from the workbook in advance so that it
+	 * can be converted on another thread (POI workbooks are not thread-safe).
+	 * Formula cells are represented by their cached result
+	 * 
+	 * @param type         the type of the cell (or of the cached formula result)
+	 * @param stringValue  the value of a string or blank cell
+	 * @param numericValue the value of a numeric or blank cell
+	 * @param dateValue    the value of a numeric cell, interpreted as a date
+	 * @param booleanValue the value of a boolean cell
+	 */
+	public record CellValue(CellType type, String stringValue, Double numericValue, LocalDate dateValue,
+			Boolean booleanValue) {
+
+		/**
+		 * Reads the value of a cell
+		 * 
+		 * @param cell the cell
+		 * @return the value, or null if the cell does not exist
+		 */
+		public static CellValue of(Cell cell) {
+			if (cell == null) {
+				return null;
+			}
+			CellType type = cell.getCellType() == CellType.FORMULA ? cell.getCachedFormulaResultType()
+					: cell.getCellType();
+			return switch (type) {
+			case STRING -> new CellValue(type, cell.getStringCellValue(), null, null, null);
+			case BLANK -> new CellValue(type, cell.getStringCellValue(), cell.getNumericCellValue(), null, null);
+			case NUMERIC -> {
+				Date date = cell.getDateCellValue();
+				yield new CellValue(type, null, cell.getNumericCellValue(),
+						date == null ? null : LocalDate.from(date.toInstant().atZone(ZoneId.systemDefault())), null);
+			}
+			case BOOLEAN -> new CellValue(type, null, null, null, cell.getBooleanCellValue());
+			default -> new CellValue(type, null, null, null, null);
+			};
+		}
+	}
+
+	/**
+	 * Converts records that consist of cell values that were read in advance
+	 */
+	private final CellValueConverter cellValueConverter = new CellValueConverter();
+
 	/**
 	 * Checks if any cell in a row contains a certain (String) value
 	 * 
@@ -372,4 +418,152 @@ public class BaseXlsImporter extends BaseImporter<Row, Cell> {
 		}
 		return dto;
 	}
+
+	/**
+	 * Reads the cell values of a record (a number of consecutive rows), so that
+	 * they can be converted by {@link #processRecord(int, CellValue[], Class)}
+	 * without accessing the workbook
+	 * 
+	 * @param sheet         the sheet to read the values from
+	 * @param firstRowIndex the index of the first row of the record
+	 * @param colIndex      the index of the column that contains the values
+	 * @param clazz         the class of the DTO
+	 * @return the values, one for every row of the record that exists in the
+	 *         sheet
+	 */
+	public CellValue[] readRecord(Sheet sheet, int firstRowIndex, int colIndex, Class<?> clazz) {
+		int length = 1;
+		for (PropertyDescriptor d : BeanUtils.getPropertyDescriptors(clazz)) {
+			ImportField field = ClassUtils.getAnnotation(clazz, d.getName(), ImportField.class);
+			if (field != null) {
+				length = Math.max(length, field.index() + 1);
+			}
+		}
+
+		CellValue[] values = new CellValue[Math.max(0, Math.min(length, sheet.getLastRowNum() - firstRowIndex + 1))];
+		for (int i = 0; i < values.length; i++) {
+			Row row = sheet.getRow(firstRowIndex + i);
+			values[i] = row == null ? null : CellValue.of(row.getCell(colIndex));
+		}
+		return values;
+	}
+
+	/**
+	 * Translates the cell values of a record that were read by
+	 * {@link #readRecord(Sheet, int, int, Class)} into a DTO. This is the
+	 * counterpart of {@link #processRows(Sheet, int, int, Class)} that does not
+	 * access the workbook, and can therefore be called from any thread
+	 * 
+	 * @param firstRowIndex the index of the first row of the record
+	 * @param values        the cell values of the record
+	 * @param clazz         the class
+	 * @return the resulting DTO
+	 */
+	public <T extends AbstractDTO> T processRecord(int firstRowIndex, CellValue[] values, Class<T> clazz) {
+		return cellValueConverter.processRecord(firstRowIndex, values, clazz);
+	}
+
+	/**
+	 * Converts cell values using the same rules as the cell based methods of the
+	 * enclosing importer
+	 */
+	private class CellValueConverter extends BaseImporter<CellValue[], CellValue> {
+
+		@Override
+		public int countRows(byte[] bytes, int sheetIndex) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		protected Boolean getBooleanValueWithDefault(CellValue value, ImportField field) {
+			if (value != null && CellType.BOOLEAN == value.type()) {
+				return value.booleanValue();
+			} else if (value != null && CellType.STRING == value.type()) {
+				return Boolean.valueOf(value.stringValue());
+			}
+			return Boolean.FALSE;
+		}
+
+		@Override
+		protected LocalDate getDateValueWithDefault(CellValue value, ImportField field) {
+			LocalDate date = value == null ? null : value.dateValue();
+			if (date == null && !StringUtils.isEmpty(field.defaultValue())) {
+				date = LocalDate.parse(field.defaultValue(),
+						DateTimeFormatter.ofPattern(SystemPropertyUtils.getDefaultDateFormat()));
+			}
+			return date;
+		}
+
+		@Override
+		protected Double getNumericValueWithDefault(CellValue value, ImportField field) {
+			Double number = null;
+			if (value != null && (CellType.NUMERIC == value.type() || CellType.BLANK == value.type())) {
+				number = value.numericValue();
+			} else if (value != null && CellType.STRING == value.type()
+					&& !StringUtils.isEmpty(value.stringValue().trim())) {
+				throw new OCSImportException(format("Found an invalid numeric value: %s", value.stringValue()));
+			}
+			if (number == null && !StringUtils.isEmpty(field.defaultValue())) {
+				number = Double.valueOf(field.defaultValue());
+			}
+			return number;
+		}
+
+		@Override
+		protected String getStringValueWithDefault(CellValue value, ImportField field) {
+			String string = null;
+			if (value != null && (CellType.STRING == value.type() || CellType.BLANK == value.type())) {
+				string = value.stringValue() == null ? null : value.stringValue().trim();
+			} else if (value != null && CellType.NUMERIC == value.type()) {
+				string = Double.toString(value.numericValue());
+			}
+			if (StringUtils.isEmpty(string) && !StringUtils.isEmpty(field.defaultValue())) {
+				string = field.defaultValue();
+			}
+			return string;
+		}
+
+		@Override
+		protected CellValue getUnit(CellValue[] values, ImportField field) {
+			return values[field.index()];
+		}
+
+		@Override
+		public boolean isPercentageCorrectionSupported() {
+			return BaseXlsImporter.this.isPercentageCorrectionSupported();
+		}
+
+		@Override
+		protected boolean isWithinRange(CellValue[] values, ImportField field) {
+			return field.index() < values.length;
+		}
+
+		private <T extends AbstractDTO> T processRecord(int firstRowIndex, CellValue[] values, Class<T> clazz) {
+			T dto = ClassUtils.instantiateClass(clazz);
+
+			String firstCellValue = values.length > 0 && values[0] != null ? values[0].stringValue() : null;
+			if (!StringUtils.isEmpty(firstCellValue)) {
+				PropertyDescriptor[] descriptors = BeanUtils.getPropertyDescriptors(clazz);
+				for (PropertyDescriptor d : descriptors) {
+					ImportField field = ClassUtils.getAnnotation(clazz, d.getName(), ImportField.class);
+					if (field != null) {
+						if (isWithinRange(values, field)) {
+							Object obj = getFieldValue(d, getUnit(values, field), field);
+							if (obj != null) {
+								ClassUtils.setFieldValue(dto, d.getName(), obj);
+							} else if (field.required()) {
+								// a required value is missing!
+								throw new OCSImportException(
+										format("Required value for field '%s' is missing", d.getName()));
+							}
+						} else {
+							throw new OCSImportException(format("Input doesn't have enough rows: row %d does not exist",
+									firstRowIndex + field.index()));
+						}
+					}
+				}
+			}
+			return dto;
+		}
+	}
 }
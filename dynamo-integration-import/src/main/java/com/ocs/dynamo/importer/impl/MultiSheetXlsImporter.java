@@ -0,0 +1,233 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.importer.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+
+import org.apache.poi.ss.usermodel.Workbook;
+
+import com.ocs.dynamo.exception.OCSRuntimeException;
+import com.ocs.dynamo.importer.dto.AbstractDTO;
+import com.ocs.dynamo.importer.impl.BaseXlsImporter.CellValue;
+import com.ocs.dynamo.util.SystemPropertyUtils;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Imports several sheets of the same Excel workbook. The workbook is opened
+ * only once. Since POI workbooks are not thread-safe, the cell values of the
+ * sheets are read on the calling thread, after which the sheets are converted
+ * concurrently on a bounded number of threads. Every sheet is processed by its
+ * own
+ * {@link XlsRowImportTemplate}, and the results and errors are reported per
+ * sheet
+ * 
+ * @author Bas Rutten
+ *
+ * @param <T> the type of the DTO
+ */
+@Slf4j
+public class MultiSheetXlsImporter<T extends AbstractDTO> {
+
+	/**
+	 * The result of the import of a single sheet
+	 * 
+	 * @param sheetIndex the index of the sheet
+	 * @param sheetName  the name of the sheet (null if the sheet does not exist)
+	 * @param results    the DTOs that were created from the sheet
+	 * @param errors     the errors that occurred while processing the sheet
+	 */
+	public record SheetResult<T>(int sheetIndex, String sheetName, List<T> results, List<String> errors) {
+
+		public boolean hasErrors() {
+			return !errors.isEmpty();
+		}
+	}
+
+	private final BaseXlsImporter importer;
+
+	/**
+	 * The maximum number of sheets that are processed at the same time. When this
+	 * is more than 1, the importer must be thread-safe. The records of a single
+	 * sheet are then converted on one thread, regardless of the number of threads
+	 * of its template, so that there is only one level of parallelism
+	 */
+	@Getter
+	@Setter
+	private int threads = SystemPropertyUtils.getImportThreads();
+
+	/**
+	 * Constructor
+	 * 
+	 * @param importer the importer that is used to open the workbook
+	 */
+	public MultiSheetXlsImporter(BaseXlsImporter importer) {
+		this.importer = importer;
+	}
+
+	/**
+	 * Imports the requested sheets of a workbook
+	 * 
+	 * @param bytes           the contents of the workbook
+	 * @param sheetIndexes    the indexes of the sheets to import
+	 * @param templateFactory the function that creates the template for a sheet.
+	 *                        Accepts the index of the sheet and the list to which
+	 *                        the template must add its errors
+	 * @return the results, in the order of the provided sheet indexes
+	 */
+	public List<SheetResult<T>> execute(byte[] bytes, Collection<Integer> sheetIndexes,
+			BiFunction<Integer, List<String>, ? extends XlsRowImportTemplate<?, T>> templateFactory) {
+		try (Workbook wb = importer.createWorkbook(bytes)) {
+			if (threads <= 1 || sheetIndexes.size() <= 1) {
+				List<SheetResult<T>> results = new ArrayList<>();
+				for (Integer sheetIndex : sheetIndexes) {
+					results.add(importSheet(wb, sheetIndex, templateFactory));
+				}
+				return results;
+			}
+			return importInParallel(wb, sheetIndexes, templateFactory);
+		} catch (IOException ex) {
+			throw new OCSRuntimeException(ex.getMessage(), ex);
+		}
+	}
+
+	private List<SheetResult<T>> importInParallel(Workbook wb, Collection<Integer> sheetIndexes,
+			BiFunction<Integer, List<String>, ? extends XlsRowImportTemplate<?, T>> templateFactory) {
+		// the workbook is only accessed from this thread
+		List<SheetRead<T>> reads = new ArrayList<>();
+		for (Integer sheetIndex : sheetIndexes) {
+			reads.add(readSheet(wb, sheetIndex, templateFactory));
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, sheetIndexes.size()));
+		try {
+			List<Future<SheetResult<T>>> futures = new ArrayList<>();
+			for (SheetRead<T> read : reads) {
+				futures.add(executor.submit(() -> convertSheet(read)));
+			}
+
+			List<SheetResult<T>> results = new ArrayList<>();
+			for (Future<SheetResult<T>> future : futures) {
+				results.add(future.get());
+			}
+			return results;
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new OCSRuntimeException("Import was interrupted", ex);
+		} catch (ExecutionException ex) {
+			throw new OCSRuntimeException(ex.getCause().getMessage(), ex.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Imports a single sheet. Any runtime exception is reported as an error of the
+	 * sheet, so that it does not affect the import of the other sheets
+	 * 
+	 * @param wb              the workbook
+	 * @param sheetIndex      the index of the sheet
+	 * @param templateFactory the function that creates the template for the sheet
+	 * @return the result
+	 */
+	private SheetResult<T> importSheet(Workbook wb, int sheetIndex,
+			BiFunction<Integer, List<String>, ? extends XlsRowImportTemplate<?, T>> templateFactory) {
+		List<String> errors = new ArrayList<>();
+		List<T> results = new ArrayList<>();
+		try {
+			results = templateFactory.apply(sheetIndex, errors).execute(wb);
+		} catch (RuntimeException ex) {
+			log.error(ex.getMessage(), ex);
+			errors.add(ex.getMessage());
+		}
+		return new SheetResult<>(sheetIndex, getSheetName(wb, sheetIndex), results, errors);
+	}
+
+	/**
+	 * Reads the cell values of a single sheet, so that the sheet can be converted
+	 * on another thread. Any runtime exception is reported as an error of the
+	 * sheet
+	 * 
+	 * @param wb              the workbook
+	 * @param sheetIndex      the index of the sheet
+	 * @param templateFactory the function that creates the template for the sheet
+	 * @return the cell values, together with the template that converts them
+	 */
+	private SheetRead<T> readSheet(Workbook wb, int sheetIndex,
+			BiFunction<Integer, List<String>, ? extends XlsRowImportTemplate<?, T>> templateFactory) {
+		List<String> errors = new ArrayList<>();
+		XlsRowImportTemplate<?, T> template = null;
+		Map<Integer, CellValue[]> records = null;
+		try {
+			template = templateFactory.apply(sheetIndex, errors);
+			template.setThreads(1);
+			records = template.read(wb);
+		} catch (RuntimeException ex) {
+			log.error(ex.getMessage(), ex);
+			errors.add(ex.getMessage());
+		}
+		return new SheetRead<>(sheetIndex, getSheetName(wb, sheetIndex), errors, template, records);
+	}
+
+	/**
+	 * Converts the cell values of a single sheet. Any runtime exception is reported
+	 * as an error of the sheet
+	 * 
+	 * @param read the cell values of the sheet
+	 * @return the result
+	 */
+	private SheetResult<T> convertSheet(SheetRead<T> read) {
+		List<T> results = new ArrayList<>();
+		if (read.records() != null) {
+			try {
+				results = read.template().convert(read.records());
+			} catch (RuntimeException ex) {
+				log.error(ex.getMessage(), ex);
+				read.errors().add(ex.getMessage());
+			}
+		}
+		return new SheetResult<>(read.sheetIndex(), read.sheetName(), results, read.errors());
+	}
+
+	private static String getSheetName(Workbook wb, int sheetIndex) {
+		return sheetIndex >= 0 && sheetIndex < wb.getNumberOfSheets() ? wb.getSheetName(sheetIndex) : null;
+	}
+
+	/**
+	 * The cell values of a sheet that were read from the workbook, but not yet
+	 * converted
+	 * 
+	 * @param sheetIndex the index of the sheet
+	 * @param sheetName  the name of the sheet (null if the sheet does not exist)
+	 * @param errors     the errors that occurred so far
+	 * @param template   the template that converts the values (null if it could
+	 *                   not be created)
+	 * @param records    the cell values of the records (null if they could not be
+	 *                   read)
+	 */
+	private record SheetRead<T>(int sheetIndex, String sheetName, List<String> errors,
+			XlsRowImportTemplate<?, T> template, Map<Integer, CellValue[]> records) {
+	}
+}
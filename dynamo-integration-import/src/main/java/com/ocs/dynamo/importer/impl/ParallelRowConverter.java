@@ -0,0 +1,123 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.importer.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import com.ocs.dynamo.exception.OCSImportException;
+import com.ocs.dynamo.exception.OCSRuntimeException;
+
+/**
+ * Converts the rows of an import file, optionally in parallel. The rows are
+ * split into chunks that are processed on a bounded number of threads. The
+ * outcomes are always returned in the original row order, so that any
+ * processing that depends on the order (e.g. duplicate detection) remains
+ * deterministic
+ * 
+ * @author Bas Rutten
+ *
+ * @param <T> the type of the result of the conversion of a row
+ */
+public class ParallelRowConverter<T> {
+
+	/**
+	 * The default number of rows in a chunk
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+	private final int threads;
+
+	private final int chunkSize;
+
+	/**
+	 * The outcome of the conversion of a single row
+	 * 
+	 * @param rowIndex the index of the row
+	 * @param result   the result of the conversion (null in case of an error)
+	 * @param error    the error that occurred during the conversion (if any)
+	 */
+	public record RowOutcome<T>(int rowIndex, T result, OCSImportException error) {
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param threads   the number of threads to use. 1 (or less) means that the
+	 *                  rows are converted on the calling thread
+	 * @param chunkSize the number of rows in a chunk
+	 */
+	public ParallelRowConverter(int threads, int chunkSize) {
+		this.threads = threads;
+		this.chunkSize = Math.max(1, chunkSize);
+	}
+
+	/**
+	 * Converts the rows with the provided indexes. Any import exception that occurs
+	 * during the conversion of a row is recorded in the outcome of that row, any
+	 * other exception aborts the conversion
+	 * 
+	 * @param rowIndexes the indexes of the rows to convert
+	 * @param converter  the function that converts the row with the provided index
+	 * @return the outcomes, in the order of the provided indexes
+	 */
+	public List<RowOutcome<T>> convert(List<Integer> rowIndexes, IntFunction<T> converter) {
+		if (threads <= 1 || rowIndexes.size() <= chunkSize) {
+			return convertChunk(rowIndexes, converter);
+		}
+
+		int nrOfChunks = (rowIndexes.size() + chunkSize - 1) / chunkSize;
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, nrOfChunks));
+		try {
+			List<Future<List<RowOutcome<T>>>> futures = new ArrayList<>();
+			for (int start = 0; start < rowIndexes.size(); start += chunkSize) {
+				List<Integer> chunk = rowIndexes.subList(start, Math.min(start + chunkSize, rowIndexes.size()));
+				futures.add(executor.submit(() -> convertChunk(chunk, converter)));
+			}
+
+			List<RowOutcome<T>> outcomes = new ArrayList<>(rowIndexes.size());
+			for (Future<List<RowOutcome<T>>> future : futures) {
+				outcomes.addAll(future.get());
+			}
+			return outcomes;
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new OCSRuntimeException("Interrupted while converting rows", ex);
+		} catch (ExecutionException ex) {
+			if (ex.getCause() instanceof RuntimeException re) {
+				throw re;
+			}
+			throw new OCSRuntimeException(ex.getCause().getMessage(), ex.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private List<RowOutcome<T>> convertChunk(List<Integer> rowIndexes, IntFunction<T> converter) {
+		List<RowOutcome<T>> outcomes = new ArrayList<>(rowIndexes.size());
+		for (int rowIndex : rowIndexes) {
+			try {
+				outcomes.add(new RowOutcome<>(rowIndex, converter.apply(rowIndex), null));
+			} catch (OCSImportException ex) {
+				outcomes.add(new RowOutcome<>(rowIndex, null, ex));
+			}
+		}
+		return outcomes;
+	}
+}
@@ -15,15 +15,22 @@ package com.ocs.dynamo.importer.impl;
 
 import com.ocs.dynamo.exception.OCSImportException;
 import com.ocs.dynamo.importer.dto.AbstractDTO;
+import com.ocs.dynamo.importer.impl.BaseXlsImporter.CellValue;
+import com.ocs.dynamo.importer.impl.ParallelRowConverter.RowOutcome;
 import com.ocs.dynamo.service.MessageService;
 import com.ocs.dynamo.util.SystemPropertyUtils;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
 
+import lombok.Getter;
+import lombok.Setter;
+
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -91,6 +98,24 @@ public abstract class XlsRowImportTemplate<ID, T extends AbstractDTO> {
      */
     private final Class<T> clazz;
 
+    /**
+     * The number of threads used to convert the records. When this is more than
+     * 1, the importer must be thread-safe. Since POI workbooks are not
+     * thread-safe, the cell values are then read on the calling thread first, and
+     * only the conversion of these values happens in parallel
+     */
+    @Getter
+    @Setter
+    private int threads = SystemPropertyUtils.getImportThreads();
+
+    /**
+     * The number of records that are converted together when converting in
+     * parallel
+     */
+    @Getter
+    @Setter
+    private int chunkSize = ParallelRowConverter.DEFAULT_CHUNK_SIZE;
+
     /**
      * Constructor
      *
@@ -121,61 +146,147 @@ public abstract class XlsRowImportTemplate<ID, T extends AbstractDTO> {
         this.recordLength = recordLength;
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Converts the records in the sheet to DTOs. When more than one thread is
+     * configured, the records are converted in parallel, but the results and
+     * errors are always reported in the original order
+     *
+     * @return the DTOs
+     * @throws IOException when the workbook cannot be read
+     */
     public List<T> execute() throws IOException {
+        try (Workbook wb = importer.createWorkbook(bytes)) {
+            return execute(wb);
+        }
+    }
 
+    /**
+     * Converts the records in the sheet of an already opened workbook to DTOs.
+     * This allows several sheets of the same workbook to be processed without
+     * opening the workbook again
+     *
+     * @param wb the workbook
+     * @return the DTOs
+     */
+    public List<T> execute(Workbook wb) {
+        if (threads <= 1) {
+            Sheet sheet = wb.getSheetAt(sheetIndex);
+            return collectResults(new ParallelRowConverter<T>(1, chunkSize).convert(findRecordIndexes(sheet),
+                    index -> importer.processRows(sheet, index, colIndex, clazz)));
+        }
+        return convert(read(wb));
+    }
+
+    /**
+     * Reads the cell values of the records in the sheet. Since POI workbooks are
+     * not thread-safe, this happens on the calling thread, after which the values
+     * can be converted on any thread by {@link #convert(Map)}
+     *
+     * @param wb the workbook
+     * @return the cell values of the records, by the index of their first row
+     */
+    Map<Integer, CellValue[]> read(Workbook wb) {
+        Sheet sheet = wb.getSheetAt(sheetIndex);
+        Map<Integer, CellValue[]> records = new LinkedHashMap<>();
+        for (int index : findRecordIndexes(sheet)) {
+            records.put(index, importer.readRecord(sheet, index, colIndex, clazz));
+        }
+        return records;
+    }
+
+    /**
+     * Converts records that were read by {@link #read(Workbook)} to DTOs
+     *
+     * @param records the cell values of the records, by the index of their first
+     *                row
+     * @return the DTOs
+     */
+    List<T> convert(Map<Integer, CellValue[]> records) {
+        return collectResults(new ParallelRowConverter<T>(threads, chunkSize).convert(
+                new ArrayList<>(records.keySet()), index -> importer.processRecord(index, records.get(index), clazz)));
+    }
+
+    /**
+     * Determines the index of the first row of every record in the sheet
+     *
+     * @param sheet the sheet
+     * @return the indexes
+     */
+    private List<Integer> findRecordIndexes(Sheet sheet) {
+        List<Integer> recordIndexes = new ArrayList<>();
+        int i = 0;
+        while (i <= sheet.getLastRowNum()) {
+            if (i >= firstRowNumber) {
+                // check for non-empty separator row
+                if (importer.isRowEmpty(sheet.getRow(i))) {
+                    break;
+                }
+                i++;
+                recordIndexes.add(i);
+                i += recordLength;
+            } else {
+                // row is before the start of the input, skip row and try
+                // the next
+                i++;
+            }
+        }
+        return recordIndexes;
+    }
+
+    /**
+     * Collects the DTOs of the converted records, and reports the errors in the
+     * original order
+     *
+     * @param outcomes the outcomes of the conversion
+     * @return the DTOs
+     */
+    private List<T> collectResults(List<RowOutcome<T>> outcomes) {
         List<T> results = new ArrayList<>();
+        for (RowOutcome<T> outcome : outcomes) {
+            OCSImportException error = outcome.error();
+            if (error == null) {
+                try {
+                    addResult(outcome.rowIndex(), outcome.result(), results);
+                } catch (OCSImportException ex) {
+                    error = ex;
+                }
+            }
+            if (error != null) {
+                // catch errors on a record by record level
+                errors.add(String.format("Row %d: %s", outcome.rowIndex() + 1, error.getMessage()));
+            }
+        }
+        return results;
+    }
 
-        try (Workbook wb = importer.createWorkbook(bytes)) {
-            Sheet sheet = wb.getSheetAt(sheetIndex);
+    /**
+     * Adds the DTO for a single record, checking for duplicates if needed
+     *
+     * @param i       the index of the first row of the record
+     * @param entity  the DTO
+     * @param results the list of current results
+     */
+    @SuppressWarnings("unchecked")
+    private void addResult(int i, T entity, List<T> results) {
+        if (entity != null && extractKey(entity) != null) {
+            ID key = extractKey(entity);
 
-            int i = 0;
-
-            while (i <= sheet.getLastRowNum()) {
-                if (i >= firstRowNumber) {
-                    try {
-                        // check for non-empty separator row
-                        if (importer.isRowEmpty(sheet.getRow(i))) {
-                            break;
-                        } else {
-                            i++;
-                        }
-
-                        T entity = importer.processRows(sheet, i, colIndex, clazz);
-
-                        if (entity != null && extractKey(entity) != null) {
-                            ID key = extractKey(entity);
-
-                            // in case of a string, compare by lower case
-                            if (key instanceof String) {
-                                key = (ID) ((String) key).toLowerCase();
-                            }
-
-                            if (checkForDuplicates) {
-                                if (!keys.contains(key)) {
-                                    keys.add(key);
-                                    results.add(entity);
-                                } else {
-                                    errors.add(messageService.getMessage("ocs.duplicate.row",
-                                           SystemPropertyUtils.getDefaultLocale(), i + 1, key));
-                                }
-                            } else {
-                                results.add(entity);
-                            }
-                        }
-                    } catch (OCSImportException ex) {
-                        // catch errors on a record by record level
-                        errors.add(String.format("Row %d: %s", i + 1, ex.getMessage()));
-                    }
-                    i += recordLength;
+            // in case of a string, compare by lower case
+            if (key instanceof String) {
+                key = (ID) ((String) key).toLowerCase();
+            }
+
+            if (checkForDuplicates) {
+                if (!keys.contains(key)) {
+                    keys.add(key);
+                    results.add(entity);
                 } else {
-                    // row is before the start of the input, skip row and try
-                    // the next
-                    i++;
+                    errors.add(messageService.getMessage("ocs.duplicate.row",
+                           SystemPropertyUtils.getDefaultLocale(), i + 1, key));
                 }
+            } else {
+                results.add(entity);
             }
-
-            return results;
         }
     }
 
@@ -0,0 +1,43 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.importer.sync;
+
+/**
+ * Maps an imported DTO onto an entity
+ * 
+ * @author Bas Rutten
+ *
+ * @param <D> the type of the DTO
+ * @param <T> the type of the entity
+ */
+public interface ImportMapper<D, T> {
+
+	/**
+	 * Creates a new entity based on a DTO for which no entity exists yet
+	 * 
+	 * @param dto the DTO
+	 * @return the new entity
+	 */
+	T create(D dto);
+
+	/**
+	 * Merges the values of a DTO into an existing entity
+	 * 
+	 * @param dto    the DTO
+	 * @param entity the existing entity
+	 * @return true if the entity was modified and must be saved, false if it was
+	 *         already up to date
+	 */
+	boolean merge(D dto, T entity);
+}
@@ -0,0 +1,71 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.importer.sync;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import lombok.Getter;
+
+/**
+ * The result of synchronizing a set of imported DTOs with the database
+ * 
+ * @author Bas Rutten
+ *
+ */
+@Getter
+public class ImportSyncResult {
+
+	/**
+	 * A DTO that could not be synchronized
+	 * 
+	 * @param index   the index of the DTO in the input
+	 * @param message the error message
+	 */
+	public record Failure(int index, String message) {
+	}
+
+	private int inserted;
+
+	private int updated;
+
+	private int unchanged;
+
+	private final List<Failure> failures = new ArrayList<>();
+
+	void addCounts(int inserted, int updated, int unchanged) {
+		this.inserted += inserted;
+		this.updated += updated;
+		this.unchanged += unchanged;
+	}
+
+	void addFailure(int index, String message) {
+		failures.add(new Failure(index, message));
+	}
+
+	public int getFailed() {
+		return failures.size();
+	}
+
+	public List<Failure> getFailures() {
+		return Collections.unmodifiableList(failures);
+	}
+
+	@Override
+	public String toString() {
+		return "inserted: " + inserted + ", updated: " + updated + ", unchanged: " + unchanged + ", failed: "
+				+ getFailed();
+	}
+}
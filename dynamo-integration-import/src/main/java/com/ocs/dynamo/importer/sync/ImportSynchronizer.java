@@ -0,0 +1,205 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.importer.sync;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.ocs.dynamo.dao.BaseDao;
+import com.ocs.dynamo.domain.AbstractEntity;
+import com.ocs.dynamo.exception.OCSRuntimeException;
+import com.ocs.dynamo.filter.In;
+import com.ocs.dynamo.utils.ClassUtils;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Synchronizes the DTOs that result from an import with the database. Every DTO
+ * is matched with an existing entity based on a unique key property. Existing
+ * entities are retrieved in chunks, using a single "IN" query per chunk, rather
+ * than looked up one at a time. Entities that do not exist yet are created, and
+ * the new and modified entities are saved per chunk. A DTO whose key already
+ * occurred earlier in the input is reported as a failure.
+ * 
+ * The counts in the result only include chunks that were saved successfully.
+ * When a chunk cannot be saved, an exception is thrown, since the persistence
+ * context and the surrounding transaction can no longer be used in that case.
+ * 
+ * This class does not start a transaction - call it from a transactional
+ * service method
+ * 
+ * @author Bas Rutten
+ *
+ * @param <D>  the type of the DTO
+ * @param <K>  the type of the key
+ * @param <ID> the type of the primary key of the entity
+ * @param <T>  the type of the entity
+ */
+@Slf4j
+public class ImportSynchronizer<D, K, ID, T extends AbstractEntity<ID>> {
+
+	/**
+	 * The default number of DTOs to process in a chunk. Kept below 1000 since some
+	 * databases limit the number of values in an "IN" clause
+	 */
+	public static final int DEFAULT_CHUNK_SIZE = 500;
+
+	private final BaseDao<ID, T> dao;
+
+	private final String keyProperty;
+
+	private final Function<D, K> keyExtractor;
+
+	private final ImportMapper<D, T> mapper;
+
+	/**
+	 * The number of DTOs to process in a chunk
+	 */
+	@Getter
+	@Setter
+	private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+	/**
+	 * Whether to flush and clear the persistence context after every chunk. This
+	 * keeps the persistence context small during large imports
+	 */
+	@Getter
+	@Setter
+	private boolean clearAfterChunk = true;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param dao          the DAO used to look up and save the entities
+	 * @param keyProperty  the name of the (unique) entity property that is used
+	 *                     to match DTOs with entities
+	 * @param keyExtractor the function that extracts the key from a DTO
+	 * @param mapper       the mapper that creates or updates the entities
+	 */
+	public ImportSynchronizer(BaseDao<ID, T> dao, String keyProperty, Function<D, K> keyExtractor,
+			ImportMapper<D, T> mapper) {
+		this.dao = dao;
+		this.keyProperty = keyProperty;
+		this.keyExtractor = keyExtractor;
+		this.mapper = mapper;
+	}
+
+	/**
+	 * Synchronizes the provided DTOs with the database
+	 * 
+	 * @param dtos the DTOs
+	 * @return the result of the synchronization
+	 * @throws OCSRuntimeException when a chunk cannot be saved
+	 */
+	public ImportSyncResult synchronize(List<D> dtos) {
+		ImportSyncResult result = new ImportSyncResult();
+		Set<K> seenKeys = new HashSet<>();
+		int size = Math.max(1, chunkSize);
+		for (int start = 0; start < dtos.size(); start += size) {
+			synchronizeChunk(dtos, start, Math.min(dtos.size(), start + size), seenKeys, result);
+		}
+		log.info("Synchronized {} rows for {}: {}", dtos.size(), dao.getEntityClass().getSimpleName(), result);
+		return result;
+	}
+
+	private void synchronizeChunk(List<D> dtos, int start, int end, Set<K> seenKeys, ImportSyncResult result) {
+		Map<Integer, K> keys = new HashMap<>();
+		Set<K> distinctKeys = new LinkedHashSet<>();
+		for (int i = start; i < end; i++) {
+			try {
+				K key = keyExtractor.apply(dtos.get(i));
+				if (key == null) {
+					result.addFailure(i, "No value for key property " + keyProperty);
+				} else if (!seenKeys.add(key)) {
+					result.addFailure(i, "Duplicate value " + key + " for key property " + keyProperty);
+				} else {
+					keys.put(i, key);
+					distinctKeys.add(key);
+				}
+			} catch (RuntimeException ex) {
+				result.addFailure(i, ex.getMessage());
+			}
+		}
+
+		Map<Object, T> existing = findExisting(distinctKeys);
+
+		List<T> toSave = new ArrayList<>();
+		int inserted = 0;
+		int updated = 0;
+		int unchanged = 0;
+		for (int i = start; i < end; i++) {
+			K key = keys.get(i);
+			if (key == null) {
+				continue;
+			}
+			D dto = dtos.get(i);
+			T entity = existing.get(key);
+			try {
+				if (entity == null) {
+					toSave.add(mapper.create(dto));
+					inserted++;
+				} else if (mapper.merge(dto, entity)) {
+					toSave.add(entity);
+					updated++;
+				} else {
+					unchanged++;
+				}
+			} catch (RuntimeException ex) {
+				if (entity != null) {
+					// the merge may have changed the entity before it failed, make sure these
+					// changes are not flushed
+					dao.detach(entity);
+				}
+				result.addFailure(i, ex.getMessage());
+			}
+		}
+
+		try {
+			if (!toSave.isEmpty()) {
+				dao.save(toSave);
+			}
+			if (clearAfterChunk) {
+				dao.flushAndClear();
+			}
+		} catch (RuntimeException ex) {
+			throw new OCSRuntimeException(
+					String.format("Could not save rows %d to %d: %s", start, end - 1, ex.getMessage()), ex);
+		}
+		result.addCounts(inserted, updated, unchanged);
+	}
+
+	/**
+	 * Retrieves the existing entities for the provided keys using a single query
+	 * 
+	 * @param keys the keys
+	 * @return the existing entities, by key
+	 */
+	private Map<Object, T> findExisting(Set<K> keys) {
+		Map<Object, T> existing = new HashMap<>();
+		if (!keys.isEmpty()) {
+			for (T entity : dao.find(new In(keyProperty, keys))) {
+				existing.put(ClassUtils.getFieldValue(entity, keyProperty), entity);
+			}
+		}
+		return existing;
+	}
+}
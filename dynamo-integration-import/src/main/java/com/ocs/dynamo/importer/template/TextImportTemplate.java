@@ -20,9 +20,13 @@ import java.util.Locale;
 import java.util.Set;
 
 import com.ocs.dynamo.exception.OCSImportException;
+import com.ocs.dynamo.importer.impl.ParallelRowConverter;
+import com.ocs.dynamo.importer.impl.ParallelRowConverter.RowOutcome;
 import com.ocs.dynamo.service.MessageService;
 import com.ocs.dynamo.util.SystemPropertyUtils;
 
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -47,6 +51,21 @@ public abstract class TextImportTemplate<ID, T> {
 
 	private Set<ID> keys = new HashSet<>();
 
+	/**
+	 * The number of threads used to convert the rows. When this is more than 1,
+	 * the process method must be thread-safe
+	 */
+	@Getter
+	@Setter
+	private int threads = SystemPropertyUtils.getImportThreads();
+
+	/**
+	 * The number of rows that are converted together when converting in parallel
+	 */
+	@Getter
+	@Setter
+	private int chunkSize = ParallelRowConverter.DEFAULT_CHUNK_SIZE;
+
 	/**
 	 * Constructor
 	 * 
@@ -88,37 +107,52 @@ public abstract class TextImportTemplate<ID, T> {
 	protected abstract ID getKeyFromRow(T t);
 
 	/**
+	 * Converts the lines to results. When more than one thread is configured, the
+	 * rows are converted in parallel, but the results and errors are always
+	 * reported in the original row order
 	 * 
-	 * @return
+	 * @return the results
 	 */
 	public List<T> execute() {
-		List<T> results = new ArrayList<>();
-		for (int i = 0; i < lines.size(); i++) {
+		List<Integer> rowIndexes = new ArrayList<>();
+		for (int i = 1; i < lines.size(); i++) {
 			String[] row = lines.get(i);
-			if (row != null && i > 0 && isAppropriateRow(row)) {
+			if (row != null && isAppropriateRow(row)) {
+				rowIndexes.add(i);
+			}
+		}
+
+		List<T> results = new ArrayList<>();
+		List<RowOutcome<T>> outcomes = new ParallelRowConverter<T>(threads, chunkSize).convert(rowIndexes,
+				i -> process(i, lines.get(i)));
+		for (RowOutcome<T> outcome : outcomes) {
+			OCSImportException error = outcome.error();
+			if (error == null) {
 				try {
-					executeRow(i, row, results);
+					addResult(outcome.rowIndex(), outcome.result(), results);
 				} catch (OCSImportException ex) {
-					log.error(ex.getMessage(), ex);
-					// catch errors on a record by record level
-					errors.add(String.format("Row %d: %s", i + 1, ex.getMessage()));
+					error = ex;
 				}
 			}
+			if (error != null) {
+				log.error(error.getMessage(), error);
+				// catch errors on a record by record level
+				errors.add(String.format("Row %d: %s", outcome.rowIndex() + 1, error.getMessage()));
+			}
 		}
 
 		return results;
 	}
 
 	/**
-	 * Processes a single row
+	 * Adds the result of a single row, checking for duplicates if needed
 	 * 
 	 * @param i       the index of the row
-	 * @param row     the field values that together from the row
+	 * @param t       the result of the conversion of the row
 	 * @param results the list of current results
 	 */
 	@SuppressWarnings("unchecked")
-	private void executeRow(int i, String[] row, List<T> results) {
-		T t = process(i, row);
+	private void addResult(int i, T t, List<T> results) {
 		ID key = getKeyFromRow(t);
 
 		if (checkForDuplicates) {
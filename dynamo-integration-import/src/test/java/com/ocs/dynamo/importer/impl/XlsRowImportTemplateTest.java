@@ -1,6 +1,8 @@
 package com.ocs.dynamo.importer.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 
+import com.ocs.dynamo.importer.impl.MultiSheetXlsImporter.SheetResult;
 import com.ocs.dynamo.service.MessageService;
 import com.ocs.dynamo.test.BaseMockitoTest;
 import com.ocs.dynamo.test.MockUtil;
@@ -117,6 +120,88 @@ public class XlsRowImportTemplateTest extends BaseMockitoTest {
 
 	}
 
+	@Test
+	public void testParallel() throws IOException {
+		byte[] bytes = readFile("importer_rows.xlsx");
+		List<String> errors = new ArrayList<>();
+
+		XlsRowImportTemplate<String, PersonDTO> template = new XlsRowImportTemplate<>(importer,
+				messageService, bytes, errors, PersonDTO.class, 0, 0, 1, 9, false) {
+
+			@Override
+			protected String extractKey(PersonDTO record) {
+				return record.getName();
+			}
+		};
+		template.setThreads(2);
+		template.setChunkSize(1);
+		List<PersonDTO> result = template.execute();
+		assertEquals(2, result.size());
+
+		assertTrue(errors.isEmpty());
+
+		PersonDTO person = result.get(0);
+		assertEquals("Bas", person.getName());
+		assertEquals(com.ocs.dynamo.importer.impl.PersonDTO.Gender.M, person.getGender());
+		assertEquals(DateUtils.createLocalDate("04042014"), person.getDate());
+		assertEquals(2.4, person.getFactor().doubleValue(), 0.001);
+		assertEquals(Boolean.TRUE, person.getAbool());
+	}
+
+	@Test
+	public void testParallelMissing() throws IOException {
+		byte[] bytes = readFile("importer_rows4.xlsx");
+		List<String> errors = new ArrayList<>();
+
+		XlsRowImportTemplate<String, PersonDTO> template = new XlsRowImportTemplate<>(importer,
+				messageService, bytes, errors, PersonDTO.class, 0, 0, 1, 8, true) {
+
+			@Override
+			protected String extractKey(PersonDTO record) {
+				return record.getName();
+			}
+		};
+		template.setThreads(2);
+		template.setChunkSize(1);
+		List<PersonDTO> result = template.execute();
+		assertEquals(1, result.size());
+
+		assertEquals(1, errors.size());
+		assertTrue(errors.get(0).contains("Required value for field 'number' is missing"));
+	}
+
+	@Test
+	public void testMultiSheet() throws IOException {
+		byte[] bytes = readFile("importer_rows.xlsx");
+
+		MultiSheetXlsImporter<PersonDTO> multiSheetImporter = new MultiSheetXlsImporter<>(importer);
+		multiSheetImporter.setThreads(2);
+		// sheet 0 is converted twice at the same time, from values that were read
+		// from the same workbook
+		List<SheetResult<PersonDTO>> results = multiSheetImporter.execute(bytes, List.of(0, 0, 5),
+				(sheetIndex, errors) -> new XlsRowImportTemplate<String, PersonDTO>(importer, messageService, bytes,
+						errors, PersonDTO.class, sheetIndex, 0, 1, 9, true) {
+
+					@Override
+					protected String extractKey(PersonDTO record) {
+						return record.getName();
+					}
+				});
+
+		assertEquals(3, results.size());
+		for (int i = 0; i < 2; i++) {
+			// duplicates are only checked within a sheet
+			assertEquals(0, results.get(i).sheetIndex());
+			assertEquals(2, results.get(i).results().size());
+			assertFalse(results.get(i).hasErrors());
+		}
+
+		// sheet does not exist
+		assertNull(results.get(2).sheetName());
+		assertTrue(results.get(2).results().isEmpty());
+		assertTrue(results.get(2).hasErrors());
+	}
+
 	private byte[] readFile(String fileName) throws IOException {
 		return FileUtils.readFileToByteArray(new File("src/test/resources/" + fileName));
 	}
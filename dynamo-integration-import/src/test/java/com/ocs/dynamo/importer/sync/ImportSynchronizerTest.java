@@ -0,0 +1,203 @@
+package com.ocs.dynamo.importer.sync;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.ocs.dynamo.dao.BaseDao;
+import com.ocs.dynamo.domain.AbstractEntity;
+import com.ocs.dynamo.exception.OCSRuntimeException;
+import com.ocs.dynamo.filter.Filter;
+import com.ocs.dynamo.filter.In;
+
+import lombok.Getter;
+import lombok.Setter;
+
+public class ImportSynchronizerTest {
+
+	@Getter
+	@Setter
+	public static class Person extends AbstractEntity<Integer> {
+
+		private static final long serialVersionUID = 1L;
+
+		private Integer id;
+
+		private String code;
+
+		private String name;
+	}
+
+	record PersonRow(String code, String name) {
+	}
+
+	private final ImportMapper<PersonRow, Person> mapper = new ImportMapper<>() {
+
+		@Override
+		public Person create(PersonRow dto) {
+			Person person = new Person();
+			person.setCode(dto.code());
+			person.setName(dto.name());
+			return person;
+		}
+
+		@Override
+		public boolean merge(PersonRow dto, Person entity) {
+			if (Objects.equals(dto.name(), entity.getName())) {
+				return false;
+			}
+			entity.setName(dto.name());
+			return true;
+		}
+	};
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testSynchronize() {
+		Person bob = new Person();
+		bob.setId(1);
+		bob.setCode("B");
+		bob.setName("Bob");
+
+		Person kevin = new Person();
+		kevin.setId(2);
+		kevin.setCode("K");
+		kevin.setName("Kevin");
+
+		BaseDao<Integer, Person> dao = mock(BaseDao.class);
+		when(dao.getEntityClass()).thenReturn(Person.class);
+		when(dao.find(any(Filter.class))).thenReturn(List.of(bob, kevin));
+
+		ImportSynchronizer<PersonRow, String, Integer, Person> synchronizer = new ImportSynchronizer<>(dao, "code",
+				PersonRow::code, mapper);
+
+		ImportSyncResult result = synchronizer.synchronize(List.of(new PersonRow("B", "Bob"),
+				new PersonRow("K", "Kev"), new PersonRow("H", "Harry"), new PersonRow(null, "Nobody")));
+
+		assertEquals(1, result.getInserted());
+		assertEquals(1, result.getUpdated());
+		assertEquals(1, result.getUnchanged());
+		assertEquals(1, result.getFailed());
+		assertEquals(3, result.getFailures().get(0).index());
+
+		// one query for the whole chunk
+		ArgumentCaptor<In> filter = ArgumentCaptor.forClass(In.class);
+		verify(dao).find(filter.capture());
+		assertEquals(List.of("B", "K", "H"), List.copyOf(filter.getValue().getValues()));
+
+		ArgumentCaptor<List<Person>> saved = ArgumentCaptor.forClass(List.class);
+		verify(dao).save(saved.capture());
+		assertEquals(2, saved.getValue().size());
+		assertEquals("Kev", saved.getValue().get(0).getName());
+		assertEquals("Harry", saved.getValue().get(1).getName());
+		verify(dao).flushAndClear();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testChunks() {
+		BaseDao<Integer, Person> dao = mock(BaseDao.class);
+		when(dao.getEntityClass()).thenReturn(Person.class);
+		when(dao.find(any(Filter.class))).thenReturn(List.of());
+
+		ImportSynchronizer<PersonRow, String, Integer, Person> synchronizer = new ImportSynchronizer<>(dao, "code",
+				PersonRow::code, mapper);
+		synchronizer.setChunkSize(2);
+
+		ImportSyncResult result = synchronizer.synchronize(
+				List.of(new PersonRow("A", "A"), new PersonRow("B", "B"), new PersonRow("C", "C")));
+		assertEquals(3, result.getInserted());
+		verify(dao, times(2)).find(any(Filter.class));
+		verify(dao, times(2)).save(any(List.class));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testDuplicateKeys() {
+		BaseDao<Integer, Person> dao = mock(BaseDao.class);
+		when(dao.getEntityClass()).thenReturn(Person.class);
+		when(dao.find(any(Filter.class))).thenReturn(List.of());
+
+		ImportSynchronizer<PersonRow, String, Integer, Person> synchronizer = new ImportSynchronizer<>(dao, "code",
+				PersonRow::code, mapper);
+		synchronizer.setChunkSize(2);
+
+		// duplicates within a chunk and across chunks
+		ImportSyncResult result = synchronizer.synchronize(List.of(new PersonRow("A", "A"),
+				new PersonRow("A", "A2"), new PersonRow("B", "B"), new PersonRow("A", "A3")));
+		assertEquals(2, result.getInserted());
+		assertEquals(0, result.getUpdated());
+		assertEquals(2, result.getFailed());
+		assertEquals(1, result.getFailures().get(0).index());
+		assertEquals(3, result.getFailures().get(1).index());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testMergeFailure() {
+		Person bob = new Person();
+		bob.setId(1);
+		bob.setCode("B");
+		bob.setName("Bob");
+
+		BaseDao<Integer, Person> dao = mock(BaseDao.class);
+		when(dao.getEntityClass()).thenReturn(Person.class);
+		when(dao.find(any(Filter.class))).thenReturn(List.of(bob));
+
+		// changes the entity before failing
+		ImportMapper<PersonRow, Person> failingMapper = new ImportMapper<>() {
+
+			@Override
+			public Person create(PersonRow dto) {
+				return mapper.create(dto);
+			}
+
+			@Override
+			public boolean merge(PersonRow dto, Person entity) {
+				entity.setName(dto.name());
+				throw new IllegalArgumentException("invalid name");
+			}
+		};
+
+		ImportSynchronizer<PersonRow, String, Integer, Person> synchronizer = new ImportSynchronizer<>(dao, "code",
+				PersonRow::code, failingMapper);
+
+		ImportSyncResult result = synchronizer
+				.synchronize(List.of(new PersonRow("B", "Bobby"), new PersonRow("H", "Harry")));
+		assertEquals(1, result.getInserted());
+		assertEquals(0, result.getUpdated());
+		assertEquals(1, result.getFailed());
+		assertEquals("invalid name", result.getFailures().get(0).message());
+
+		verify(dao).detach(bob);
+		ArgumentCaptor<List<Person>> saved = ArgumentCaptor.forClass(List.class);
+		verify(dao).save(saved.capture());
+		assertEquals(List.of("Harry"), saved.getValue().stream().map(Person::getName).toList());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testSaveFailure() {
+		BaseDao<Integer, Person> dao = mock(BaseDao.class);
+		when(dao.getEntityClass()).thenReturn(Person.class);
+		when(dao.find(any(Filter.class))).thenReturn(List.of());
+		doThrow(new IllegalStateException("constraint violated")).when(dao).flushAndClear();
+
+		ImportSynchronizer<PersonRow, String, Integer, Person> synchronizer = new ImportSynchronizer<>(dao, "code",
+				PersonRow::code, mapper);
+
+		assertThrows(OCSRuntimeException.class,
+				() -> synchronizer.synchronize(List.of(new PersonRow("A", "A"), new PersonRow("B", "B"))));
+	}
+}
@@ -1,6 +1,7 @@
 package com.ocs.dynamo.importer.template;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -120,4 +121,50 @@ public class TextImportTemplateTest extends BaseMockitoTest {
         assertEquals(1, errors.size());
     }
 
+    @Test
+    public void testParallel() {
+        List<String[]> lines = new ArrayList<>();
+        lines.add(new String[] { "name", "number" });
+        for (int i = 1; i <= 100; i++) {
+            // every tenth value cannot be converted, the last rows are duplicates
+            String first = i % 10 == 0 ? "a" : Integer.toString(Math.min(i, 95));
+            lines.add(new String[] { first, "Name " + i });
+        }
+
+        List<String> errors = new ArrayList<>();
+
+        TextImportTemplate<Integer, TestDTO> template = new TextImportTemplate<Integer, TestDTO>(messageService, lines, errors, true) {
+
+            @Override
+            protected TestDTO process(int rowNum, String[] row) {
+                return importer.processRow(rowNum, row, TestDTO.class);
+            }
+
+            @Override
+            protected boolean isAppropriateRow(String[] line) {
+                return true;
+            }
+
+            @Override
+            protected Integer getKeyFromRow(TestDTO t) {
+                return t.getFirst();
+            }
+        };
+        template.setThreads(4);
+        template.setChunkSize(7);
+
+        List<TestDTO> result = template.execute();
+
+        // 10 conversion errors and 4 duplicates (96, 97, 98 and 99)
+        assertEquals(86, result.size());
+        assertEquals(14, errors.size());
+
+        // results and errors in original order
+        for (int i = 1; i < result.size(); i++) {
+            assertTrue(result.get(i - 1).getFirst() < result.get(i).getFirst());
+        }
+        assertTrue(errors.get(0).startsWith("Row 11:"));
+        assertTrue(errors.get(13).startsWith("Row 101:"));
+    }
+
 }
@@ -30,6 +30,7 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.DefaultTransactionDefinition;
 
 import com.ocs.dynamo.constants.DynamoConstants;
+import com.ocs.dynamo.util.SystemPropertyUtils;
 
 /**
  * Base class for integration tests using Spring Boot
@@ -52,6 +53,7 @@ public abstract class BaseIntegrationTest {
 	public static void beforeClass() {
 		// make sure the test service locator is loaded
 		System.setProperty(DynamoConstants.SP_SERVICE_LOCATOR_CLASS_NAME, "com.ocs.dynamo.ui.SpringTestServiceLocator");
+		SystemPropertyUtils.reload();
 	}
 
 	public EntityManager getEntityManager() {
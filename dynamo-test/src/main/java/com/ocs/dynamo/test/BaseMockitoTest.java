@@ -20,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import com.ocs.dynamo.constants.DynamoConstants;
+import com.ocs.dynamo.util.SystemPropertyUtils;
 
 /**
  * Base class for testing Spring beans. Automatically injects all dependencies
@@ -33,6 +34,7 @@ public abstract class BaseMockitoTest {
     @BeforeAll
     public static void beforeClass() {
         System.setProperty(DynamoConstants.SP_SERVICE_LOCATOR_CLASS_NAME, "com.ocs.dynamo.ui.SpringTestServiceLocator");
+        SystemPropertyUtils.reload();
     }
     
     /**